@@ -75,6 +75,7 @@ import io.lettuce.core.vector.VectorMetadata;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -295,6 +296,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
         return dispatch(commandBuilder.bitfield(key, bitFieldArgs));
     }
 
+    @Override
+    public RedisFuture<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return dispatch(commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public RedisFuture<Long> bitopAnd(K destination, K... keys) {
         return dispatch(commandBuilder.bitopAnd(destination, keys));
@@ -2880,6 +2886,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
         return dispatch(commandBuilder.smismember(key, members));
     }
 
+    @Override
+    public RedisFuture<BitSet> smismemberBitSet(K key, V... members) {
+        return dispatch(commandBuilder.smismemberBitSet(key, members));
+    }
+
     @Override
     public RedisFuture<Boolean> smove(K source, K destination, V member) {
         return dispatch(commandBuilder.smove(source, destination, member));
@@ -3470,6 +3481,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
         return dispatch(commandBuilder.zmscore(key, members));
     }
 
+    @Override
+    public RedisFuture<double[]> zmscoreArray(K key, V... members) {
+        return dispatch(commandBuilder.zmscoreArray(key, members));
+    }
+
     @Override
     public RedisFuture<KeyValue<K, ScoredValue<V>>> zmpop(ZPopArgs args, K... keys) {
         return dispatch(commandBuilder.zmpop(args, keys));
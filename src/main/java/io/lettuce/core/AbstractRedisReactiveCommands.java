@@ -82,6 +82,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -314,6 +315,11 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return createDissolvingFlux(() -> commandBuilder.bitfieldValue(key, args));
     }
 
+    @Override
+    public Mono<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return createMono(() -> commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public Mono<Long> bitopAnd(K destination, K... keys) {
         return createMono(() -> commandBuilder.bitopAnd(destination, keys));
@@ -2944,6 +2950,11 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return createDissolvingFlux(() -> commandBuilder.smismember(key, members));
     }
 
+    @Override
+    public Mono<BitSet> smismemberBitSet(K key, V... members) {
+        return createMono(() -> commandBuilder.smismemberBitSet(key, members));
+    }
+
     @Override
     public Mono<Boolean> smove(K source, K destination, V member) {
         return createMono(() -> commandBuilder.smove(source, destination, member));
@@ -3531,6 +3542,11 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return createMono(() -> commandBuilder.zmscore(key, members));
     }
 
+    @Override
+    public Mono<double[]> zmscoreArray(K key, V... members) {
+        return createMono(() -> commandBuilder.zmscoreArray(key, members));
+    }
+
     @Override
     public Mono<KeyValue<K, ScoredValue<V>>> zmpop(ZPopArgs args, K... keys) {
         return createMono(() -> commandBuilder.zmpop(args, keys));
@@ -0,0 +1,176 @@
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for automatic write coalescing (auto-batching). With auto-batching enabled, commands written from application threads
+ * are not written and flushed one-by-one. Instead, they are appended to a lock-free queue that is drained by a single task on
+ * the channel's event loop which writes all pending commands and flushes the channel once per batch.
+ * <p>
+ * Auto-batching applies only to connections using {@link io.lettuce.core.api.StatefulConnection#setAutoFlushCommands(boolean)
+ * auto-flush} and reduces the number of event loop tasks and system calls when many threads share a single connection. A
+ * {@link #getLinger() linger} delays the drain task to let more commands accumulate at the cost of added latency.
+ *
+ * @since 7.6
+ */
+@SuppressWarnings("serial")
+public class AutoBatchOptions implements Serializable {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 512;
+
+    public static final Duration DEFAULT_LINGER = Duration.ZERO;
+
+    private final boolean enabled;
+
+    private final int maxBatchSize;
+
+    private final Duration linger;
+
+    private AutoBatchOptions(Builder builder) {
+        this.enabled = builder.enabled;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.linger = builder.linger;
+    }
+
+    /**
+     * Returns a new {@link AutoBatchOptions.Builder} to construct {@link AutoBatchOptions}.
+     *
+     * @return a new {@link AutoBatchOptions.Builder} to construct {@link AutoBatchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link AutoBatchOptions} with default settings.
+     *
+     * @return a new instance of {@link AutoBatchOptions} with default settings.
+     */
+    public static AutoBatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link AutoBatchOptions} with auto-batching enabled using default batch settings.
+     *
+     * @return a new instance of {@link AutoBatchOptions} with auto-batching enabled.
+     */
+    public static AutoBatchOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link AutoBatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        private Duration linger = DEFAULT_LINGER;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable auto-batching. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enabled(true);
+        }
+
+        /**
+         * Configure whether to enable auto-batching. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to enable auto-batching.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of commands written before the channel is flushed. Defaults to
+         * {@link #DEFAULT_MAX_BATCH_SIZE}.
+         *
+         * @param maxBatchSize the maximum batch size, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+
+            LettuceAssert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the duration to wait for further commands before draining the batch. The linger is applied with microsecond
+         * precision. Defaults to {@link #DEFAULT_LINGER} to drain as soon as the event loop picks up the batch.
+         *
+         * @param linger the linger duration, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder linger(Duration linger) {
+
+            LettuceAssert.notNull(linger, "Linger must not be null");
+            LettuceAssert.isTrue(!linger.isNegative(), "Linger must not be negative");
+
+            this.linger = linger;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link AutoBatchOptions}.
+         *
+         * @return new instance of {@link AutoBatchOptions}
+         */
+        public AutoBatchOptions build() {
+            return new AutoBatchOptions(this);
+        }
+
+    }
+
+    /**
+     * Returns a builder to create new {@link AutoBatchOptions} whose settings are replicated from the current
+     * {@link AutoBatchOptions}.
+     *
+     * @return a {@link AutoBatchOptions.Builder} to create new {@link AutoBatchOptions} whose settings are replicated from the
+     *         current {@link AutoBatchOptions}.
+     */
+    public AutoBatchOptions.Builder mutate() {
+        return builder().enabled(isEnabled()).maxBatchSize(getMaxBatchSize()).linger(getLinger());
+    }
+
+    /**
+     * @return {@code true} if auto-batching is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the maximum number of commands written before the channel is flushed.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the duration to wait for further commands before draining the batch.
+     */
+    public Duration getLinger() {
+        return linger;
+    }
+
+}
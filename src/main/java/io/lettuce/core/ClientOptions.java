@@ -49,6 +49,8 @@ import reactor.core.publisher.Mono;
 @SuppressWarnings("serial")
 public class ClientOptions implements Serializable {
 
+    public static final AutoBatchOptions DEFAULT_AUTO_BATCH_OPTIONS = AutoBatchOptions.create();
+
     public static final boolean DEFAULT_AUTO_RECONNECT = true;
 
     public static final MaintNotificationsConfig DEFAULT_MAINT_NOTIFICATIONS_CONFIG = MaintNotificationsConfig.enabled();
@@ -62,6 +64,8 @@ public class ClientOptions implements Serializable {
 
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
 
+    public static final boolean DEFAULT_ENCODE_BUFFER_AGGREGATION = false;
+
     public static final ReauthenticateBehavior DEFAULT_REAUTHENTICATE_BEHAVIOUR = ReauthenticateBehavior.DEFAULT;
 
     public static final boolean DEFAULT_PUBLISH_ON_SCHEDULER = false;
@@ -96,6 +100,8 @@ public class ClientOptions implements Serializable {
 
     public static final boolean DEFAULT_USE_HASH_INDEX_QUEUE = true;
 
+    private final AutoBatchOptions autoBatchOptions;
+
     private final boolean autoReconnect;
 
     private final MaintNotificationsConfig maintNotificationsConfig;
@@ -106,6 +112,8 @@ public class ClientOptions implements Serializable {
 
     private final DisconnectedBehavior disconnectedBehavior;
 
+    private final boolean encodeBufferAggregation;
+
     private final ReauthenticateBehavior reauthenticateBehavior;
 
     private final boolean publishOnScheduler;
@@ -133,11 +141,13 @@ public class ClientOptions implements Serializable {
     private final boolean useHashIndexedQueue;
 
     protected ClientOptions(Builder builder) {
+        this.autoBatchOptions = builder.autoBatchOptions;
         this.autoReconnect = builder.autoReconnect;
         this.maintNotificationsConfig = builder.maintNotificationsConfig;
         this.replayFilter = builder.replayFilter;
         this.decodeBufferPolicy = builder.decodeBufferPolicy;
         this.disconnectedBehavior = builder.disconnectedBehavior;
+        this.encodeBufferAggregation = builder.encodeBufferAggregation;
         this.reauthenticateBehavior = builder.reauthenticateBehavior;
         this.publishOnScheduler = builder.publishOnScheduler;
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -154,11 +164,13 @@ public class ClientOptions implements Serializable {
     }
 
     protected ClientOptions(ClientOptions original) {
+        this.autoBatchOptions = original.getAutoBatchOptions();
         this.autoReconnect = original.isAutoReconnect();
         this.maintNotificationsConfig = original.getMaintNotificationsConfig();
         this.replayFilter = original.getReplayFilter();
         this.decodeBufferPolicy = original.getDecodeBufferPolicy();
         this.disconnectedBehavior = original.getDisconnectedBehavior();
+        this.encodeBufferAggregation = original.isEncodeBufferAggregation();
         this.reauthenticateBehavior = original.getReauthenticateBehaviour();
         this.publishOnScheduler = original.isPublishOnScheduler();
         this.pingBeforeActivateConnection = original.isPingBeforeActivateConnection();
@@ -207,6 +219,8 @@ public class ClientOptions implements Serializable {
      */
     public static class Builder {
 
+        private AutoBatchOptions autoBatchOptions = DEFAULT_AUTO_BATCH_OPTIONS;
+
         private boolean autoReconnect = DEFAULT_AUTO_RECONNECT;
 
         private MaintNotificationsConfig maintNotificationsConfig = MAINT_NOTIFICATIONS_CONFIG_INITIAL;
@@ -217,6 +231,8 @@ public class ClientOptions implements Serializable {
 
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
 
+        private boolean encodeBufferAggregation = DEFAULT_ENCODE_BUFFER_AGGREGATION;
+
         private boolean pingBeforeActivateConnection = DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION;
 
         private ProtocolVersion protocolVersion;
@@ -246,6 +262,21 @@ public class ClientOptions implements Serializable {
         protected Builder() {
         }
 
+        /**
+         * Sets the {@link AutoBatchOptions} to coalesce writes of concurrent producers into batches that are flushed once. See
+         * {@link #DEFAULT_AUTO_BATCH_OPTIONS}.
+         *
+         * @param autoBatchOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.6
+         */
+        public Builder autoBatchOptions(AutoBatchOptions autoBatchOptions) {
+
+            LettuceAssert.notNull(autoBatchOptions, "AutoBatchOptions must not be null");
+            this.autoBatchOptions = autoBatchOptions;
+            return this;
+        }
+
         /**
          * Enables or disables auto reconnection on connection loss. Defaults to {@code true}. See
          * {@link #DEFAULT_AUTO_RECONNECT}.
@@ -317,6 +348,20 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Aggregate consecutively written commands into a single encode buffer until the channel is flushed instead of encoding
+         * each write into its own buffer. Defaults to {@code false}. See {@link #DEFAULT_ENCODE_BUFFER_AGGREGATION}.
+         *
+         * @param encodeBufferAggregation true/false
+         * @return {@code this}
+         * @see io.lettuce.core.protocol.AggregatingCommandEncoder
+         * @since 7.6
+         */
+        public Builder encodeBufferAggregation(boolean encodeBufferAggregation) {
+            this.encodeBufferAggregation = encodeBufferAggregation;
+            return this;
+        }
+
         /**
          * Configure the {@link ReauthenticateBehavior} of the Lettuce driver. Defaults to
          * {@link ReauthenticateBehavior#DEFAULT}.
@@ -498,7 +543,9 @@ public class ClientOptions implements Serializable {
         }
 
         /**
-         * Use hash indexed queue, which provides O(1) remove(Object) thus won't cause blocking issues.
+         * Use an indexed queue for the command stack, which provides O(1) remove(Object) thus won't cause blocking issues.
+         * Commands store their position in the queue so that indexing does not allocate. Disabling this option uses an
+         * {@link java.util.ArrayDeque} that requires a linear search to remove commands. Defaults to {@code true}.
          *
          * @param useHashIndexedQueue true/false
          * @return {@code this}
@@ -533,9 +580,10 @@ public class ClientOptions implements Serializable {
     public ClientOptions.Builder mutate() {
         Builder builder = new Builder();
 
-        builder.autoReconnect(isAutoReconnect()).maintNotificationsConfig(getMaintNotificationsConfig())
-                .replayFilter(getReplayFilter()).decodeBufferPolicy(getDecodeBufferPolicy())
-                .disconnectedBehavior(getDisconnectedBehavior()).reauthenticateBehavior(getReauthenticateBehaviour())
+        builder.autoBatchOptions(getAutoBatchOptions()).autoReconnect(isAutoReconnect())
+                .maintNotificationsConfig(getMaintNotificationsConfig()).replayFilter(getReplayFilter())
+                .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
+                .encodeBufferAggregation(isEncodeBufferAggregation()).reauthenticateBehavior(getReauthenticateBehaviour())
                 .readOnlyCommands(getReadOnlyCommands()).publishOnScheduler(isPublishOnScheduler())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
                 .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).jsonParser(getJsonParser())
@@ -545,6 +593,16 @@ public class ClientOptions implements Serializable {
         return builder;
     }
 
+    /**
+     * Returns the {@link AutoBatchOptions}.
+     *
+     * @return the {@link AutoBatchOptions}.
+     * @since 7.6
+     */
+    public AutoBatchOptions getAutoBatchOptions() {
+        return autoBatchOptions;
+    }
+
     /**
      * Controls auto-reconnect behavior on connections. If auto-reconnect is {@code true} (default), it is enabled. As soon as a
      * connection gets closed/reset without the intention to close it, the client will try to reconnect and re-issue any queued
@@ -600,6 +658,17 @@ public class ClientOptions implements Serializable {
         return disconnectedBehavior;
     }
 
+    /**
+     * Aggregation of consecutively written commands into a single encode buffer until the channel is flushed. Defaults to
+     * {@code false}. See {@link #DEFAULT_ENCODE_BUFFER_AGGREGATION}.
+     *
+     * @return {@code true} if encode buffers are aggregated.
+     * @since 7.6
+     */
+    public boolean isEncodeBufferAggregation() {
+        return encodeBufferAggregation;
+    }
+
     /**
      * Behavior for re-authentication when the {@link RedisCredentialsProvider} emits new credentials. Defaults to
      * {@link ReauthenticateBehavior#DEFAULT}.
@@ -782,7 +851,7 @@ public class ClientOptions implements Serializable {
     }
 
     /**
-     * Whether we should use hash indexed queue, which provides O(1) remove(Object)
+     * Whether we should use an indexed queue for the command stack, which provides O(1) remove(Object)
      *
      * @return if hash indexed queue should be used
      */
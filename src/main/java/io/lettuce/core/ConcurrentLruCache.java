@@ -19,10 +19,9 @@
  */
 package io.lettuce.core;
 
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import io.lettuce.core.internal.LettuceAssert;
@@ -31,9 +30,11 @@ import io.lettuce.core.internal.LettuceAssert;
  * Simple LRU (Least Recently Used) cache, bounded by a specified cache limit.
  *
  * <p>
- * This implementation is backed by a {@code ConcurrentHashMap} for storing the cached values and a
- * {@code ConcurrentLinkedDeque} for ordering the keys and choosing the least recently used key when the cache is at full
- * capacity.
+ * This implementation approximates LRU using the CLOCK (second chance) algorithm. Cached values are stored in a
+ * {@code ConcurrentHashMap}, and a cache hit only sets a reference bit on the entry without taking a lock or reordering a
+ * queue. Entries are arranged in a ring that is swept by a clock hand when the cache is at full capacity: referenced entries
+ * get their bit cleared and a second chance, the first unreferenced entry is evicted. Cache misses and removals are serialized
+ * using a lock.
  *
  * @param <K> the type of the key used for cache retrieval
  * @param <V> the type of the cached values
@@ -45,11 +46,15 @@ class ConcurrentLruCache<K, V> {
 
     private final Function<K, V> generator;
 
-    private final ConcurrentHashMap<K, V> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Node<K, V>> cache = new ConcurrentHashMap<>();
 
-    private final ConcurrentLinkedDeque<K> queue = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock
+    private final Node<K, V>[] ring;
+
+    // guarded by lock
+    private int hand;
 
     private volatile int size;
 
@@ -59,6 +64,7 @@ class ConcurrentLruCache<K, V> {
      * @param sizeLimit the maximum number of entries in the cache (0 indicates no caching, always generating a new value)
      * @param generator a function to generate a new value for a given key
      */
+    @SuppressWarnings("unchecked")
     public ConcurrentLruCache(int sizeLimit, Function<K, V> generator) {
 
         LettuceAssert.isTrue(sizeLimit >= 0, "Cache size limit must not be negative");
@@ -66,6 +72,7 @@ class ConcurrentLruCache<K, V> {
 
         this.sizeLimit = sizeLimit;
         this.generator = generator;
+        this.ring = new Node[sizeLimit];
     }
 
     /**
@@ -80,46 +87,60 @@ class ConcurrentLruCache<K, V> {
             return this.generator.apply(key);
         }
 
-        V cached = this.cache.get(key);
+        Node<K, V> cached = this.cache.get(key);
         if (cached != null) {
-            if (this.size < this.sizeLimit) {
-                return cached;
-            }
-            this.lock.readLock().lock();
-            try {
-                if (this.queue.removeLastOccurrence(key)) {
-                    this.queue.offer(key);
-                }
-                return cached;
-            } finally {
-                this.lock.readLock().unlock();
-            }
+            cached.touch();
+            return cached.value;
         }
 
-        this.lock.writeLock().lock();
+        this.lock.lock();
         try {
             // Retrying in case of concurrent reads on the same key
             cached = this.cache.get(key);
             if (cached != null) {
-                if (this.queue.removeLastOccurrence(key)) {
-                    this.queue.offer(key);
-                }
-                return cached;
+                cached.touch();
+                return cached.value;
             }
+
             // Generate value first, to prevent size inconsistency
             V value = this.generator.apply(key);
+            Node<K, V> node = new Node<>(key, value);
+
             if (this.size == this.sizeLimit) {
-                K leastUsed = this.queue.poll();
-                if (leastUsed != null) {
-                    this.cache.remove(leastUsed);
-                }
+                node.index = evict();
+            } else {
+                node.index = this.size;
             }
-            this.queue.offer(key);
-            this.cache.put(key, value);
+
+            this.ring[node.index] = node;
+            this.cache.put(key, node);
             this.size = this.cache.size();
             return value;
         } finally {
-            this.lock.writeLock().unlock();
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Advance the clock hand until an entry without reference bit is found and evict it.
+     *
+     * @return the ring index of the evicted entry.
+     */
+    private int evict() {
+
+        while (true) {
+
+            Node<K, V> candidate = this.ring[this.hand];
+            int index = this.hand;
+            this.hand = (this.hand + 1) % this.size;
+
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                continue;
+            }
+
+            this.cache.remove(candidate.key);
+            return index;
         }
     }
 
@@ -140,14 +161,29 @@ class ConcurrentLruCache<K, V> {
      * @return {@code true} if the key was present before, {@code false} if there was no matching key
      */
     public boolean remove(K key) {
-        this.lock.writeLock().lock();
+        this.lock.lock();
         try {
-            boolean wasPresent = (this.cache.remove(key) != null);
-            this.queue.remove(key);
+            Node<K, V> node = this.cache.remove(key);
+            if (node == null) {
+                return false;
+            }
+
+            // keep the ring dense by moving the last entry into the free slot
+            int last = this.size - 1;
+            if (node.index != last) {
+                Node<K, V> moved = this.ring[last];
+                moved.index = node.index;
+                this.ring[node.index] = moved;
+            }
+            this.ring[last] = null;
+
             this.size = this.cache.size();
-            return wasPresent;
+            if (this.hand >= this.size) {
+                this.hand = 0;
+            }
+            return true;
         } finally {
-            this.lock.writeLock().unlock();
+            this.lock.unlock();
         }
     }
 
@@ -155,13 +191,14 @@ class ConcurrentLruCache<K, V> {
      * Immediately remove all entries from this cache.
      */
     public void clear() {
-        this.lock.writeLock().lock();
+        this.lock.lock();
         try {
             this.cache.clear();
-            this.queue.clear();
+            Arrays.fill(this.ring, null);
+            this.hand = 0;
             this.size = 0;
         } finally {
-            this.lock.writeLock().unlock();
+            this.lock.unlock();
         }
     }
 
@@ -183,4 +220,30 @@ class ConcurrentLruCache<K, V> {
         return this.sizeLimit;
     }
 
+    static class Node<K, V> {
+
+        final K key;
+
+        final V value;
+
+        volatile boolean referenced;
+
+        // guarded by lock
+        int index;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        void touch() {
+
+            // avoid cache line invalidation on hot entries that are already marked
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+
+    }
+
 }
@@ -30,6 +30,7 @@ import io.lettuce.core.protocol.MaintenanceAwareComponent;
 import io.lettuce.core.protocol.MaintenanceAwareConnectionWatchdog;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AggregatingCommandEncoder;
 import io.lettuce.core.protocol.CommandEncoder;
 import io.lettuce.core.protocol.CommandHandler;
 import io.lettuce.core.protocol.ConnectionInitializer;
@@ -126,7 +127,7 @@ public class ConnectionBuilder {
         connection.setOptions(clientOptions);
 
         handlers.add(new ChannelGroupListener(channelGroup, clientResources.eventBus()));
-        handlers.add(new CommandEncoder());
+        handlers.add(clientOptions.isEncodeBufferAggregation() ? new AggregatingCommandEncoder() : new CommandEncoder());
         handlers.add(getHandshakeHandler());
         handlers.add(commandHandlerSupplier.get());
 
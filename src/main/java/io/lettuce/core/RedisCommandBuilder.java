@@ -34,11 +34,13 @@ import io.lettuce.core.protocol.BaseRedisCommandBuilder;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandTemplate;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +68,13 @@ import static io.lettuce.core.protocol.CommandType.SAVE;
 @SuppressWarnings({ "unchecked", "varargs" })
 class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
 
+    // built on first use, templates are immutable so racy initialization only builds duplicates
+    private CommandTemplate<K, V> getTemplate;
+
+    private CommandTemplate<K, V> hincrbyTemplate;
+
+    private CommandTemplate<K, V> setTemplate;
+
     RedisCommandBuilder(RedisCodec<K, V> codec) {
         super(codec);
     }
@@ -276,6 +285,18 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(BITFIELD, (CommandOutput) new ArrayOutput<>(codec), args);
     }
 
+    Command<K, V, long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        notNullKey(key);
+        LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key);
+
+        bitFieldArgs.build(args);
+
+        return createCommand(BITFIELD, new LongArrayOutput<>(codec), args);
+    }
+
     Command<K, V, List<Value<Long>>> bitfieldValue(K key, BitFieldArgs bitFieldArgs) {
         notNullKey(key);
         LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
@@ -1487,7 +1508,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     Command<K, V, V> get(K key) {
         notNullKey(key);
 
-        return createCommand(GET, new ValueOutput<>(codec), key);
+        CommandTemplate<K, V> template = getTemplate;
+        if (template == null) {
+            getTemplate = template = CommandTemplate.builder(codec, GET).key().build();
+        }
+
+        return template.create(new ValueOutput<>(codec), key);
     }
 
     Command<K, V, Long> getbit(K key, long offset) {
@@ -1588,8 +1614,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         notNullKey(key);
         LettuceAssert.notNull(field, "Field " + MUST_NOT_BE_NULL);
 
-        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).addKey(field).add(amount);
-        return createCommand(HINCRBY, new IntegerOutput<>(codec), args);
+        CommandTemplate<K, V> template = hincrbyTemplate;
+        if (template == null) {
+            hincrbyTemplate = template = CommandTemplate.builder(codec, HINCRBY).key().key().integer().build();
+        }
+
+        return template.create(new IntegerOutput<>(codec), key, field, amount);
     }
 
     Command<K, V, Double> hincrbyfloat(K key, K field, double amount) {
@@ -2732,7 +2762,12 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
     Command<K, V, String> set(K key, V value) {
         notNullKey(key);
 
-        return createCommand(SET, new StatusOutput<>(codec), key, value);
+        CommandTemplate<K, V> template = setTemplate;
+        if (template == null) {
+            setTemplate = template = CommandTemplate.builder(codec, SET).key().value().build();
+        }
+
+        return template.create(new StatusOutput<>(codec), key, value);
     }
 
     Command<K, V, String> set(K key, V value, SetArgs setArgs) {
@@ -2900,6 +2935,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(SMISMEMBER, new BooleanListOutput<>(codec), key, members);
     }
 
+    Command<K, V, BitSet> smismemberBitSet(K key, V... members) {
+        notNullKey(key);
+        LettuceAssert.notNull(members, "Members " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(members, "Members " + MUST_NOT_BE_EMPTY);
+
+        return createCommand(SMISMEMBER, new BitSetOutput<>(codec), key, members);
+    }
+
     Command<K, V, Boolean> smove(K source, K destination, V member) {
         LettuceAssert.notNull(source, "Source " + MUST_NOT_BE_NULL);
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
@@ -3933,6 +3976,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZMSCORE, new DoubleListOutput<>(codec), key, members);
     }
 
+    Command<K, V, double[]> zmscoreArray(K key, V... members) {
+        notNullKey(key);
+        notEmpty(members);
+
+        return createCommand(ZMSCORE, new DoubleArrayOutput<>(codec), key, members);
+    }
+
     Command<K, V, KeyValue<K, ScoredValue<V>>> zmpop(ZPopArgs popArgs, K[] keys) {
         notEmpty(keys);
 
@@ -19,6 +19,7 @@
  */
 package io.lettuce.core.api.async;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
@@ -173,6 +174,16 @@ public interface RedisSetAsyncCommands<K, V> {
      */
     RedisFuture<List<Boolean>> smismember(K key, V... members);
 
+    /**
+     * Returns whether each member is a member of the set stored at key as {@link BitSet}.
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return BitSet bit set with the bit at the index of each given member set if the member is a member of the set.
+     * @since 7.6
+     */
+    RedisFuture<BitSet> smismemberBitSet(K key, V... members);
+
     /**
      * Move a member from one set to another.
      *
@@ -19,6 +19,8 @@
  */
 package io.lettuce.core.api.reactive;
 
+import java.util.BitSet;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.ScanArgs;
@@ -180,6 +182,16 @@ public interface RedisSetReactiveCommands<K, V> {
      */
     Flux<Boolean> smismember(K key, V... members);
 
+    /**
+     * Returns whether each member is a member of the set stored at key as {@link BitSet}.
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return BitSet bit set with the bit at the index of each given member set if the member is a member of the set.
+     * @since 7.6
+     */
+    Mono<BitSet> smismemberBitSet(K key, V... members);
+
     /**
      * Move a member from one set to another.
      *
@@ -19,6 +19,7 @@
  */
 package io.lettuce.core.api.sync;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
@@ -172,6 +173,16 @@ public interface RedisSetCommands<K, V> {
      */
     List<Boolean> smismember(K key, V... members);
 
+    /**
+     * Returns whether each member is a member of the set stored at key as {@link BitSet}.
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return BitSet bit set with the bit at the index of each given member set if the member is a member of the set.
+     * @since 7.6
+     */
+    BitSet smismemberBitSet(K key, V... members);
+
     /**
      * Move a member from one set to another.
      *
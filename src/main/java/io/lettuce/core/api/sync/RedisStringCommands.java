@@ -80,6 +80,20 @@ public interface RedisStringCommands<K, V> {
      */
     List<Long> bitfield(K key, BitFieldArgs bitFieldArgs);
 
+    /**
+     * Execute {@code BITFIELD} with its subcommands and return the results as primitive array.
+     * <p>
+     * {@code nil} results are reported as {@code 0} and cannot be told apart from an actual {@code 0}. An {@code INCRBY} that
+     * is not performed due to {@code OVERFLOW FAIL} returns {@code nil}, use {@link #bitfield(Object, BitFieldArgs)} when using
+     * {@code OVERFLOW FAIL}.
+     *
+     * @param key the key.
+     * @param bitFieldArgs the args containing subcommands, must not be {@code null}.
+     * @return long[] array-reply the results from the bitfield commands.
+     * @since 7.6
+     */
+    long[] bitfieldArray(K key, BitFieldArgs bitFieldArgs);
+
     /**
      * Find first bit set or clear in a string.
      *
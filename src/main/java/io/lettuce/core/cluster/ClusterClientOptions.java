@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.function.Predicate;
 
+import io.lettuce.core.AutoBatchOptions;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
@@ -58,6 +59,10 @@ public class ClusterClientOptions extends ClientOptions {
 
     public static final Predicate<RedisClusterNode> DEFAULT_NODE_FILTER = node -> true;
 
+    public static final boolean DEFAULT_CROSS_SLOT_PIPELINING = false;
+
+    public static final int DEFAULT_CROSS_SLOT_BATCH_SIZE = Integer.MAX_VALUE;
+
     private final int maxRedirects;
 
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
@@ -66,6 +71,10 @@ public class ClusterClientOptions extends ClientOptions {
 
     private final Predicate<RedisClusterNode> nodeFilter;
 
+    private final boolean crossSlotPipelining;
+
+    private final int crossSlotBatchSize;
+
     protected ClusterClientOptions(Builder builder) {
 
         super(builder);
@@ -84,6 +93,8 @@ public class ClusterClientOptions extends ClientOptions {
         this.maxRedirects = builder.maxRedirects;
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.nodeFilter = builder.nodeFilter;
+        this.crossSlotPipelining = builder.crossSlotPipelining;
+        this.crossSlotBatchSize = builder.crossSlotBatchSize;
     }
 
     protected ClusterClientOptions(ClusterClientOptions original) {
@@ -94,6 +105,8 @@ public class ClusterClientOptions extends ClientOptions {
         this.topologyRefreshOptions = original.topologyRefreshOptions;
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.nodeFilter = original.nodeFilter;
+        this.crossSlotPipelining = original.crossSlotPipelining;
+        this.crossSlotBatchSize = original.crossSlotBatchSize;
     }
 
     /**
@@ -131,8 +144,10 @@ public class ClusterClientOptions extends ClientOptions {
         }
 
         Builder builder = new Builder();
-        builder.autoReconnect(clientOptions.isAutoReconnect()).decodeBufferPolicy(clientOptions.getDecodeBufferPolicy())
+        builder.autoBatchOptions(clientOptions.getAutoBatchOptions()).autoReconnect(clientOptions.isAutoReconnect())
+                .decodeBufferPolicy(clientOptions.getDecodeBufferPolicy())
                 .disconnectedBehavior(clientOptions.getDisconnectedBehavior())
+                .encodeBufferAggregation(clientOptions.isEncodeBufferAggregation())
                 .reauthenticateBehavior(clientOptions.getReauthenticateBehaviour())
                 .pingBeforeActivateConnection(clientOptions.isPingBeforeActivateConnection())
                 .publishOnScheduler(clientOptions.isPublishOnScheduler())
@@ -169,10 +184,20 @@ public class ClusterClientOptions extends ClientOptions {
 
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
+        private boolean crossSlotPipelining = DEFAULT_CROSS_SLOT_PIPELINING;
+
+        private int crossSlotBatchSize = DEFAULT_CROSS_SLOT_BATCH_SIZE;
+
         protected Builder() {
             readOnlyCommands(DEFAULT_READ_ONLY_COMMANDS);
         }
 
+        @Override
+        public Builder autoBatchOptions(AutoBatchOptions autoBatchOptions) {
+            super.autoBatchOptions(autoBatchOptions);
+            return this;
+        }
+
         @Override
         public Builder autoReconnect(boolean autoReconnect) {
             super.autoReconnect(autoReconnect);
@@ -185,6 +210,12 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder encodeBufferAggregation(boolean encodeBufferAggregation) {
+            super.encodeBufferAggregation(encodeBufferAggregation);
+            return this;
+        }
+
         @Override
         public Builder disconnectedBehavior(DisconnectedBehavior disconnectedBehavior) {
             super.disconnectedBehavior(disconnectedBehavior);
@@ -312,6 +343,39 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Pipeline the per-slot sub-commands of cross-slot multi-key commands ({@code MGET}, {@code MSET}, {@code DEL},
+         * {@code UNLINK}, {@code EXISTS}, {@code TOUCH}) so that all sub-commands targeting the same node are written as a
+         * single batch. Defaults to {@code false}. See {@link ClusterClientOptions#DEFAULT_CROSS_SLOT_PIPELINING}.
+         * <p/>
+         * Redis accepts multi-key commands only for keys within the same slot, so sub-commands are still issued per slot but
+         * written and flushed together per node.
+         *
+         * @param crossSlotPipelining {@code true} to pipeline sub-commands per node.
+         * @return {@code this}
+         * @since 7.6
+         */
+        public Builder crossSlotPipelining(boolean crossSlotPipelining) {
+            this.crossSlotPipelining = crossSlotPipelining;
+            return this;
+        }
+
+        /**
+         * Maximum number of sub-commands written in a single batch when {@link #crossSlotPipelining(boolean) cross-slot
+         * pipelining} is enabled. Larger per-node batches are split. Defaults to {@link Integer#MAX_VALUE}. See
+         * {@link ClusterClientOptions#DEFAULT_CROSS_SLOT_BATCH_SIZE}.
+         *
+         * @param crossSlotBatchSize the maximum batch size, must be greater than zero.
+         * @return {@code this}
+         * @since 7.6
+         */
+        public Builder crossSlotBatchSize(int crossSlotBatchSize) {
+
+            LettuceAssert.isTrue(crossSlotBatchSize > 0, "CrossSlotBatchSize must be greater than zero");
+            this.crossSlotBatchSize = crossSlotBatchSize;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -336,15 +400,17 @@ public class ClusterClientOptions extends ClientOptions {
 
         Builder builder = new Builder();
 
-        builder.autoReconnect(isAutoReconnect()).decodeBufferPolicy(getDecodeBufferPolicy())
-                .disconnectedBehavior(getDisconnectedBehavior()).reauthenticateBehavior(getReauthenticateBehaviour())
+        builder.autoBatchOptions(getAutoBatchOptions()).autoReconnect(isAutoReconnect())
+                .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
+                .encodeBufferAggregation(isEncodeBufferAggregation()).reauthenticateBehavior(getReauthenticateBehaviour())
                 .maxRedirects(getMaxRedirects()).publishOnScheduler(isPublishOnScheduler())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
                 .readOnlyCommands(getReadOnlyCommands()).requestQueueSize(getRequestQueueSize())
                 .scriptCharset(getScriptCharset()).socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
                 .topologyRefreshOptions(getTopologyRefreshOptions())
-                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter());
+                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter())
+                .crossSlotPipelining(isCrossSlotPipelining()).crossSlotBatchSize(getCrossSlotBatchSize());
 
         return builder;
     }
@@ -421,4 +487,25 @@ public class ClusterClientOptions extends ClientOptions {
         return nodeFilter;
     }
 
+    /**
+     * Pipeline the per-slot sub-commands of cross-slot multi-key commands per node. Defaults to {@code false}.
+     *
+     * @return {@code true} if sub-commands targeting the same node are written as a single batch.
+     * @since 7.6
+     */
+    public boolean isCrossSlotPipelining() {
+        return crossSlotPipelining;
+    }
+
+    /**
+     * Maximum number of sub-commands written in a single batch when cross-slot pipelining is enabled. Defaults to
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @return the maximum batch size.
+     * @since 7.6
+     */
+    public int getCrossSlotBatchSize() {
+        return crossSlotBatchSize;
+    }
+
 }
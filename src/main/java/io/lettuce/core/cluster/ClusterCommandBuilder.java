@@ -0,0 +1,81 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.KeyValueListOutput;
+import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.KeyValueStreamingOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.BaseRedisCommandBuilder;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+
+/**
+ * Command builder for multi-key commands that are split by slot and written as a single batch per node.
+ *
+ * @since 7.6
+ */
+class ClusterCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
+
+    ClusterCommandBuilder(RedisCodec<K, V> codec) {
+        super(codec);
+    }
+
+    Command<K, V, Long> del(Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+        return createCommand(DEL, new IntegerOutput<>(codec), args);
+    }
+
+    Command<K, V, Long> exists(Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+
+        return createCommand(EXISTS, new IntegerOutput<>(codec), new CommandArgs<>(codec).addKeys(keys));
+    }
+
+    Command<K, V, Long> touch(Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+        return createCommand(TOUCH, new IntegerOutput<>(codec), args);
+    }
+
+    Command<K, V, Long> unlink(Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+        return createCommand(UNLINK, new IntegerOutput<>(codec), args);
+    }
+
+    Command<K, V, List<KeyValue<K, V>>> mgetKeyValue(Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+        return createCommand(MGET, new KeyValueListOutput<>(codec, keys), args);
+    }
+
+    Command<K, V, Long> mget(KeyValueStreamingChannel<K, V> channel, Iterable<K> keys) {
+        LettuceAssert.notNull(keys, "Keys " + MUST_NOT_BE_NULL);
+        notNull(channel);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKeys(keys);
+        return createCommand(MGET, new KeyValueStreamingOutput<>(codec, channel, keys), args);
+    }
+
+    Command<K, V, String> mset(Map<K, V> map) {
+        LettuceAssert.notNull(map, "Map " + MUST_NOT_BE_NULL);
+        LettuceAssert.isTrue(!map.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).add(map);
+        return createCommand(MSET, new StatusOutput<>(codec), args);
+    }
+
+}
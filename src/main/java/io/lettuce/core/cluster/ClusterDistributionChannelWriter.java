@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -51,6 +53,7 @@ import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandArgsAccessor;
 import io.lettuce.core.protocol.CommandExpiryWriter;
 import io.lettuce.core.protocol.CommandKeyword;
 import io.lettuce.core.protocol.CommandType;
@@ -167,12 +170,11 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         }
 
         ClusterCommand<K, V, T> commandToSend = getCommandToSend(command);
-        CommandArgs<K, V> args = command.getArgs();
 
         // exclude CLIENT commands from cluster routing
-        if (args != null && !CommandType.CLIENT.equals(commandToSend.getType())) {
+        if (!CommandType.CLIENT.equals(commandToSend.getType())) {
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
+            ByteBuffer encodedKey = CommandArgsAccessor.encodeFirstKey(command);
             if (encodedKey != null) {
 
                 int hash = getSlot(encodedKey);
@@ -253,7 +255,19 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         }
     }
 
-    private static <K, V> void writeCommands(Collection<RedisCommand<K, V, ?>> commands, RedisChannelWriter writer) {
+    @SuppressWarnings("unchecked")
+    private static <K, V> void writeCommands(Collection<? extends RedisCommand<K, V, ?>> commands,
+            StatefulRedisConnection<K, V> connection, Throwable throwable) {
+
+        if (throwable != null) {
+            commands.forEach(command -> command.completeExceptionally(throwable));
+            return;
+        }
+
+        writeCommands(commands, ((RedisChannelHandler<K, V>) connection).getChannelWriter());
+    }
+
+    private static <K, V> void writeCommands(Collection<? extends RedisCommand<K, V, ?>> commands, RedisChannelWriter writer) {
 
         try {
             getWriterToUse(writer).write(commands);
@@ -286,7 +300,11 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
         List<ClusterCommand<K, V, ?>> clusterCommands = new ArrayList<>(commands.size());
         List<ClusterCommand<K, V, ?>> defaultCommands = new ArrayList<>(commands.size());
+
+        // commands per node writer, resolved once per SlotIntent
         Map<SlotIntent, List<ClusterCommand<K, V, ?>>> partitions = new HashMap<>();
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> writerPartitions = new LinkedHashMap<>();
+        Map<List<ClusterCommand<K, V, ?>>, CompletableFuture<StatefulRedisConnection<K, V>>> pendingPartitions = new IdentityHashMap<>();
 
         // TODO: Retain order or retain Intent preference?
         // Currently: Retain order
@@ -299,39 +317,40 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 continue;
             }
 
-            CommandArgs<K, V> args = cmd.getArgs();
-            ByteBuffer firstEncodedKey = args != null ? args.getFirstEncodedKey() : null;
+            ByteBuffer firstEncodedKey = CommandArgsAccessor.encodeFirstKey(cmd);
 
             if (firstEncodedKey == null) {
                 defaultCommands.add(new ClusterCommand<>(cmd, this, executionLimit));
                 continue;
             }
 
-            int hash = getSlot(args.getFirstEncodedKey());
+            SlotIntent slotIntent = SlotIntent.of(connectionIntent, getSlot(firstEncodedKey));
+            List<ClusterCommand<K, V, ?>> commandPartition = partitions.get(slotIntent);
 
-            List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(SlotIntent.of(connectionIntent, hash),
-                    slotIntent -> new ArrayList<>());
+            if (commandPartition == null) {
 
-            commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
-        }
-
-        for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
+                CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = asyncClusterConnectionProvider
+                        .getConnectionAsync(slotIntent.connectionIntent, slotIntent.slotHash);
 
-            SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider
-                    .getConnection(slotIntent.connectionIntent, slotIntent.slotHash);
+                if (isSuccessfullyCompleted(connectFuture)) {
+                    RedisChannelWriter channelWriter = getWriterToUse(
+                            ((RedisChannelHandler<K, V>) connectFuture.join()).getChannelWriter());
+                    commandPartition = writerPartitions.computeIfAbsent(channelWriter, it -> new ArrayList<>());
+                } else {
+                    commandPartition = new ArrayList<>();
+                    pendingPartitions.put(commandPartition, connectFuture);
+                }
 
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
+                partitions.put(slotIntent, commandPartition);
             }
 
-            if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
-            }
+            commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
+        writerPartitions.forEach((channelWriter, commandPartition) -> writeCommands(commandPartition, channelWriter));
+        pendingPartitions.forEach((commandPartition, connectFuture) -> connectFuture
+                .whenComplete((connection, throwable) -> writeCommands(commandPartition, connection, throwable)));
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Progress of a {@link ClusterScanStream cluster-wide scan}. A checkpoint records the {@link ScanCursor} of each scanned node.
+ * The cursor of a node is updated after all keys of a {@code SCAN} batch were emitted so resuming a scan from a checkpoint
+ * visits each key at least once.
+ * <p>
+ * Checkpoints can be persisted through {@link #getCursors()} and restored through {@link #of(Map)}. A checkpoint must not be
+ * used by multiple scans at the same time.
+ *
+ * @since 7.6
+ * @see ClusterScanStream
+ */
+public class ClusterScanCheckpoint {
+
+    private final Map<String, ScanCursor> cursors = new LinkedHashMap<>();
+
+    private ClusterScanCheckpoint() {
+    }
+
+    /**
+     * Create a new, empty {@link ClusterScanCheckpoint}. Scanning with an empty checkpoint scans all nodes of the cluster.
+     *
+     * @return the {@link ClusterScanCheckpoint}.
+     */
+    public static ClusterScanCheckpoint create() {
+        return new ClusterScanCheckpoint();
+    }
+
+    /**
+     * Restore a {@link ClusterScanCheckpoint} from cursors obtained through {@link #getCursors()}.
+     *
+     * @param cursors cursors by node Id, must not be {@code null}.
+     * @return the {@link ClusterScanCheckpoint}.
+     */
+    public static ClusterScanCheckpoint of(Map<String, ScanCursor> cursors) {
+
+        LettuceAssert.notNull(cursors, "Cursors must not be null");
+
+        ClusterScanCheckpoint checkpoint = new ClusterScanCheckpoint();
+        cursors.forEach(checkpoint::update);
+        return checkpoint;
+    }
+
+    /**
+     * @return snapshot of the cursors by node Id.
+     */
+    public synchronized Map<String, ScanCursor> getCursors() {
+
+        Map<String, ScanCursor> result = new LinkedHashMap<>();
+        cursors.forEach((nodeId, cursor) -> result.put(nodeId, new ScanCursor(cursor.getCursor(), cursor.isFinished())));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return {@code true} if the checkpoint is not empty and all nodes are scanned.
+     */
+    public synchronized boolean isFinished() {
+
+        if (cursors.isEmpty()) {
+            return false;
+        }
+
+        for (ScanCursor cursor : cursors.values()) {
+            if (!cursor.isFinished()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    synchronized boolean isEmpty() {
+        return cursors.isEmpty();
+    }
+
+    synchronized void initialize(List<String> nodeIds) {
+
+        for (String nodeId : nodeIds) {
+            cursors.putIfAbsent(nodeId, ScanCursor.INITIAL);
+        }
+    }
+
+    synchronized void update(String nodeId, ScanCursor cursor) {
+
+        LettuceAssert.notNull(nodeId, "Node Id must not be null");
+        LettuceAssert.notNull(cursor, "ScanCursor must not be null");
+
+        // do not retain keys of KeyScanCursor
+        cursors.put(nodeId, new ScanCursor(cursor.getCursor(), cursor.isFinished()));
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [cursors=").append(cursors.size());
+        sb.append(", finished=").append(isFinished());
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScanStream;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.KeyStreamingChannel;
+
+/**
+ * Cluster-wide {@code SCAN} exposed through {@link Flux}. In contrast to {@link ScanStream#scan} on the cluster connection,
+ * which visits one node after the other, {@link ClusterScanStream} runs independent {@code SCAN} cursors on up to
+ * {@code parallelism} nodes at the same time and merges their keys. Nodes are selected as for the cluster {@code SCAN}: one
+ * node per upstream node, honoring the {@link io.lettuce.core.ReadFrom} setting of the connection.
+ * <p>
+ * Scanning is demand-aware. Each node issues its next {@code SCAN} only when its previous batch was consumed, so at most one
+ * batch per node is held in memory. Use {@link ScanArgs#limit(long)} to set the batch size.
+ * <p>
+ * Progress is tracked in a {@link ClusterScanCheckpoint}. Passing a restored checkpoint resumes the scan from the recorded
+ * cursors and skips nodes that were already scanned. Keys are emitted in no particular order across nodes.
+ *
+ * <pre class="code">
+ *
+ * ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+ *
+ * ClusterScanStream.scan(connection, ScanArgs.Builder.limit(1000), 8, checkpoint).doOnNext(this::migrate).blockLast();
+ * </pre>
+ *
+ * @since 7.6
+ * @see ClusterScanCheckpoint
+ * @see ScanStream
+ */
+public abstract class ClusterScanStream {
+
+    private ClusterScanStream() {
+    }
+
+    /**
+     * Iterate over keys of all nodes in parallel. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param connection the cluster connection, must not be {@code null}.
+     * @param parallelism maximum number of nodes scanned at the same time, must be greater {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(StatefulRedisClusterConnection<K, V> connection, int parallelism) {
+        return scan(connection, null, parallelism, ClusterScanCheckpoint.create());
+    }
+
+    /**
+     * Iterate over keys of all nodes in parallel. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param connection the cluster connection, must not be {@code null}.
+     * @param scanArgs the scan arguments, must not be {@code null}.
+     * @param parallelism maximum number of nodes scanned at the same time, must be greater {@code 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(StatefulRedisClusterConnection<K, V> connection, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return scan(connection, scanArgs, parallelism, ClusterScanCheckpoint.create());
+    }
+
+    /**
+     * Iterate over keys of all nodes in parallel, resuming from and recording progress in {@code checkpoint}. This method uses
+     * {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param connection the cluster connection, must not be {@code null}.
+     * @param scanArgs the scan arguments, can be {@code null}.
+     * @param parallelism maximum number of nodes scanned at the same time, must be greater {@code 0}.
+     * @param checkpoint the checkpoint, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(StatefulRedisClusterConnection<K, V> connection, ScanArgs scanArgs, int parallelism,
+            ClusterScanCheckpoint checkpoint) {
+
+        LettuceAssert.notNull(connection, "StatefulRedisClusterConnection must not be null");
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater 0");
+        LettuceAssert.notNull(checkpoint, "ClusterScanCheckpoint must not be null");
+
+        return Flux.defer(() -> {
+
+            if (checkpoint.isEmpty()) {
+                checkpoint.initialize(ClusterScanSupport.getNodeIds(connection, ScanCursor.INITIAL));
+            }
+
+            List<Map.Entry<String, ScanCursor>> pending = new ArrayList<>();
+
+            for (Map.Entry<String, ScanCursor> entry : checkpoint.getCursors().entrySet()) {
+                if (!entry.getValue().isFinished()) {
+                    pending.add(entry);
+                }
+            }
+
+            return Flux.fromIterable(pending).flatMap(
+                    entry -> scanNode(connection, entry.getKey(), entry.getValue(), scanArgs, checkpoint), parallelism, 1);
+        });
+    }
+
+    /**
+     * Iterate over keys of all nodes in parallel and notify {@code channel} about each key. Notifications are serialized and
+     * never invoke {@code channel} concurrently. This method uses {@code SCAN} to perform an iterative scan on each node.
+     *
+     * @param connection the cluster connection, must not be {@code null}.
+     * @param channel the key streaming channel, must not be {@code null}.
+     * @param scanArgs the scan arguments, can be {@code null}.
+     * @param parallelism maximum number of nodes scanned at the same time, must be greater {@code 0}.
+     * @param checkpoint the checkpoint, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return number of keys emitted to {@code channel}.
+     */
+    public static <K, V> Mono<Long> scan(StatefulRedisClusterConnection<K, V> connection, KeyStreamingChannel<K> channel,
+            ScanArgs scanArgs, int parallelism, ClusterScanCheckpoint checkpoint) {
+
+        LettuceAssert.notNull(channel, "KeyStreamingChannel must not be null");
+
+        return scan(connection, scanArgs, parallelism, checkpoint).doOnNext(channel::onKey).count();
+    }
+
+    private static <K, V> Flux<K> scanNode(StatefulRedisClusterConnection<K, V> connection, String nodeId, ScanCursor cursor,
+            ScanArgs scanArgs, ClusterScanCheckpoint checkpoint) {
+
+        return Mono.fromCompletionStage(() -> connection.getConnectionAsync(nodeId)).map(StatefulRedisConnection::reactive)
+                .flatMapMany(commands -> scan(commands, cursor, scanArgs)
+                        .expand(c -> !c.isFinished() ? scan(commands, c, scanArgs) : Mono.empty()))
+                .concatMap(
+                        c -> Flux.fromIterable(c.getKeys()).concatWith(Mono.fromRunnable(() -> checkpoint.update(nodeId, c))),
+                        1);
+    }
+
+    private static <K, V> Mono<KeyScanCursor<K>> scan(RedisClusterReactiveCommands<K, V> commands, ScanCursor cursor,
+            ScanArgs scanArgs) {
+        return scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor);
+    }
+
+}
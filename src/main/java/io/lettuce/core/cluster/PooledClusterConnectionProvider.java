@@ -20,7 +20,6 @@
 package io.lettuce.core.cluster;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -80,9 +79,7 @@ class PooledClusterConnectionProvider<K, V>
 
     private final List<RedisClusterPushListener> pushListeners = new CopyOnWriteArrayList<>();
 
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
+    private volatile SlotRoutingTable<K, V> routingTable = new SlotRoutingTable<>();
 
     private final RedisClusterClient redisClusterClient;
 
@@ -181,7 +178,8 @@ class PooledClusterConnectionProvider<K, V>
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer = writers[slot];
+        SlotRoutingTable<K, V> routingTable = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = routingTable.getWriter(slot);
         if (writer != null) {
             return writer;
         }
@@ -202,32 +200,19 @@ class PooledClusterConnectionProvider<K, V>
 
         return future.thenApply(connection -> {
 
-            stateLock.lock();
-            try {
-                if (writers[slot] == null) {
-                    writers[slot] = CompletableFuture.completedFuture(connection);
-                }
-            } finally {
-                stateLock.unlock();
-            }
-
+            routingTable.setWriter(slot, CompletableFuture.completedFuture(connection));
             return connection;
         }).toCompletableFuture();
     }
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        // avoid races when reconfiguring partitions.
+        SlotRoutingTable<K, V> routingTable = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = routingTable.getReaders(slot);
 
         boolean cached = true;
 
-        stateLock.lock();
-        try {
-            readerCandidates = readers[slot];
-        } finally {
-            stateLock.unlock();
-        }
-
         if (readerCandidates == null) {
 
             RedisClusterNode master = partitions.getMasterBySlot(slot);
@@ -322,12 +307,7 @@ class PooledClusterConnectionProvider<K, V>
                 toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
             }
 
-            stateLock.lock();
-            try {
-                readers[slot] = toCache;
-            } finally {
-                stateLock.unlock();
-            }
+            routingTable.setReaders(slot, toCache);
 
             if (!orderSensitive) {
 
@@ -652,7 +632,7 @@ class PooledClusterConnectionProvider<K, V>
         stateLock.lock();
         try {
             this.readFrom = readFrom;
-            Arrays.fill(readers, null);
+            this.routingTable = routingTable.withoutReaders();
         } finally {
             stateLock.unlock();
         }
@@ -672,16 +652,16 @@ class PooledClusterConnectionProvider<K, V>
 
     /**
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
-     * cache.
+     * cache. The {@link SlotRoutingTable} is replaced atomically so that in-flight lookups complete against the previous
+     * snapshot.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Synchronize on {@code stateLock} to serialize snapshot replacements.
      */
     private void resetFastConnectionCache() {
 
         stateLock.lock();
         try {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
+            this.routingTable = new SlotRoutingTable<>();
         } finally {
             stateLock.unlock();
         }
@@ -27,6 +27,7 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -103,6 +104,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     private final RedisCodec<K, V> codec;
 
+    private final ClusterCommandBuilder<K, V> commandBuilder;
+
     /**
      * Initialize a new connection.
      *
@@ -117,6 +120,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             Supplier<JsonParser> parser) {
         super(connection, codec, parser);
         this.codec = codec;
+        this.commandBuilder = new ClusterCommandBuilder<>(codec);
     }
 
     /**
@@ -131,6 +135,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.commandBuilder = new ClusterCommandBuilder<>(codec);
     }
 
     /**
@@ -144,6 +149,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             Supplier<JsonParser> parser) {
         super(connection, codec, parser);
         this.codec = codec;
+        this.commandBuilder = new ClusterCommandBuilder<>(codec);
     }
 
     /**
@@ -155,6 +161,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.commandBuilder = new ClusterCommandBuilder<>(codec);
     }
 
     @Override
@@ -231,20 +238,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitions.getPartitionCount() < 2) {
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return executePartitionedLong(partitions, super::del, commandBuilder::del);
     }
 
     @Override
@@ -254,20 +254,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitions.getPartitionCount() < 2) {
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return executePartitionedLong(partitions, super::exists, commandBuilder::exists);
     }
 
     @Override
@@ -359,50 +352,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<JsonValue>> jsonMGet(JsonPath jsonPath, K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
-
-        if (partitioned.size() < 2) {
-            return super.jsonMGet(jsonPath, keys);
-        }
 
-        // For a given partition, maps the key to its index within the List<K> in partitioned for faster lookups below
-        Map<Integer, Map<K, Integer>> keysToIndexes = mapKeyToIndex(partitioned);
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<JsonValue>>> executions = new HashMap<>(partitioned.size());
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            K[] partitionKeys = entry.getValue().toArray((K[]) new Object[entry.getValue().size()]);
-            RedisFuture<List<JsonValue>> jsonMget = super.jsonMGet(jsonPath, partitionKeys);
-            executions.put(entry.getKey(), jsonMget);
-        }
-
-        // restore order of key
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<JsonValue> result = new ArrayList<>(slots.size());
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
-
-                int position = keysToIndexes.get(slot).get(opKey);
-                RedisFuture<List<JsonValue>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
-            }
-
-            return result;
-        });
-    }
-
-    private Map<Integer, Map<K, Integer>> mapKeyToIndex(Map<Integer, List<K>> partitioned) {
-        Map<Integer, Map<K, Integer>> result = new HashMap<>(partitioned.size());
-        for (Integer partition : partitioned.keySet()) {
-            List<K> keysForPartition = partitioned.get(partition);
-            Map<K, Integer> keysToIndexes = new HashMap<>(keysForPartition.size());
-            for (int i = 0; i < keysForPartition.size(); i++) {
-                keysToIndexes.put(keysForPartition.get(i), i);
-            }
-            result.put(partition, keysToIndexes);
+        if (partitions.getPartitionCount() < 2) {
+            return super.jsonMGet(jsonPath, keys);
         }
 
-        return result;
+        return executePartitionedList(partitions,
+                partitionKeys -> super.jsonMGet(jsonPath, (K[]) partitionKeys.toArray(new Object[0])), null);
     }
 
     @Override
@@ -412,35 +370,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<KeyValue<K, V>>> mget(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.mget(keys);
-        }
-
-        // For a given partition, maps the key to its index within the List<K> in partitioned for faster lookups below
-        Map<Integer, Map<K, Integer>> partitionedKeysToIndexes = mapKeyToIndex(partitioned);
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>(partitioned.size());
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
+        if (partitions.getPartitionCount() < 2) {
+            return super.mget(keys);
         }
 
-        // restore order of key
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<KeyValue<K, V>> result = new ArrayList<>(slots.size());
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
-
-                int position = partitionedKeysToIndexes.get(slot).get(opKey);
-                RedisFuture<List<KeyValue<K, V>>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
-            }
-
-            return result;
-        });
+        return executePartitionedList(partitions, super::mget, commandBuilder::mgetKeyValue);
     }
 
     @Override
@@ -450,20 +387,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> mget(KeyValueStreamingChannel<K, V> channel, Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.mget(channel, keys);
-        }
-
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
+        if (partitions.getPartitionCount() < 2) {
+            return super.mget(channel, keys);
         }
 
-        return MultiNodeExecution.aggregateAsync(executions);
+        return executePartitionedLong(partitions, partitionKeys -> super.mget(channel, partitionKeys),
+                partitionKeys -> commandBuilder.mget(channel, partitionKeys));
     }
 
     @Override
@@ -493,24 +425,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        if (partitions.getPartitionCount() < 2) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+        RedisFuture<String>[] futures = executePartitioned(partitions,
+                partitionKeys -> super.mset(getPartition(map, partitionKeys)),
+                partitionKeys -> commandBuilder.mset(getPartition(map, partitionKeys)));
 
-        return MultiNodeExecution.firstOfAsync(executions);
+        return MultiNodeExecution.firstOfAsync(getExecutions(partitions, futures));
     }
 
     @Override
@@ -525,21 +450,16 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     private RedisFuture<Boolean> executePartitionedBoolean(Map<K, V> map, Function<Map<K, V>, RedisFuture<Boolean>> operation) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        if (partitions.getPartitionCount() < 2) {
             return operation.apply(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
+        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>(partitions.getPartitionCount());
 
-            RedisFuture<Boolean> future = operation.apply(op);
-            executions.put(entry.getKey(), future);
+        for (int partition = 0; partition < partitions.getPartitionCount(); partition++) {
+            executions.put(partitions.getSlot(partition), operation.apply(getPartition(map, partitions.getKeys(partition))));
         }
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
@@ -555,6 +475,123 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         });
     }
 
+    /**
+     * Run {@code operation} for each slot partition and sum up the results.
+     */
+    private RedisFuture<Long> executePartitionedLong(SlotPartitions<K> partitions,
+            Function<List<K>, RedisFuture<Long>> operation, Function<List<K>, Command<K, V, Long>> commandFactory) {
+        return MultiNodeExecution
+                .aggregateAsync(getExecutions(partitions, executePartitioned(partitions, operation, commandFactory)));
+    }
+
+    /**
+     * Run {@code operation} for each slot partition and reassemble the per-partition results in the original key order.
+     */
+    private <T> RedisFuture<List<T>> executePartitionedList(SlotPartitions<K> partitions,
+            Function<List<K>, RedisFuture<List<T>>> operation, Function<List<K>, Command<K, V, List<T>>> commandFactory) {
+
+        RedisFuture<List<T>>[] futures = executePartitioned(partitions, operation, commandFactory);
+
+        // restore order of key
+        return new PipelinedRedisFuture<>(getExecutions(partitions, futures), objectPipelinedRedisFuture -> {
+
+            List<T> result = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+
+                RedisFuture<List<T>> future = futures[partitions.getPartition(i)];
+                int position = partitions.getPosition(i);
+                result.add(MultiNodeExecution.execute(() -> future.get().get(position)));
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Run {@code operation} for each slot partition. If {@link ClusterClientOptions#isCrossSlotPipelining() cross-slot
+     * pipelining} is enabled, sub-commands are created using {@code commandFactory} instead and all sub-commands targeting the
+     * same node are dispatched as a single batch, split into batches of at most
+     * {@link ClusterClientOptions#getCrossSlotBatchSize()} sub-commands.
+     *
+     * @param commandFactory factory for sub-commands, can be {@code null} to always run {@code operation}.
+     * @return futures indexed by partition.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> RedisFuture<T>[] executePartitioned(SlotPartitions<K> partitions, Function<List<K>, RedisFuture<T>> operation,
+            Function<List<K>, Command<K, V, T>> commandFactory) {
+
+        RedisFuture<T>[] futures = new RedisFuture[partitions.getPartitionCount()];
+        ClientOptions options = getStatefulConnection().getOptions();
+
+        if (commandFactory == null || !(options instanceof ClusterClientOptions)
+                || !((ClusterClientOptions) options).isCrossSlotPipelining()) {
+
+            for (int partition = 0; partition < futures.length; partition++) {
+                futures[partition] = operation.apply(partitions.getKeys(partition));
+            }
+
+            return futures;
+        }
+
+        Partitions topology = getStatefulConnection().getPartitions();
+        Map<RedisClusterNode, List<RedisCommand<K, V, ?>>> commandsByNode = new LinkedHashMap<>();
+
+        for (int partition = 0; partition < futures.length; partition++) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(partitions.getKeys(partition)));
+            futures[partition] = command;
+
+            commandsByNode.computeIfAbsent(topology.getMasterBySlot(partitions.getSlot(partition)), it -> new ArrayList<>())
+                    .add(command);
+        }
+
+        int batchSize = ((ClusterClientOptions) options).getCrossSlotBatchSize();
+
+        for (List<RedisCommand<K, V, ?>> commands : commandsByNode.values()) {
+
+            int from = 0;
+            while (from < commands.size()) {
+
+                int to = from + Math.min(batchSize, commands.size() - from);
+                dispatchBatch(commands.subList(from, to));
+                from = to;
+            }
+        }
+
+        return futures;
+    }
+
+    private void dispatchBatch(List<RedisCommand<K, V, ?>> commands) {
+
+        try {
+            getStatefulConnection().dispatch(commands);
+        } catch (RuntimeException e) {
+            commands.forEach(command -> command.completeExceptionally(e));
+        }
+    }
+
+    private static <T> Map<Integer, RedisFuture<T>> getExecutions(SlotPartitions<?> partitions, RedisFuture<T>[] futures) {
+
+        Map<Integer, RedisFuture<T>> executions = new HashMap<>(futures.length);
+
+        for (int partition = 0; partition < futures.length; partition++) {
+            executions.put(partitions.getSlot(partition), futures[partition]);
+        }
+
+        return executions;
+    }
+
+    private static <K, V> Map<K, V> getPartition(Map<K, V> map, List<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>(keys.size() * 2);
+
+        for (K key : keys) {
+            result.put(key, map.get(key));
+        }
+
+        return result;
+    }
+
     @Override
     public RedisFuture<K> randomkey() {
 
@@ -616,20 +653,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
-            return super.touch(keys);
-        }
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
+        if (partitions.getPartitionCount() < 2) {
+            return super.touch(keys);
         }
 
-        return MultiNodeExecution.aggregateAsync(executions);
+        return executePartitionedLong(partitions, super::touch, commandBuilder::touch);
     }
 
     @Override
@@ -640,20 +671,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        SlotPartitions<K> partitions = SlotPartitions.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitions.getPartitionCount() < 2) {
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return executePartitionedLong(partitions, super::unlink, commandBuilder::unlink);
     }
 
     @Override
@@ -2,6 +2,7 @@ package io.lettuce.core.cluster;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -54,7 +55,7 @@ public class SlotHash {
      * @return slot
      */
     public static int getSlot(byte[] key) {
-        return getSlot(ByteBuffer.wrap(key));
+        return getSlot(key, 0, key.length);
     }
 
     /**
@@ -65,34 +66,84 @@ public class SlotHash {
      */
     public static int getSlot(ByteBuffer key) {
 
+        if (key.hasArray()) {
+            return getSlot(key.array(), key.arrayOffset() + key.position(), key.remaining());
+        }
+
         int limit = key.limit();
         int position = key.position();
 
-        int start = indexOf(key, SUBKEY_START);
+        int start = indexOf(key, position, limit, SUBKEY_START);
         if (start != -1) {
-            int end = indexOf(key, start + 1, SUBKEY_END);
+            int end = indexOf(key, start + 1, limit, SUBKEY_END);
             if (end != -1 && end != start + 1) {
                 key.position(start + 1).limit(end);
             }
         }
 
         try {
-            if (key.hasArray()) {
-                return CRC16.crc16(key.array(), key.position(), key.limit() - key.position()) % SLOT_COUNT;
-            }
-            return CRC16.crc16(key) % SLOT_COUNT;
+            return CRC16.crc16(key) & (SLOT_COUNT - 1);
         } finally {
             key.position(position).limit(limit);
         }
     }
 
-    private static int indexOf(ByteBuffer haystack, byte needle) {
-        return indexOf(haystack, haystack.position(), needle);
+    /**
+     * Calculate the slots for the given keys.
+     *
+     * @param codec codec to encode the key.
+     * @param keys iterable of keys.
+     * @param <K> Key type.
+     * @return slots in the order of {@code keys}.
+     * @since 7.6
+     */
+    public static <K> int[] getSlots(RedisCodec<K, ?> codec, Iterable<K> keys) {
+
+        int[] slots = new int[keys instanceof Collection ? ((Collection<K>) keys).size() : 16];
+        int size = 0;
+
+        for (K key : keys) {
+
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+
+            slots[size++] = getSlot(codec.encodeKey(key));
+        }
+
+        return size == slots.length ? slots : Arrays.copyOf(slots, size);
+    }
+
+    static int getSlot(byte[] key, int offset, int length) {
+
+        int end = offset + length;
+
+        int start = indexOf(key, offset, end, SUBKEY_START);
+        if (start != -1) {
+            int close = indexOf(key, start + 1, end, SUBKEY_END);
+            if (close != -1 && close != start + 1) {
+                return CRC16.crc16(key, start + 1, close - start - 1) & (SLOT_COUNT - 1);
+            }
+        }
+
+        return CRC16.crc16(key, offset, length) & (SLOT_COUNT - 1);
+    }
+
+    private static int indexOf(byte[] haystack, int start, int end, byte needle) {
+
+        for (int i = start; i < end; i++) {
+
+            if (haystack[i] == needle) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
-    private static int indexOf(ByteBuffer haystack, int start, byte needle) {
+    private static int indexOf(ByteBuffer haystack, int start, int end, byte needle) {
 
-        for (int i = start; i < haystack.remaining(); i++) {
+        for (int i = start; i < end; i++) {
 
             if (haystack.get(i) == needle) {
                 return i;
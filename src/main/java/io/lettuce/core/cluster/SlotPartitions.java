@@ -0,0 +1,196 @@
+package io.lettuce.core.cluster;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Partitioning of keys by their slot-hash backed by primitive arrays. Keys are grouped into partitions sharing the same slot
+ * while retaining their relative order. Each key index maps back to its partition and to its position within the partition so
+ * that results of per-partition commands can be reassembled in the original key order without hashing keys again.
+ * <p>
+ * Keys are hashed exactly once. Duplicate keys retain their individual positions.
+ *
+ * @param <K> Key type.
+ * @since 7.6
+ * @see SlotHash#partition(RedisCodec, Iterable)
+ */
+final class SlotPartitions<K> {
+
+    private final Object[] keys;
+
+    /**
+     * Key indexes ordered by slot. Partition {@code p} spans {@code order[offsets[p]]} to {@code order[offsets[p + 1] - 1]}.
+     */
+    private final int[] order;
+
+    private final int[] offsets;
+
+    private final int[] slots;
+
+    private final int[] partitionOf;
+
+    private final int[] positionOf;
+
+    private SlotPartitions(Object[] keys, int[] order, int[] offsets, int[] slots, int[] partitionOf, int[] positionOf) {
+        this.keys = keys;
+        this.order = order;
+        this.offsets = offsets;
+        this.slots = slots;
+        this.partitionOf = partitionOf;
+        this.positionOf = positionOf;
+    }
+
+    /**
+     * Partition {@code keys} by slot-hash.
+     *
+     * @param codec codec to encode the key.
+     * @param keys iterable of keys.
+     * @param <K> Key type.
+     * @return the partitioned keys.
+     */
+    static <K> SlotPartitions<K> of(RedisCodec<K, ?> codec, Iterable<K> keys) {
+
+        if (keys instanceof Collection) {
+            return of(codec, ((Collection<K>) keys).toArray());
+        }
+
+        List<K> list = new ArrayList<>();
+        keys.forEach(list::add);
+
+        return of(codec, list.toArray());
+    }
+
+    /**
+     * Partition {@code keys} by slot-hash.
+     *
+     * @param codec codec to encode the key.
+     * @param keys array of keys.
+     * @param <K> Key type.
+     * @return the partitioned keys.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> SlotPartitions<K> of(RedisCodec<K, ?> codec, Object[] keys) {
+
+        int size = keys.length;
+
+        // slot in the upper, key index in the lower 32 bits: sorting retains the key order within each slot
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = ((long) SlotHash.getSlot(codec.encodeKey((K) keys[i])) << 32) | i;
+        }
+        Arrays.sort(sorted);
+
+        int[] order = new int[size];
+        int[] partitionOf = new int[size];
+        int[] positionOf = new int[size];
+        int[] offsets = new int[size + 1];
+        int[] slots = new int[size];
+
+        int partition = -1;
+        int previousSlot = -1;
+        for (int i = 0; i < size; i++) {
+
+            int slot = (int) (sorted[i] >>> 32);
+            int index = (int) sorted[i];
+
+            if (slot != previousSlot) {
+                partition++;
+                offsets[partition] = i;
+                slots[partition] = slot;
+                previousSlot = slot;
+            }
+
+            order[i] = index;
+            partitionOf[index] = partition;
+            positionOf[index] = i - offsets[partition];
+        }
+
+        int partitionCount = partition + 1;
+        offsets[partitionCount] = size;
+
+        return new SlotPartitions<>(keys, order, Arrays.copyOf(offsets, partitionCount + 1),
+                Arrays.copyOf(slots, partitionCount), partitionOf, positionOf);
+    }
+
+    /**
+     * @return number of keys.
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * @return number of partitions, i.e. number of distinct slots.
+     */
+    int getPartitionCount() {
+        return slots.length;
+    }
+
+    /**
+     * @param partition the partition index.
+     * @return the slot of {@code partition}.
+     */
+    int getSlot(int partition) {
+        return slots[partition];
+    }
+
+    /**
+     * @param partition the partition index.
+     * @return the keys of {@code partition} in their original order.
+     */
+    List<K> getKeys(int partition) {
+        return new PartitionKeys(offsets[partition], offsets[partition + 1]);
+    }
+
+    /**
+     * @param keyIndex index of the key in the original key sequence.
+     * @return the partition index holding the key.
+     */
+    int getPartition(int keyIndex) {
+        return partitionOf[keyIndex];
+    }
+
+    /**
+     * @param keyIndex index of the key in the original key sequence.
+     * @return the position of the key within its partition.
+     */
+    int getPosition(int keyIndex) {
+        return positionOf[keyIndex];
+    }
+
+    private class PartitionKeys extends AbstractList<K> implements RandomAccess {
+
+        private final int from;
+
+        private final int to;
+
+        PartitionKeys(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K get(int index) {
+
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return (K) keys[order[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+    }
+
+}
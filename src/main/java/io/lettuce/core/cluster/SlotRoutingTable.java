@@ -0,0 +1,80 @@
+package io.lettuce.core.cluster;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+
+/**
+ * Slot routing snapshot for a single topology generation. Holds per-slot references to the resolved writer and reader
+ * connections. Lookups are plain array loads without locking or hashing.
+ * <p>
+ * Entries are resolved lazily; writer entries are set at most once per snapshot. Topology and {@link io.lettuce.core.ReadFrom}
+ * changes do not mutate a snapshot but replace it as a whole so that connections resolved against a previous topology cannot
+ * leak into the new snapshot.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+class SlotRoutingTable<K, V> {
+
+    private final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers;
+
+    private final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers;
+
+    SlotRoutingTable() {
+        this(new AtomicReferenceArray<>(SlotHash.SLOT_COUNT));
+    }
+
+    private SlotRoutingTable(AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers) {
+        this.writers = writers;
+        this.readers = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+    }
+
+    /**
+     * Create a new {@link SlotRoutingTable} sharing the writer connections of this snapshot without any reader connections.
+     *
+     * @return the new snapshot.
+     */
+    SlotRoutingTable<K, V> withoutReaders() {
+        return new SlotRoutingTable<>(writers);
+    }
+
+    /**
+     * @param slot the slot.
+     * @return the writer connection for {@code slot} or {@code null} if not yet resolved.
+     */
+    CompletableFuture<StatefulRedisConnection<K, V>> getWriter(int slot) {
+        return writers.get(slot);
+    }
+
+    /**
+     * Set the writer connection for {@code slot} unless it was already set.
+     *
+     * @param slot the slot.
+     * @param writer the resolved writer connection.
+     */
+    void setWriter(int slot, CompletableFuture<StatefulRedisConnection<K, V>> writer) {
+        writers.compareAndSet(slot, null, writer);
+    }
+
+    /**
+     * @param slot the slot.
+     * @return the reader connection candidates for {@code slot} or {@code null} if not yet resolved.
+     */
+    CompletableFuture<StatefulRedisConnection<K, V>>[] getReaders(int slot) {
+        return readers.get(slot);
+    }
+
+    /**
+     * Set the reader connection candidates for {@code slot}.
+     *
+     * @param slot the slot.
+     * @param readers the resolved reader connection candidates.
+     */
+    void setReaders(int slot, CompletableFuture<StatefulRedisConnection<K, V>>[] readers) {
+        this.readers.set(slot, readers);
+    }
+
+}
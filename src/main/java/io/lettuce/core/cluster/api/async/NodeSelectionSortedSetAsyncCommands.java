@@ -417,6 +417,17 @@ public interface NodeSelectionSortedSetAsyncCommands<K, V> {
      */
     AsyncExecutions<List<Double>> zmscore(K key, V... members);
 
+    /**
+     * Returns the scores associated with the specified members in the sorted set stored at key as primitive array.
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return double[] array-reply list of scores associated with the specified member values, {@link Double#NaN} for members
+     *         that do not exist.
+     * @since 7.6
+     */
+    AsyncExecutions<double[]> zmscoreArray(K key, V... members);
+
     /**
      * Pops one or more elements, that are member-score pairs, from the first non-empty sorted set in the provided list of keys.
      *
@@ -0,0 +1,556 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.cluster.pubsub;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import reactor.core.Disposable;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnectionImpl;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Sharded Pub/Sub across the upstream nodes of a Redis Cluster. Shard channels are subscribed on the node connection of the
+ * upstream node that owns their hash slot, with one {@literal SSUBSCRIBE} per slot. Each upstream node is served by a single
+ * Pub/Sub connection obtained through {@link StatefulRedisClusterPubSubConnection#getConnectionAsync(String)}.
+ * <p>
+ * Subscriptions follow the slot owner: a {@link ClusterTopologyChangedEvent} moves the subscriptions of all slots whose owner
+ * has changed to the new owner. A {@literal sunsubscribe} notification that Redis sends when a slot migrates away from a node
+ * moves the subscriptions of that slot as soon as the topology reflects the new owner. Enable periodic or adaptive topology
+ * refresh so that subscriptions are restored after slot migrations.
+ * <p>
+ * Messages are delivered to {@link RedisClusterPubSubListener listeners} on the I/O thread of the node connection that received
+ * them, so nodes are delivered in parallel. Listeners must therefore be thread-safe.
+ *
+ * <pre class="code">
+ *
+ * StatefulRedisClusterPubSubConnection&lt;String, String&gt; connection = redisClusterClient.connectPubSub();
+ *
+ * ClusterShardedPubSub&lt;String, String&gt; pubSub = ClusterShardedPubSub.create(connection);
+ * pubSub.addListener(listener);
+ * pubSub.ssubscribe("orders", "prices").join();
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+public class ClusterShardedPubSub<K, V> implements AutoCloseable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClusterShardedPubSub.class);
+
+    private final StatefulRedisClusterPubSubConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final List<RedisClusterPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<String, CompletableFuture<StatefulRedisPubSubConnection<K, V>>> nodeConnections = new ConcurrentHashMap<>();
+
+    private final Map<String, NodeListener> nodeListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Shard channels by slot keyed by their encoded name. Guarded by {@code this}.
+     */
+    private final Map<ByteBuffer, K>[] channelsBySlot;
+
+    /**
+     * Node that the channels of a slot are subscribed on. Guarded by {@code this}.
+     */
+    private final String[] subscribedNodes = new String[SlotHash.SLOT_COUNT];
+
+    private volatile String[] slotOwners;
+
+    private volatile Map<String, RedisClusterNode> nodes;
+
+    private volatile Disposable topologySubscription;
+
+    @SuppressWarnings("unchecked")
+    private ClusterShardedPubSub(StatefulRedisClusterPubSubConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        this.connection = connection;
+        this.codec = codec;
+        this.channelsBySlot = new Map[SlotHash.SLOT_COUNT];
+        this.slotOwners = getSlotOwners(connection.getPartitions());
+        this.nodes = getNodes(connection.getPartitions());
+    }
+
+    /**
+     * Create a new {@link ClusterShardedPubSub} for the given {@link StatefulRedisClusterPubSubConnection}. The connection is
+     * used to obtain node connections and remains open when this {@link ClusterShardedPubSub} is {@link #close() closed}.
+     *
+     * @param connection the Redis Cluster Pub/Sub connection.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ClusterShardedPubSub}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ClusterShardedPubSub<K, V> create(StatefulRedisClusterPubSubConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        return create(connection, ((StatefulRedisPubSubConnectionImpl<K, V>) connection).getCodec());
+    }
+
+    static <K, V> ClusterShardedPubSub<K, V> create(StatefulRedisClusterPubSubConnection<K, V> connection,
+            RedisCodec<K, V> codec) {
+
+        ClusterShardedPubSub<K, V> pubSub = new ClusterShardedPubSub<>(connection, codec);
+
+        pubSub.topologySubscription = connection.getResources().eventBus().get()
+                .filter(ClusterTopologyChangedEvent.class::isInstance).cast(ClusterTopologyChangedEvent.class)
+                .filter(pubSub::isSameCluster).subscribe(event -> pubSub.onTopologyChanged(event.after()));
+
+        return pubSub;
+    }
+
+    /**
+     * Add a new {@link RedisClusterPubSubListener listener}.
+     *
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void addListener(RedisClusterPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(listener, "RedisClusterPubSubListener must not be null");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove an existing {@link RedisClusterPubSubListener listener}.
+     *
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void removeListener(RedisClusterPubSubListener<K, V> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Subscribe to the given shard channels on the nodes that own their slots.
+     *
+     * @param shardChannels the shard channels.
+     * @return future that completes once all node subscriptions are confirmed.
+     */
+    @SafeVarargs
+    public final CompletableFuture<Void> ssubscribe(K... shardChannels) {
+
+        LettuceAssert.notNull(shardChannels, "Shard channels must not be null");
+
+        Map<Integer, List<K>> added = new HashMap<>();
+        Map<Integer, String> targets = new HashMap<>();
+
+        synchronized (this) {
+
+            String[] owners = this.slotOwners;
+
+            for (K shardChannel : shardChannels) {
+
+                ByteBuffer encoded = codec.encodeKey(shardChannel);
+                int slot = SlotHash.getSlot(encoded.duplicate());
+
+                Map<ByteBuffer, K> channels = channelsBySlot[slot];
+                if (channels == null) {
+                    channels = channelsBySlot[slot] = new HashMap<>();
+                }
+
+                if (channels.putIfAbsent(encoded, shardChannel) != null) {
+                    continue;
+                }
+
+                added.computeIfAbsent(slot, it -> new ArrayList<>()).add(shardChannel);
+
+                if (subscribedNodes[slot] == null) {
+                    subscribedNodes[slot] = owners[slot];
+                }
+                targets.put(slot, subscribedNodes[slot]);
+            }
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(added.size());
+
+        added.forEach((slot, channels) -> {
+
+            String nodeId = targets.get(slot);
+
+            // slot not covered, subscribe once the topology provides an owner
+            if (nodeId != null) {
+                futures.add(subscribe(nodeId, slot, channels));
+            }
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Unsubscribe from the given shard channels.
+     *
+     * @param shardChannels the shard channels.
+     * @return future that completes once all node unsubscriptions are confirmed.
+     */
+    @SafeVarargs
+    public final CompletableFuture<Void> sunsubscribe(K... shardChannels) {
+
+        LettuceAssert.notNull(shardChannels, "Shard channels must not be null");
+
+        Map<Integer, List<K>> removed = new HashMap<>();
+        Map<Integer, String> sources = new HashMap<>();
+
+        synchronized (this) {
+
+            for (K shardChannel : shardChannels) {
+
+                ByteBuffer encoded = codec.encodeKey(shardChannel);
+                int slot = SlotHash.getSlot(encoded.duplicate());
+
+                Map<ByteBuffer, K> channels = channelsBySlot[slot];
+                if (channels == null || channels.remove(encoded) == null) {
+                    continue;
+                }
+
+                removed.computeIfAbsent(slot, it -> new ArrayList<>()).add(shardChannel);
+                sources.put(slot, subscribedNodes[slot]);
+
+                if (channels.isEmpty()) {
+                    channelsBySlot[slot] = null;
+                    subscribedNodes[slot] = null;
+                }
+            }
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(removed.size());
+
+        removed.forEach((slot, channels) -> {
+
+            String nodeId = sources.get(slot);
+
+            if (nodeId != null) {
+                futures.add(unsubscribe(nodeId, channels));
+            }
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * @return the subscribed shard channels.
+     */
+    public synchronized Set<K> getShardChannels() {
+
+        Set<K> result = new LinkedHashSet<>();
+
+        for (Map<ByteBuffer, K> channels : channelsBySlot) {
+            if (channels != null) {
+                result.addAll(channels.values());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Unsubscribe from all shard channels and stop following topology changes. The cluster connection remains open.
+     */
+    @Override
+    public void close() {
+
+        Disposable subscription = topologySubscription;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+
+        K[] shardChannels = toArray(getShardChannels());
+        if (shardChannels.length > 0) {
+            sunsubscribe(shardChannels);
+        }
+
+        nodeListeners.forEach((nodeId, listener) -> {
+
+            CompletableFuture<StatefulRedisPubSubConnection<K, V>> nodeConnection = nodeConnections.get(nodeId);
+            if (nodeConnection != null) {
+                nodeConnection.thenAccept(it -> it.removeListener(listener));
+            }
+        });
+
+        nodeListeners.clear();
+        nodeConnections.clear();
+    }
+
+    /**
+     * The event bus is shared across cluster clients. Only events that contain a node of this connection's partitions belong to
+     * this cluster.
+     */
+    boolean isSameCluster(ClusterTopologyChangedEvent event) {
+
+        Set<String> nodeIds = new HashSet<>();
+        for (RedisClusterNode node : connection.getPartitions()) {
+            nodeIds.add(node.getNodeId());
+        }
+
+        for (RedisClusterNode node : event.before()) {
+            if (nodeIds.contains(node.getNodeId())) {
+                return true;
+            }
+        }
+
+        for (RedisClusterNode node : event.after()) {
+            if (nodeIds.contains(node.getNodeId())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    void onTopologyChanged(List<RedisClusterNode> topology) {
+
+        String[] owners = getSlotOwners(topology);
+        Map<String, RedisClusterNode> nodes = getNodes(topology);
+
+        this.slotOwners = owners;
+        this.nodes = nodes;
+
+        List<Move> moves = new ArrayList<>();
+
+        synchronized (this) {
+
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+                Map<ByteBuffer, K> channels = channelsBySlot[slot];
+                if (channels == null || Objects.equals(subscribedNodes[slot], owners[slot])) {
+                    continue;
+                }
+
+                moves.add(new Move(slot, subscribedNodes[slot], owners[slot], new ArrayList<>(channels.values())));
+                subscribedNodes[slot] = owners[slot];
+            }
+        }
+
+        for (Move move : moves) {
+
+            if (move.to != null) {
+                subscribe(move.to, move.slot, move.channels);
+            }
+
+            // best effort, Redis unsubscribes shard channels of migrated slots by itself
+            if (move.from != null && nodes.containsKey(move.from)) {
+                unsubscribe(move.from, move.channels);
+            }
+        }
+
+        Set<String> stale = new HashSet<>(nodeConnections.keySet());
+        stale.removeAll(nodes.keySet());
+
+        for (String nodeId : stale) {
+
+            NodeListener listener = nodeListeners.remove(nodeId);
+            CompletableFuture<StatefulRedisPubSubConnection<K, V>> nodeConnection = nodeConnections.remove(nodeId);
+
+            if (listener != null && nodeConnection != null) {
+                nodeConnection.thenAccept(it -> it.removeListener(listener));
+            }
+        }
+    }
+
+    /**
+     * Handle a {@literal sunsubscribe} notification. Notifications for channels that are still subscribed through
+     * {@code nodeId} originate from Redis after the slot was migrated to another node.
+     */
+    void onUnsubscribed(String nodeId, K shardChannel) {
+
+        ByteBuffer encoded = codec.encodeKey(shardChannel);
+        int slot = SlotHash.getSlot(encoded.duplicate());
+        String owner = slotOwners[slot];
+        List<K> channels;
+
+        synchronized (this) {
+
+            Map<ByteBuffer, K> slotChannels = channelsBySlot[slot];
+            if (slotChannels == null || !slotChannels.containsKey(encoded) || !nodeId.equals(subscribedNodes[slot])) {
+                return;
+            }
+
+            if (owner == null || owner.equals(nodeId)) {
+
+                // topology is not refreshed yet, subscribe once the topology change is observed.
+                subscribedNodes[slot] = null;
+                return;
+            }
+
+            subscribedNodes[slot] = owner;
+            channels = new ArrayList<>(slotChannels.values());
+        }
+
+        subscribe(owner, slot, channels);
+    }
+
+    private CompletableFuture<Void> subscribe(String nodeId, int slot, List<K> channels) {
+
+        K[] shardChannels = toArray(channels);
+
+        return getConnection(nodeId).thenCompose(it -> it.async().ssubscribe(shardChannels)).whenComplete((ignore, e) -> {
+
+            if (e != null) {
+
+                logger.warn("Cannot subscribe shard channels of slot " + slot + " on node " + nodeId, e);
+
+                synchronized (this) {
+
+                    // retry on the next topology change
+                    if (nodeId.equals(subscribedNodes[slot])) {
+                        subscribedNodes[slot] = null;
+                    }
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<Void> unsubscribe(String nodeId, List<K> channels) {
+
+        K[] shardChannels = toArray(channels);
+
+        return getConnection(nodeId).thenCompose(it -> it.async().sunsubscribe(shardChannels));
+    }
+
+    private CompletableFuture<StatefulRedisPubSubConnection<K, V>> getConnection(String nodeId) {
+
+        CompletableFuture<StatefulRedisPubSubConnection<K, V>> future = nodeConnections.computeIfAbsent(nodeId,
+                it -> connection.getConnectionAsync(it).thenApply(nodeConnection -> {
+
+                    NodeListener listener = new NodeListener(it);
+                    nodeListeners.put(it, listener);
+                    nodeConnection.addListener(listener);
+                    return nodeConnection;
+                }));
+
+        future.whenComplete((ignore, e) -> {
+
+            // allow retries after connection failures
+            if (e != null) {
+                nodeConnections.remove(nodeId, future);
+            }
+        });
+
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K[] toArray(Collection<K> channels) {
+        return (K[]) channels.toArray(new Object[0]);
+    }
+
+    private static String[] getSlotOwners(Iterable<RedisClusterNode> nodes) {
+
+        String[] owners = new String[SlotHash.SLOT_COUNT];
+
+        for (RedisClusterNode node : nodes) {
+            if (node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                node.forEachSlot(slot -> owners[slot] = node.getNodeId());
+            }
+        }
+
+        return owners;
+    }
+
+    private static Map<String, RedisClusterNode> getNodes(Iterable<RedisClusterNode> topology) {
+
+        Map<String, RedisClusterNode> nodes = new HashMap<>();
+
+        for (RedisClusterNode node : topology) {
+            nodes.put(node.getNodeId(), node);
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Relocation of the shard channels of a slot.
+     */
+    private class Move {
+
+        final int slot;
+
+        final String from;
+
+        final String to;
+
+        final List<K> channels;
+
+        Move(int slot, String from, String to, List<K> channels) {
+            this.slot = slot;
+            this.from = from;
+            this.to = to;
+            this.channels = channels;
+        }
+
+    }
+
+    /**
+     * Listener registered with a node connection to notify {@link RedisClusterPubSubListener listeners} with the node that
+     * received the notification.
+     */
+    class NodeListener extends RedisPubSubAdapter<K, V> {
+
+        private final String nodeId;
+
+        NodeListener(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public void smessage(K shardChannel, V message) {
+
+            RedisClusterNode node = nodes.get(nodeId);
+
+            for (RedisClusterPubSubListener<K, V> listener : listeners) {
+                listener.smessage(node, shardChannel, message);
+            }
+        }
+
+        @Override
+        public void ssubscribed(K shardChannel, long count) {
+
+            RedisClusterNode node = nodes.get(nodeId);
+
+            for (RedisClusterPubSubListener<K, V> listener : listeners) {
+                listener.ssubscribed(node, shardChannel, count);
+            }
+        }
+
+        @Override
+        public void sunsubscribed(K shardChannel, long count) {
+
+            RedisClusterNode node = nodes.get(nodeId);
+
+            for (RedisClusterPubSubListener<K, V> listener : listeners) {
+                listener.sunsubscribed(node, shardChannel, count);
+            }
+
+            onUnsubscribed(nodeId, shardChannel);
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A {@link RedisCodec} that uses reference-counted {@link ByteBuf buffers} for keys and values. Bulk replies are transferred
+ * into buffers obtained from the channel allocator without materializing {@code byte[]} arrays, so large values can be
+ * forwarded to other Netty channels or {@link java.nio.channels.FileChannel file channels} directly.
+ * <p>
+ * Decoded keys and values are owned by the caller and must be {@link ByteBuf#release() released} once they are no longer
+ * needed. Encoding does not modify the reader index and does not release the given buffers.
+ * </p>
+ *
+ * @since 7.6
+ * @see FromByteBufDecoder
+ */
+public class ByteBufCodec
+        implements RedisCodec<ByteBuf, ByteBuf>, ToByteBufEncoder<ByteBuf, ByteBuf>, FromByteBufDecoder<ByteBuf, ByteBuf> {
+
+    public static final ByteBufCodec INSTANCE = new ByteBufCodec();
+
+    @Override
+    public void encodeKey(ByteBuf key, ByteBuf target) {
+
+        if (key != null) {
+            target.writeBytes(key, key.readerIndex(), key.readableBytes());
+        }
+    }
+
+    @Override
+    public void encodeValue(ByteBuf value, ByteBuf target) {
+        encodeKey(value, target);
+    }
+
+    @Override
+    public int estimateSize(Object keyOrValue) {
+
+        if (keyOrValue == null) {
+            return 0;
+        }
+
+        return ((ByteBuf) keyOrValue).readableBytes();
+    }
+
+    @Override
+    public boolean isEstimateExact() {
+        return true;
+    }
+
+    @Override
+    public ByteBuf decodeKey(ByteBuf bytes) {
+        return bytes.copy();
+    }
+
+    @Override
+    public ByteBuf decodeValue(ByteBuf bytes) {
+        return bytes.copy();
+    }
+
+    @Override
+    public ByteBuf decodeKey(ByteBuffer bytes) {
+        return Unpooled.copiedBuffer(bytes);
+    }
+
+    @Override
+    public ByteBuf decodeValue(ByteBuffer bytes) {
+        return Unpooled.copiedBuffer(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(ByteBuf key) {
+
+        if (key == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        return key.nioBuffer();
+    }
+
+    @Override
+    public ByteBuffer encodeValue(ByteBuf value) {
+        return encodeKey(value);
+    }
+
+}
@@ -37,6 +37,45 @@ public class CRC16 {
             0x5C64, 0x4C45, 0x3CA2, 0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
             0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0 };
 
+    /**
+     * Slice-by-8 tables. {@code SLICES[k][b]} is the checksum contribution of byte {@code b} followed by {@code k} zero bytes.
+     * {@code SLICES[0]} is {@link #LOOKUP_TABLE}.
+     */
+    private static final int[][] SLICES = new int[8][];
+
+    static {
+
+        SLICES[0] = LOOKUP_TABLE;
+
+        for (int k = 1; k < SLICES.length; k++) {
+
+            int[] previous = SLICES[k - 1];
+            int[] table = new int[256];
+
+            for (int b = 0; b < 256; b++) {
+                table[b] = ((previous[b] << 8) ^ LOOKUP_TABLE[(previous[b] >>> 8) & 0xFF]) & 0xFFFF;
+            }
+
+            SLICES[k] = table;
+        }
+    }
+
+    private static final int[] T0 = SLICES[0];
+
+    private static final int[] T1 = SLICES[1];
+
+    private static final int[] T2 = SLICES[2];
+
+    private static final int[] T3 = SLICES[3];
+
+    private static final int[] T4 = SLICES[4];
+
+    private static final int[] T5 = SLICES[5];
+
+    private static final int[] T6 = SLICES[6];
+
+    private static final int[] T7 = SLICES[7];
+
     /**
      * Utility constructor.
      */
@@ -63,9 +102,17 @@ public class CRC16 {
     public static int crc16(byte[] bytes, int off, int len) {
 
         int crc = 0x0000;
+        int i = off;
         int end = off + len;
 
-        for (int i = off; i < end; i++) {
+        // slice-by-8: the 16 bit checksum only affects the first two bytes of each block
+        for (int blockEnd = end - 7; i < blockEnd; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes[i]) & 0xFF] ^ T6[(crc ^ bytes[i + 1]) & 0xFF] ^ T5[bytes[i + 2] & 0xFF]
+                    ^ T4[bytes[i + 3] & 0xFF] ^ T3[bytes[i + 4] & 0xFF] ^ T2[bytes[i + 5] & 0xFF] ^ T1[bytes[i + 6] & 0xFF]
+                    ^ T0[bytes[i + 7] & 0xFF];
+        }
+
+        for (; i < end; i++) {
             crc = doCrc(bytes[i], crc);
         }
 
@@ -81,12 +128,29 @@ public class CRC16 {
      */
     public static int crc16(ByteBuffer bytes) {
 
+        if (bytes.hasArray()) {
+
+            int crc = crc16(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            bytes.position(bytes.limit());
+            return crc;
+        }
+
         int crc = 0x0000;
+        int i = bytes.position();
+        int end = bytes.limit();
 
-        while (bytes.hasRemaining()) {
-            crc = doCrc(bytes.get(), crc);
+        for (int blockEnd = end - 7; i < blockEnd; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes.get(i)) & 0xFF] ^ T6[(crc ^ bytes.get(i + 1)) & 0xFF] ^ T5[bytes.get(i + 2) & 0xFF]
+                    ^ T4[bytes.get(i + 3) & 0xFF] ^ T3[bytes.get(i + 4) & 0xFF] ^ T2[bytes.get(i + 5) & 0xFF]
+                    ^ T1[bytes.get(i + 6) & 0xFF] ^ T0[bytes.get(i + 7) & 0xFF];
         }
 
+        for (; i < end; i++) {
+            crc = doCrc(bytes.get(i), crc);
+        }
+
+        bytes.position(end);
+
         return crc & 0xFFFF;
     }
 
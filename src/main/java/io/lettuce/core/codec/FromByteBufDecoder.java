@@ -0,0 +1,62 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. This is the decode-side counterpart of
+ * {@link ToByteBufEncoder} and allows codecs to consume bulk replies without going through a {@link java.nio.ByteBuffer} view.
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well. Outputs that are not
+ * {@link ByteBuf}-aware continue to use {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and
+ * {@link RedisCodec#decodeValue(java.nio.ByteBuffer)}.
+ * </p>
+ * <p>
+ * The buffer passed to the decode methods is a slice of the connection's read buffer and is only valid for the duration of the
+ * call. The read buffer is compacted after decoding so implementations must not keep a reference to the buffer (or derived
+ * slices). Implementations that hand out reference-counted buffers must transfer the content into a buffer they own, for
+ * example using {@link ByteBuf#copy()} which allocates from the same (typically pooled) allocator.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see ToByteBufEncoder
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes raw bytes of the key, must not be {@code null}.
+     * @return the decoded key, may be {@code null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes raw bytes of the value, must not be {@code null}.
+     * @return the decoded value, may be {@code null}.
+     */
+    V decodeValue(ByteBuf bytes);
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.datastructure.queue;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * A FIFO queue that supports O(1) removal of {@link Element elements} without allocating per-element nodes. Elements are stored
+ * in a ring buffer addressed by a monotonic sequence number. Each {@link Element} remembers its sequence number so that
+ * {@link #remove(Object)} can locate it directly. Removed elements leave an empty slot behind that is skipped when polling and
+ * reclaimed when the buffer is compacted.
+ * <p>
+ * Elements that do not implement {@link Element} and elements whose sequence number was overwritten by another queue fall back
+ * to a linear search. If an element was added more than once, {@link #remove(Object)} removes its most recent occurrence. The
+ * queue is not thread-safe.
+ *
+ * @param <E> element type.
+ * @since 7.6
+ * @see HashIndexedQueue
+ */
+@SuppressWarnings("unchecked")
+public class IntrusiveIndexedQueue<E> extends AbstractQueue<E> {
+
+    /**
+     * Marker for elements that are not part of a queue.
+     */
+    public static final long NO_INDEX = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] elements;
+
+    private long head;
+
+    private long tail;
+
+    private int size;
+
+    /**
+     * Element that stores its position within an {@link IntrusiveIndexedQueue}. The position is managed by the queue and must
+     * not be modified otherwise.
+     */
+    public interface Element {
+
+        /**
+         * @return the position of this element within its queue or {@link #NO_INDEX}.
+         */
+        long getQueueIndex();
+
+        /**
+         * @param index the position of this element within its queue or {@link #NO_INDEX}.
+         */
+        void setQueueIndex(long index);
+
+    }
+
+    /**
+     * Create a new instance of the {@link IntrusiveIndexedQueue}.
+     */
+    public IntrusiveIndexedQueue() {
+        this.elements = new Object[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean offer(E e) {
+
+        LettuceAssert.notNull(e, "Element must not be null");
+
+        if (tail - head == elements.length) {
+            resize();
+        }
+
+        elements[slot(tail)] = e;
+
+        if (e instanceof Element) {
+            ((Element) e).setQueueIndex(tail);
+        }
+
+        tail++;
+        size++;
+        return true;
+    }
+
+    @Override
+    public E poll() {
+
+        if (size == 0) {
+            return null;
+        }
+
+        E e = (E) elements[slot(head)];
+        removeAt(head);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        return size == 0 ? null : (E) elements[slot(head)];
+    }
+
+    @Override
+    public boolean remove(Object o) {
+
+        long index = indexOf(o);
+
+        if (index == NO_INDEX) {
+            return false;
+        }
+
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != NO_INDEX;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+
+        for (long i = head; i < tail; i++) {
+
+            Object e = elements[slot(i)];
+            if (e != null) {
+                clearIndex(e, i);
+            }
+        }
+
+        Arrays.fill(elements, null);
+        head = tail;
+        size = 0;
+    }
+
+    @Override
+    public java.util.Iterator<E> iterator() {
+        return new Iterator();
+    }
+
+    private long indexOf(Object o) {
+
+        if (o == null || size == 0) {
+            return NO_INDEX;
+        }
+
+        if (o instanceof Element) {
+
+            long index = ((Element) o).getQueueIndex();
+            if (index >= head && index < tail && elements[slot(index)] == o) {
+                return index;
+            }
+        }
+
+        for (long i = head; i < tail; i++) {
+
+            Object e = elements[slot(i)];
+            if (e != null && o.equals(e)) {
+                return i;
+            }
+        }
+
+        return NO_INDEX;
+    }
+
+    private void removeAt(long index) {
+
+        int slot = slot(index);
+
+        clearIndex(elements[slot], index);
+        elements[slot] = null;
+        size--;
+
+        if (index == head) {
+            while (head < tail && elements[slot(head)] == null) {
+                head++;
+            }
+        } else if (index == tail - 1) {
+            while (tail > head && elements[slot(tail - 1)] == null) {
+                tail--;
+            }
+        }
+    }
+
+    /**
+     * Grow the buffer if it is mostly occupied by elements, otherwise compact it by dropping the slots of removed elements.
+     */
+    private void resize() {
+
+        int capacity = size > elements.length / 2 ? elements.length * 2 : elements.length;
+        LettuceAssert.assertState(capacity > 0, "Queue capacity exceeded");
+
+        Object[] target = new Object[capacity];
+        long index = 0;
+
+        for (long i = head; i < tail; i++) {
+
+            Object e = elements[slot(i)];
+            if (e == null) {
+                continue;
+            }
+
+            if (e instanceof Element && ((Element) e).getQueueIndex() == i) {
+                ((Element) e).setQueueIndex(index);
+            }
+
+            target[(int) index++] = e;
+        }
+
+        elements = target;
+        head = 0;
+        tail = index;
+    }
+
+    private int slot(long index) {
+        return (int) (index & (elements.length - 1));
+    }
+
+    private static void clearIndex(Object e, long index) {
+
+        if (e instanceof Element && ((Element) e).getQueueIndex() == index) {
+            ((Element) e).setQueueIndex(NO_INDEX);
+        }
+    }
+
+    private class Iterator implements java.util.Iterator<E> {
+
+        private long next = head;
+
+        private long last = NO_INDEX;
+
+        @Override
+        public boolean hasNext() {
+
+            while (next < tail && elements[slot(next)] == null) {
+                next++;
+            }
+
+            return next < tail;
+        }
+
+        @Override
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            last = next++;
+            return (E) elements[slot(last)];
+        }
+
+        @Override
+        public void remove() {
+
+            LettuceAssert.assertState(last != NO_INDEX && elements[slot(last)] != null, "No element to remove");
+
+            removeAt(last);
+            last = NO_INDEX;
+        }
+
+    }
+
+}
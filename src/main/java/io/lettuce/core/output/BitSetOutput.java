@@ -0,0 +1,47 @@
+package io.lettuce.core.output;
+
+import java.util.BitSet;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link BitSet} output for array replies of booleans. The bit at a given index is set if the element at that index is
+ * {@code true} or {@code 1}. Elements are stored without boxing.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see BooleanListOutput
+ */
+public class BitSetOutput<K, V> extends CommandOutput<K, V, BitSet> {
+
+    private int index;
+
+    public BitSetOutput(RedisCodec<K, V> codec) {
+        super(codec, new BitSet());
+    }
+
+    @Override
+    public void set(long integer) {
+        set(integer == 1);
+    }
+
+    @Override
+    public void set(boolean value) {
+
+        if (value) {
+            output.set(index);
+        }
+
+        index++;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (index == 0 && output.isEmpty() && count > 64) {
+            output = new BitSet(count);
+        }
+    }
+
+}
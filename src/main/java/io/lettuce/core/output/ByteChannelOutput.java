@@ -0,0 +1,73 @@
+package io.lettuce.core.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Output that streams a {@code bulk} response value to a {@link WritableByteChannel} as its bytes arrive instead of
+ * accumulating the value in memory. The output is the number of bytes written to the channel or {@code null} if the response
+ * value was {@code null}.
+ * <p>
+ * The channel is written from the I/O thread and is expected to be blocking. An {@link java.io.OutputStream} can be adapted
+ * using {@link java.nio.channels.Channels#newChannel(java.io.OutputStream)}. The channel is not closed by this output. Once
+ * writing to the channel fails, remaining chunks are discarded and the command is completed exceptionally.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+public class ByteChannelOutput<K, V> extends CommandOutput<K, V, Long> {
+
+    private final WritableByteChannel channel;
+
+    private boolean failed;
+
+    public ByteChannelOutput(RedisCodec<K, V> codec, WritableByteChannel channel) {
+
+        super(codec, null);
+
+        LettuceAssert.notNull(channel, "WritableByteChannel must not be null");
+
+        this.channel = channel;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes != null) {
+            setPartial(bytes, true);
+        }
+    }
+
+    @Override
+    public void setPartial(ByteBuffer bytes, boolean last) {
+
+        if (output == null) {
+            output = 0L;
+        }
+
+        if (failed) {
+            return;
+        }
+
+        try {
+            while (bytes.hasRemaining()) {
+                output += channel.write(bytes);
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean isPartialAware() {
+        return true;
+    }
+
+}
@@ -22,8 +22,10 @@ package io.lettuce.core.output;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Base class for Redis command outputs.
@@ -81,6 +83,55 @@ public abstract class CommandOutput<K, V, T> {
         throw new UnsupportedOperationException(getClass().getName() + " does not support set(ByteBuffer)");
     }
 
+    /**
+     * Update the command output with a sequence of bytes backed by a {@link ByteBuf}. This method is only called for
+     * {@code bulk} response values if {@link #isByteBufAware()} returns {@code true}. The buffer is only valid for the duration
+     * of the call and must not be retained. {@code null} bulk strings are still reported through {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output.
+     * @since 7.6
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
+    /**
+     * Returns whether this output consumes {@code bulk} response values through {@link #setByteBuf(ByteBuf)}. Outputs typically
+     * return {@code true} if their codec implements {@link FromByteBufDecoder}.
+     *
+     * @return {@code true} if this output wants to receive bulk response values as {@link ByteBuf}.
+     * @since 7.6
+     */
+    public boolean isByteBufAware() {
+        return false;
+    }
+
+    /**
+     * Update the command output with a part of a {@code bulk} response value. This method is only called if
+     * {@link #isPartialAware()} returns {@code true}. Bulk response values are then emitted in one or more chunks as their
+     * bytes arrive instead of being accumulated until the whole value is received. The last chunk of a value is flagged with
+     * {@code last} and may be empty. The buffer is only valid for the duration of the call and must not be retained.
+     * {@code null} bulk strings are still reported through {@link #set(ByteBuffer)}.
+     *
+     * @param bytes the chunk of the response value.
+     * @param last {@code true} if {@code bytes} is the last chunk of the response value.
+     * @since 7.6
+     */
+    public void setPartial(ByteBuffer bytes, boolean last) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support setPartial(ByteBuffer, boolean)");
+    }
+
+    /**
+     * Returns whether this output consumes {@code bulk} response values in chunks through
+     * {@link #setPartial(ByteBuffer, boolean)}. Takes precedence over {@link #isByteBufAware()}.
+     *
+     * @return {@code true} if this output wants to receive bulk response values in chunks.
+     * @since 7.6
+     */
+    public boolean isPartialAware() {
+        return false;
+    }
+
     /**
      * Update the command output with a sequence of bytes, or {@code null} representing a simple string. Concrete
      * {@link CommandOutput} implementations must override this method to decode {@code single}/bytes response values.
@@ -0,0 +1,63 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceStrings;
+
+/**
+ * {@code double[]} output for array replies of floating-point numbers. Elements are stored as primitives without boxing and
+ * accept both RESP 3 doubles and their RESP 2 bulk string representation. {@code nil} elements are reported as
+ * {@link Double#NaN}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see DoubleListOutput
+ */
+public class DoubleArrayOutput<K, V> extends CommandOutput<K, V, double[]> {
+
+    private static final double[] EMPTY = new double[0];
+
+    private boolean initialized;
+
+    private int size;
+
+    public DoubleArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, EMPTY);
+    }
+
+    @Override
+    public void set(double number) {
+
+        if (size == output.length) {
+            output = Arrays.copyOf(output, Math.max(8, size * 2));
+        }
+
+        output[size++] = number;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        set(bytes != null ? LettuceStrings.toDouble(decodeString(bytes)) : Double.NaN);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            output = count > 0 ? new double[count] : EMPTY;
+            initialized = true;
+        }
+    }
+
+    @Override
+    public void complete(int depth) {
+
+        if (depth == 0 && size != output.length) {
+            output = Arrays.copyOf(output, size);
+        }
+    }
+
+}
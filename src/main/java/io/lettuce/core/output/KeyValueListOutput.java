@@ -6,8 +6,10 @@ import java.util.Iterator;
 import java.util.List;
 
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of {@link KeyValue} output. Can be either used to decode key-value tuples (e.g. {@code HGETALL}) of for a pure
@@ -70,6 +72,38 @@ public class KeyValueListOutput<K, V> extends CommandOutput<K, V, List<KeyValue<
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        FromByteBufDecoder<K, V> decoder = (FromByteBufDecoder<K, V>) codec;
+
+        if (keys == null) {
+            if (!hasKey) {
+                key = decoder.decodeKey(bytes);
+                hasKey = true;
+                return;
+            }
+
+            K key = this.key;
+            this.key = null;
+            this.hasKey = false;
+            subscriber.onNext(output, KeyValue.fromNullable(key, decoder.decodeValue(bytes)));
+
+        } else {
+            if (keyIterator == null) {
+                keyIterator = keys.iterator();
+            }
+
+            subscriber.onNext(output, KeyValue.fromNullable(keyIterator.next(), decoder.decodeValue(bytes)));
+        }
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return codec instanceof FromByteBufDecoder;
+    }
+
     @Override
     public void multi(int count) {
 
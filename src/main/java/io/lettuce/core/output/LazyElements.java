@@ -0,0 +1,154 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.codec.FromByteBufDecoder;
+import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Raw storage for {@code bulk} response values that are decoded on access. Values are appended to a single buffer and addressed
+ * by their offset and length. {@code null} values are recorded with a negative length.
+ * <p>
+ * The buffer is heap-backed and owned by this instance so that the decoded views can outlive the connection's aggregation
+ * buffer without requiring explicit release.
+ *
+ * @since 7.6
+ */
+final class LazyElements {
+
+    private static final int[] EMPTY = new int[0];
+
+    private ByteBuf data;
+
+    private int[] offsets = EMPTY;
+
+    private int[] lengths = EMPTY;
+
+    private int size;
+
+    /**
+     * Pre-size the storage for {@code count} elements.
+     *
+     * @param count expected number of elements.
+     */
+    void ensureCapacity(int count) {
+
+        if (count > offsets.length) {
+            offsets = Arrays.copyOf(offsets, count);
+            lengths = Arrays.copyOf(lengths, count);
+        }
+    }
+
+    void add(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            append(0, -1);
+            return;
+        }
+
+        int length = bytes.remaining();
+        int offset = reserve(length);
+        data.writeBytes(bytes.duplicate());
+        append(offset, length);
+    }
+
+    void add(ByteBuf bytes) {
+
+        int length = bytes.readableBytes();
+        int offset = reserve(length);
+        data.writeBytes(bytes, bytes.readerIndex(), length);
+        append(offset, length);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isNull(int index) {
+        return lengths[index] < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    <K, V> K decodeKey(RedisCodec<K, V> codec, int index) {
+
+        if (isNull(index)) {
+            return null;
+        }
+
+        if (codec instanceof FromByteBufDecoder) {
+            return ((FromByteBufDecoder<K, V>) codec).decodeKey(slice(index));
+        }
+
+        return codec.decodeKey(data.nioBuffer(offsets[index], lengths[index]));
+    }
+
+    @SuppressWarnings("unchecked")
+    <K, V> V decodeValue(RedisCodec<K, V> codec, int index) {
+
+        if (isNull(index)) {
+            return null;
+        }
+
+        if (codec instanceof FromByteBufDecoder) {
+            return ((FromByteBufDecoder<K, V>) codec).decodeValue(slice(index));
+        }
+
+        return codec.decodeValue(data.nioBuffer(offsets[index], lengths[index]));
+    }
+
+    /**
+     * @return the raw bytes of the element at {@code index} as read-only view or {@code null}.
+     */
+    ByteBuffer getBytes(int index) {
+        return isNull(index) ? null : data.nioBuffer(offsets[index], lengths[index]).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return hash code of the raw bytes of the element at {@code index}.
+     */
+    int hash(int index) {
+        return isNull(index) ? 0 : ByteBufUtil.hashCode(slice(index));
+    }
+
+    /**
+     * @return {@code true} if the raw bytes of the element at {@code index} are equal to {@code bytes}.
+     */
+    boolean equals(int index, ByteBuf bytes) {
+
+        if (isNull(index)) {
+            return false;
+        }
+
+        return lengths[index] == bytes.readableBytes()
+                && ByteBufUtil.equals(data, offsets[index], bytes, bytes.readerIndex(), lengths[index]);
+    }
+
+    private ByteBuf slice(int index) {
+        return data.slice(offsets[index], lengths[index]);
+    }
+
+    private int reserve(int length) {
+
+        if (data == null) {
+            data = Unpooled.buffer(Math.max(length, 256));
+        }
+
+        return data.writerIndex();
+    }
+
+    private void append(int offset, int length) {
+
+        if (size == offsets.length) {
+            ensureCapacity(Math.max(8, size * 2));
+        }
+
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+}
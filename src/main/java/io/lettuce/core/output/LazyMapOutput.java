@@ -0,0 +1,228 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.MathUtil;
+
+/**
+ * {@link Map} of keys and values output that defers decoding. Unlike {@link MapOutput}, keys and values are retained in their
+ * raw form and decoded through the codec on access. Useful for large replies such as {@code HGETALL} on big hashes of which
+ * only a few fields are inspected.
+ * <p>
+ * {@link Map#get(Object)} and {@link Map#containsKey(Object)} encode the requested key and compare it against the raw keys
+ * without decoding them. This requires the codec to encode keys deterministically, i.e. encoding a decoded key yields the
+ * original bytes. The lookup index is built on first use. Iteration preserves the order of the response and decodes each entry
+ * as it is visited.
+ * <p>
+ * The resulting map is unmodifiable.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see MapOutput
+ */
+public class LazyMapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
+
+    private final LazyElements elements = new LazyElements();
+
+    private boolean initialized;
+
+    public LazyMapOutput(RedisCodec<K, V> codec) {
+        super(codec, Collections.emptyMap());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        elements.add(bytes);
+    }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        elements.add(bytes);
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return true;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            elements.ensureCapacity(count);
+            output = new LazyMap<>(codec, elements);
+            initialized = true;
+        }
+    }
+
+    static class LazyMap<K, V> extends AbstractMap<K, V> {
+
+        private final RedisCodec<K, V> codec;
+
+        private final LazyElements elements;
+
+        private int[] index;
+
+        private Set<Entry<K, V>> entrySet;
+
+        LazyMap(RedisCodec<K, V> codec, LazyElements elements) {
+            this.codec = codec;
+            this.elements = elements;
+        }
+
+        @Override
+        public int size() {
+            return elements.size() / 2;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) != -1;
+        }
+
+        @Override
+        public V get(Object key) {
+
+            int entry = indexOf(key);
+            return entry == -1 ? null : elements.decodeValue(codec, entry * 2 + 1);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+
+            if (entrySet == null) {
+                entrySet = new EntrySet();
+            }
+
+            return entrySet;
+        }
+
+        /**
+         * @return the entry number of {@code key} or {@code -1} if the map does not contain {@code key}.
+         */
+        @SuppressWarnings("unchecked")
+        private int indexOf(Object key) {
+
+            if (key == null) {
+
+                for (int i = size() - 1; i >= 0; i--) {
+                    if (elements.isNull(i * 2)) {
+                        return i;
+                    }
+                }
+
+                return -1;
+            }
+
+            ByteBuffer encoded;
+            try {
+                encoded = codec.encodeKey((K) key);
+            } catch (ClassCastException e) {
+                return -1;
+            }
+
+            ByteBuf bytes = Unpooled.wrappedBuffer(encoded);
+            int[] index = getIndex();
+            int mask = index.length - 1;
+
+            for (int slot = ByteBufUtil.hashCode(bytes) & mask;; slot = (slot + 1) & mask) {
+
+                int entry = index[slot] - 1;
+
+                if (entry == -1) {
+                    return -1;
+                }
+
+                if (elements.equals(entry * 2, bytes)) {
+                    return entry;
+                }
+            }
+        }
+
+        /**
+         * Build an open-addressing index over the raw keys. Slots hold the entry number plus one, zero marks an empty slot.
+         * Later entries replace earlier ones with the same key.
+         */
+        private int[] getIndex() {
+
+            if (index != null) {
+                return index;
+            }
+
+            int size = size();
+            int[] index = new int[MathUtil.safeFindNextPositivePowerOfTwo(Math.max(2, size * 2))];
+            int mask = index.length - 1;
+
+            for (int entry = 0; entry < size; entry++) {
+
+                if (elements.isNull(entry * 2)) {
+                    continue;
+                }
+
+                int slot = elements.hash(entry * 2) & mask;
+                while (index[slot] != 0 && !sameKey(index[slot] - 1, entry)) {
+                    slot = (slot + 1) & mask;
+                }
+
+                index[slot] = entry + 1;
+            }
+
+            return this.index = index;
+        }
+
+        private boolean sameKey(int entry, int other) {
+
+            ByteBuffer bytes = elements.getBytes(other * 2);
+            return elements.equals(entry * 2, Unpooled.wrappedBuffer(bytes));
+        }
+
+        class EntrySet extends AbstractSet<Entry<K, V>> {
+
+            @Override
+            public int size() {
+                return LazyMap.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+
+                return new Iterator<Entry<K, V>>() {
+
+                    private int entry;
+
+                    @Override
+                    public boolean hasNext() {
+                        return entry < LazyMap.this.size();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        int i = entry++ * 2;
+                        return new SimpleImmutableEntry<>(elements.decodeKey(codec, i), elements.decodeValue(codec, i + 1));
+                    }
+
+                };
+            }
+
+        }
+
+    }
+
+}
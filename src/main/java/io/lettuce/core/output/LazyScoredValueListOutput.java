@@ -0,0 +1,126 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceStrings;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@link List} of values and their associated scores that defers decoding. Unlike {@link ScoredValueListOutput}, values are
+ * retained in their raw form and decoded through the codec on each {@link List#get(int) access}. Scores reported as
+ * {@code double} are stored as primitives; scores reported as bulk strings are parsed on access.
+ * <p>
+ * The resulting list is unmodifiable.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see ScoredValueListOutput
+ */
+public class LazyScoredValueListOutput<K, V> extends CommandOutput<K, V, List<ScoredValue<V>>> {
+
+    private final LazyElements values = new LazyElements();
+
+    private final LazyElements rawScores = new LazyElements();
+
+    private double[] scores = new double[0];
+
+    private int scoreCount;
+
+    private boolean hasValue;
+
+    private boolean initialized;
+
+    public LazyScoredValueListOutput(RedisCodec<K, V> codec) {
+        super(codec, Collections.emptyList());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (!hasValue) {
+            values.add(bytes);
+            hasValue = true;
+            return;
+        }
+
+        rawScores.add(bytes);
+        hasValue = false;
+    }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (!hasValue) {
+            values.add(bytes);
+            hasValue = true;
+            return;
+        }
+
+        rawScores.add(bytes);
+        hasValue = false;
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return true;
+    }
+
+    @Override
+    public void set(double number) {
+
+        if (scoreCount == scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(8, scoreCount * 2));
+        }
+
+        scores[scoreCount++] = number;
+        hasValue = false;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            values.ensureCapacity(count);
+            output = new LazyList();
+            initialized = true;
+        }
+    }
+
+    class LazyList extends AbstractList<ScoredValue<V>> implements RandomAccess {
+
+        @Override
+        public ScoredValue<V> get(int index) {
+
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return ScoredValue.just(getScore(index), values.decodeValue(codec, index));
+        }
+
+        @Override
+        public int size() {
+            return Math.max(scoreCount, rawScores.size());
+        }
+
+        private double getScore(int index) {
+
+            if (index < scoreCount) {
+                return scores[index];
+            }
+
+            return LettuceStrings.toDouble(StandardCharsets.US_ASCII.decode(rawScores.getBytes(index)).toString());
+        }
+
+    }
+
+}
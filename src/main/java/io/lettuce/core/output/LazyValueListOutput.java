@@ -0,0 +1,93 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@link List} of values output that defers decoding. Unlike {@link ValueListOutput}, response values are retained in their raw
+ * form and decoded through the codec on each {@link List#get(int) access}. Useful for large replies of which only a few
+ * elements are inspected.
+ * <p>
+ * The resulting list is unmodifiable.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see ValueListOutput
+ */
+public class LazyValueListOutput<K, V> extends CommandOutput<K, V, List<V>> {
+
+    private final LazyElements elements = new LazyElements();
+
+    private boolean initialized;
+
+    public LazyValueListOutput(RedisCodec<K, V> codec) {
+        super(codec, Collections.emptyList());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        // RESP 3 behavior
+        if (bytes == null && !initialized) {
+            return;
+        }
+
+        elements.add(bytes);
+    }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        elements.add(bytes);
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return true;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            elements.ensureCapacity(count);
+            output = new LazyList<>(codec, elements);
+            initialized = true;
+        }
+    }
+
+    static class LazyList<V> extends AbstractList<V> implements RandomAccess {
+
+        private final RedisCodec<?, V> codec;
+
+        private final LazyElements elements;
+
+        LazyList(RedisCodec<?, V> codec, LazyElements elements) {
+            this.codec = codec;
+            this.elements = elements;
+        }
+
+        @Override
+        public V get(int index) {
+
+            if (index < 0 || index >= elements.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+            }
+
+            return elements.decodeValue(codec, index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@code long[]} output for array replies of integers. Elements are stored as primitives without boxing. {@code nil} elements
+ * are reported as {@code 0} and cannot be told apart from an actual {@code 0}, use {@link IntegerListOutput} if {@code nil}
+ * elements are significant. A {@code nil} reply yields an empty array.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see IntegerListOutput
+ */
+public class LongArrayOutput<K, V> extends CommandOutput<K, V, long[]> {
+
+    private static final long[] EMPTY = new long[0];
+
+    private boolean initialized;
+
+    private int size;
+
+    public LongArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, EMPTY);
+    }
+
+    @Override
+    public void set(long integer) {
+
+        if (size == output.length) {
+            output = Arrays.copyOf(output, Math.max(8, size * 2));
+        }
+
+        output[size++] = integer;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        // nil results should produce an empty array
+        if (bytes == null && !initialized) {
+            return;
+        }
+
+        if (bytes == null) {
+            set(0L);
+            return;
+        }
+
+        super.set(bytes);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            output = count > 0 ? new long[count] : EMPTY;
+            initialized = true;
+        }
+    }
+
+    @Override
+    public void complete(int depth) {
+
+        if (depth == 0 && size != output.length) {
+            output = Arrays.copyOf(output, size);
+        }
+    }
+
+}
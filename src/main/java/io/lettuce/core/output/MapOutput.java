@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link Map} of keys and values output.
@@ -62,6 +64,29 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         hasKey = false;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        FromByteBufDecoder<K, V> decoder = (FromByteBufDecoder<K, V>) codec;
+
+        if (!hasKey) {
+            key = decoder.decodeKey(bytes);
+            hasKey = true;
+            return;
+        }
+
+        V value = decoder.decodeValue(bytes);
+        output.put(key, value);
+        key = null;
+        hasKey = false;
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return codec instanceof FromByteBufDecoder;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
@@ -23,8 +23,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -56,6 +58,17 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes));
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return codec instanceof FromByteBufDecoder;
+    }
+
     @Override
     public void multi(int count) {
 
@@ -21,7 +21,9 @@ package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Value output.
@@ -43,4 +45,15 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+        output = ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes);
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return codec instanceof FromByteBufDecoder;
+    }
+
 }
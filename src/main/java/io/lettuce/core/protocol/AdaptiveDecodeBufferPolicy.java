@@ -0,0 +1,235 @@
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.MetricCollector;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.internal.MathUtil;
+
+/**
+ * Adaptive discard policy that derives its decisions from the observed workload of each connection. The policy tracks moving
+ * averages of the reply size and of the aggregation buffer usage per connection and
+ * <ul>
+ * <li>resets empty buffers without moving any bytes,</li>
+ * <li>discards read bytes only if the read portion dominates the buffer or the remaining room is unlikely to fit the next
+ * reply, avoiding repeated {@link ByteBuf#discardReadBytes() memory moves} for small steady replies,</li>
+ * <li>shrinks buffers that have grown far beyond their typical usage, e.g. after a burst of large replies.</li>
+ * </ul>
+ * Connections obtain their own stateful instance through {@link #forConnection()}. Decisions of all connections are aggregated
+ * into {@link DecodeBufferMetrics} that can be obtained through {@link MetricCollector#retrieveMetrics()}. Use a separate
+ * policy instance per client to observe a subset of connections, e.g. a single shard. Using this policy directly without
+ * {@link #forConnection()} falls back to {@link ByteBuf#discardSomeReadBytes()}.
+ *
+ * @since 7.6
+ * @see DecodeBufferPolicies#adaptive()
+ */
+public class AdaptiveDecodeBufferPolicy implements DecodeBufferPolicy, MetricCollector<DecodeBufferMetrics> {
+
+    /**
+     * Default minimum capacity. Matches the initial capacity of the aggregation buffer.
+     */
+    public static final int DEFAULT_MIN_CAPACITY = 64 * 1024;
+
+    /**
+     * Exponent of the moving average weight ({@code 1/2^n}).
+     */
+    private static final int AVERAGE_SHIFT = 3;
+
+    /**
+     * Buffers are shrunk once their capacity exceeds the target capacity by this factor.
+     */
+    private static final int SHRINK_FACTOR = 4;
+
+    private final int minCapacity;
+
+    private final LongAdder replies = new LongAdder();
+
+    private final LongAdder replyBytes = new LongAdder();
+
+    private final LongAdder discards = new LongAdder();
+
+    private final LongAdder skippedDiscards = new LongAdder();
+
+    private final LongAdder shrinks = new LongAdder();
+
+    private final LongAdder releasedBytes = new LongAdder();
+
+    /**
+     * Create a new {@link AdaptiveDecodeBufferPolicy}.
+     *
+     * @param minCapacity the minimum capacity to which buffers are shrunk, must be greater than zero.
+     */
+    AdaptiveDecodeBufferPolicy(int minCapacity) {
+
+        LettuceAssert.isTrue(minCapacity > 0, "Minimum capacity must be greater than zero");
+
+        this.minCapacity = minCapacity;
+    }
+
+    @Override
+    public DecodeBufferPolicy forConnection() {
+        return new ConnectionPolicy(this);
+    }
+
+    @Override
+    public void afterPartialDecode(ByteBuf buffer) {
+        buffer.discardSomeReadBytes();
+    }
+
+    @Override
+    public void afterCommandDecoded(ByteBuf buffer) {
+        buffer.discardSomeReadBytes();
+    }
+
+    @Override
+    public void afterDecoding(ByteBuf buffer) {
+        buffer.discardSomeReadBytes();
+    }
+
+    /**
+     * @return the minimum capacity to which buffers are shrunk.
+     */
+    public int getMinCapacity() {
+        return minCapacity;
+    }
+
+    @Override
+    public DecodeBufferMetrics retrieveMetrics() {
+        return new DecodeBufferMetrics(replies.sum(), replyBytes.sum(), discards.sum(), skippedDiscards.sum(), shrinks.sum(),
+                releasedBytes.sum());
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    /**
+     * Per-connection policy state. Accessed only from the connection's event loop.
+     */
+    static class ConnectionPolicy implements DecodeBufferPolicy {
+
+        private final AdaptiveDecodeBufferPolicy parent;
+
+        private long averageReplySize;
+
+        private long averageUsage;
+
+        private long replyBytes;
+
+        private int lastReaderIndex;
+
+        ConnectionPolicy(AdaptiveDecodeBufferPolicy parent) {
+            this.parent = parent;
+            this.averageUsage = parent.minCapacity / 2;
+        }
+
+        @Override
+        public void afterPartialDecode(ByteBuf buffer) {
+
+            track(buffer);
+
+            // keep the partial reply in place unless the buffer would need to grow to fit its remainder
+            if (buffer.readerIndex() >= buffer.capacity() / 2 || buffer.writableBytes() < averageReplySize) {
+                discard(buffer);
+            } else {
+                parent.skippedDiscards.increment();
+            }
+        }
+
+        @Override
+        public void afterCommandDecoded(ByteBuf buffer) {
+
+            track(buffer);
+
+            averageReplySize = average(averageReplySize, replyBytes);
+            parent.replies.increment();
+            parent.replyBytes.add(replyBytes);
+            replyBytes = 0;
+        }
+
+        @Override
+        public void afterDecoding(ByteBuf buffer) {
+
+            track(buffer);
+
+            averageUsage = average(averageUsage, buffer.writerIndex());
+
+            if (!buffer.isReadable()) {
+                buffer.clear();
+                lastReaderIndex = 0;
+            } else if (buffer.readerIndex() >= buffer.capacity() / 2 || buffer.writableBytes() < averageReplySize) {
+                discard(buffer);
+            } else {
+                parent.skippedDiscards.increment();
+            }
+
+            shrinkIfNecessary(buffer);
+        }
+
+        long getAverageReplySize() {
+            return averageReplySize;
+        }
+
+        long getAverageUsage() {
+            return averageUsage;
+        }
+
+        /**
+         * @return the capacity that fits the typical buffer usage of this connection.
+         */
+        int getTargetCapacity() {
+            return Math.max(parent.minCapacity,
+                    MathUtil.safeFindNextPositivePowerOfTwo((int) Math.min(averageUsage * 2, 1 << 30)));
+        }
+
+        private void track(ByteBuf buffer) {
+
+            int readerIndex = buffer.readerIndex();
+
+            // buffer was reset outside of this policy
+            if (readerIndex < lastReaderIndex) {
+                lastReaderIndex = 0;
+            }
+
+            replyBytes += readerIndex - lastReaderIndex;
+            lastReaderIndex = readerIndex;
+        }
+
+        private void discard(ByteBuf buffer) {
+
+            if (buffer.readerIndex() == 0) {
+                return;
+            }
+
+            if (buffer.isReadable()) {
+                parent.discards.increment();
+            }
+
+            buffer.discardReadBytes();
+            lastReaderIndex = 0;
+        }
+
+        private void shrinkIfNecessary(ByteBuf buffer) {
+
+            int capacity = buffer.capacity();
+            int target = getTargetCapacity();
+
+            if (capacity < target * SHRINK_FACTOR || buffer.readableBytes() > target / 2) {
+                return;
+            }
+
+            discard(buffer);
+            buffer.capacity(target);
+
+            parent.shrinks.increment();
+            parent.releasedBytes.add(capacity - buffer.capacity());
+        }
+
+        private static long average(long average, long sample) {
+            return average + ((sample - average) >> AVERAGE_SHIFT);
+        }
+
+    }
+
+}
@@ -0,0 +1,212 @@
+package io.lettuce.core.protocol;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * A netty {@link ChannelHandler} responsible for encoding commands that aggregates consecutive writes into a single buffer
+ * until the channel is flushed.
+ * <p>
+ * {@link CommandEncoder} allocates a buffer per written message so that a flush of many individually written commands results
+ * in many small buffers. This encoder instead appends each written command to a per-channel aggregate buffer that is sized
+ * upfront using the estimated encoded size of the written commands (see
+ * {@link io.lettuce.core.codec.ToByteBufEncoder#estimateSize(Object)}) and written as a whole on {@link #flush flush}. Write
+ * promises complete once the aggregate buffer was written.
+ * <p>
+ * Messages other than commands and commands with {@link StreamingArgument streaming arguments} are passed through after writing
+ * the aggregated commands to retain the write order.
+ *
+ * @since 7.6
+ * @see CommandEncoder
+ */
+public class AggregatingCommandEncoder extends CommandEncoder {
+
+    /**
+     * Upper bound for the sizing hint carried over from a previous flush.
+     */
+    static final int MAX_SIZE_HINT = 64 * 1024;
+
+    private static final int MIN_BUFFER_SIZE = 256;
+
+    private final boolean preferDirect;
+
+    private final List<ChannelPromise> promises = new ArrayList<>();
+
+    private ByteBuf buffer;
+
+    private int sizeHint = MIN_BUFFER_SIZE;
+
+    public AggregatingCommandEncoder() {
+        this(PlatformDependent.directBufferPreferred());
+    }
+
+    public AggregatingCommandEncoder(boolean preferDirect) {
+        super(preferDirect);
+        this.preferDirect = preferDirect;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+
+        if (!(msg instanceof RedisCommand) && !(msg instanceof Collection)) {
+            writeAggregate(ctx);
+            ctx.write(msg, promise);
+            return;
+        }
+
+        if (isStreaming(msg)) {
+            writeAggregate(ctx);
+            super.write(ctx, msg, promise);
+            return;
+        }
+
+        int estimate = estimateSize(msg);
+
+        if (buffer == null) {
+            buffer = allocate(ctx, Math.max(estimate, sizeHint));
+        } else {
+            buffer.ensureWritable(estimate);
+        }
+
+        int writerIndex = buffer.writerIndex();
+
+        try {
+            encode(ctx, msg, buffer);
+        } catch (Exception e) {
+            buffer.writerIndex(writerIndex);
+            throw e;
+        }
+
+        promises.add(promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+
+        writeAggregate(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+
+        discardAggregate(new ClosedChannelException());
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+
+        discardAggregate(new ClosedChannelException());
+        super.handlerRemoved(ctx);
+    }
+
+    /**
+     * @return number of bytes aggregated and not yet written.
+     */
+    int getAggregatedBytes() {
+        return buffer != null ? buffer.readableBytes() : 0;
+    }
+
+    private void writeAggregate(ChannelHandlerContext ctx) {
+
+        if (buffer == null) {
+            return;
+        }
+
+        ByteBuf aggregate = this.buffer;
+        ChannelPromise[] pending = promises.toArray(new ChannelPromise[0]);
+
+        this.buffer = null;
+        this.promises.clear();
+        this.sizeHint = Math.min(Math.max(aggregate.readableBytes(), MIN_BUFFER_SIZE), MAX_SIZE_HINT);
+
+        ctx.write(aggregate).addListener(new PromiseListener(pending));
+    }
+
+    private void discardAggregate(Throwable cause) {
+
+        if (buffer == null) {
+            return;
+        }
+
+        buffer.release();
+        buffer = null;
+
+        for (ChannelPromise promise : promises) {
+            promise.tryFailure(cause);
+        }
+        promises.clear();
+    }
+
+    private ByteBuf allocate(ChannelHandlerContext ctx, int initialCapacity) {
+        return preferDirect ? ctx.alloc().ioBuffer(initialCapacity) : ctx.alloc().heapBuffer(initialCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    static int estimateSize(Object msg) {
+
+        if (msg instanceof RedisCommand) {
+            return estimateSize((RedisCommand<?, ?, ?>) msg);
+        }
+
+        int size = 0;
+        for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+            size += estimateSize(command);
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the encoded size of {@code command}: array header, command type and arguments.
+     */
+    static int estimateSize(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> unwrapped = CommandWrapper.unwrap(command);
+        if (unwrapped instanceof CommandTemplate.TemplateCommand) {
+            return ((CommandTemplate.TemplateCommand<?, ?, ?>) unwrapped).estimateSize();
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return CommandArgs.FRAMING_SIZE * 2 + (args != null ? args.estimateSize() : 0);
+    }
+
+    /**
+     * Completes the promises of the aggregated writes once the aggregate buffer was written.
+     */
+    static class PromiseListener implements ChannelFutureListener {
+
+        private final ChannelPromise[] promises;
+
+        PromiseListener(ChannelPromise[] promises) {
+            this.promises = promises;
+        }
+
+        @Override
+        public void operationComplete(ChannelFuture future) {
+
+            if (future.isSuccess()) {
+                for (ChannelPromise promise : promises) {
+                    promise.trySuccess();
+                }
+                return;
+            }
+
+            for (ChannelPromise promise : promises) {
+                promise.tryFailure(future.cause());
+            }
+        }
+
+    }
+
+}
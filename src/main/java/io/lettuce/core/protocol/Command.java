@@ -19,6 +19,7 @@
  */
 package io.lettuce.core.protocol;
 
+import io.lettuce.core.datastructure.queue.IntrusiveIndexedQueue;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
@@ -34,7 +35,7 @@ import io.netty.buffer.ByteBuf;
  * @author Will Glozer
  * @author Mark Paluch
  */
-public class Command<K, V, T> implements RedisCommand<K, V, T> {
+public class Command<K, V, T> implements RedisCommand<K, V, T>, IntrusiveIndexedQueue.Element {
 
     protected static final byte ST_INITIAL = 0;
 
@@ -52,6 +53,8 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
     protected volatile byte status = ST_INITIAL;
 
+    private long queueIndex = IntrusiveIndexedQueue.NO_INDEX;
+
     /**
      * Create a new command with the supplied type.
      *
@@ -120,11 +123,11 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
         buf.touch("Command.encode(…)");
         buf.writeByte('*');
-        CommandArgs.IntegerArgument.writeInteger(buf, 1 + (args != null ? args.count() : 0));
+        CommandArgs.writeInteger(buf, 1 + (args != null ? args.count() : 0));
 
         buf.writeBytes(CommandArgs.CRLF);
 
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        CommandArgs.writeBytes(buf, type.getBytes());
 
         if (args != null) {
             args.encode(buf);
@@ -151,6 +154,16 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
         return null;
     }
 
+    @Override
+    public long getQueueIndex() {
+        return queueIndex;
+    }
+
+    @Override
+    public void setQueueIndex(long index) {
+        this.queueIndex = index;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
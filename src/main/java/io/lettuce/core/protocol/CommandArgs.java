@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,6 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.ToByteBufEncoder;
 import io.lettuce.core.internal.LettuceAssert;
-import io.lettuce.core.internal.LettuceStrings;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
 
@@ -39,6 +39,9 @@ import io.netty.buffer.UnpooledByteBufAllocator;
  * Redis command arguments. {@link CommandArgs} is a container for multiple singular arguments. Key and Value arguments are
  * encoded using the {@link RedisCodec} to their byte representation. {@link CommandArgs} provides a fluent style of adding
  * multiple arguments. A {@link CommandArgs} instance can be reused across multiple commands and invocations.
+ * <p>
+ * Arguments are stored in a compact tagged representation: a type tag per argument, numeric arguments in a {@code long[]} and
+ * object arguments in an {@code Object[]}. Adding arguments does not allocate per-argument wrapper objects.
  *
  * <h3>Example</h3>
  *
@@ -56,9 +59,61 @@ public class CommandArgs<K, V> {
 
     static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.UTF_8);
 
+    /**
+     * Estimated size of the bulk string framing ({@code $<length>CRLF … CRLF}).
+     */
+    static final int FRAMING_SIZE = 16;
+
+    static final byte T_KEY = 1;
+
+    static final byte T_VALUE = 2;
+
+    static final byte T_INTEGER = 3;
+
+    static final byte T_DOUBLE = 4;
+
+    static final byte T_STRING = 5;
+
+    static final byte T_CHAR_ARRAY = 6;
+
+    static final byte T_BYTES = 7;
+
+    static final byte T_KEYWORD = 8;
+
+    /**
+     * Key or value argument retaining its own codec, see {@link #addAll(CommandArgs)}.
+     */
+    static final byte T_ARGUMENT = 9;
+
+    /**
+     * Bulk string whose payload is streamed at write time, see {@link #add(StreamingArgument)}.
+     */
+    static final byte T_STREAM = 10;
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
     protected final RedisCodec<K, V> codec;
 
-    final List<SingularArgument> singularArguments = new ArrayList<>(10);
+    /**
+     * Type tag per argument.
+     */
+    byte[] types = new byte[INITIAL_CAPACITY];
+
+    /**
+     * Object arguments per argument index.
+     */
+    Object[] references = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Integer and raw double bits per argument index, allocated when adding the first numeric argument.
+     */
+    long[] numbers;
+
+    int count;
+
+    boolean streaming;
 
     /**
      * @param codec Codec used to encode/decode keys and values, must not be {@code null}.
@@ -74,7 +129,7 @@ public class CommandArgs<K, V> {
      * @return the number of arguments.
      */
     public int count() {
-        return singularArguments.size();
+        return count;
     }
 
     /**
@@ -84,9 +139,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> addKey(K key) {
-
-        singularArguments.add(KeyArgument.of(key, codec));
-        return this;
+        return addReference(T_KEY, key);
     }
 
     /**
@@ -116,6 +169,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(keys, "Keys must not be null");
 
+        ensureCapacity(count + keys.length);
         for (K key : keys) {
             addKey(key);
         }
@@ -129,9 +183,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> addValue(V value) {
-
-        singularArguments.add(ValueArgument.of(value, codec));
-        return this;
+        return addReference(T_VALUE, value);
     }
 
     /**
@@ -161,6 +213,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(values, "Values must not be null");
 
+        ensureCapacity(count + values.length);
         for (V value : values) {
             addValue(value);
         }
@@ -177,6 +230,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(map, "Map must not be null");
 
+        ensureCapacity(count + map.size() * 2);
         for (Map.Entry<K, V> entry : map.entrySet()) {
             addKey(entry.getKey()).addValue(entry.getValue());
         }
@@ -191,9 +245,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(String s) {
-
-        singularArguments.add(StringArgument.of(s));
-        return this;
+        return addReference(T_STRING, s);
     }
 
     /**
@@ -203,9 +255,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(char[] cs) {
-
-        singularArguments.add(CharArrayArgument.of(cs));
-        return this;
+        return addReference(T_CHAR_ARRAY, cs);
     }
 
     /**
@@ -215,9 +265,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(long n) {
-
-        singularArguments.add(IntegerArgument.of(n));
-        return this;
+        return addNumber(T_INTEGER, n);
     }
 
     /**
@@ -227,9 +275,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(double n) {
-
-        singularArguments.add(DoubleArgument.of(n));
-        return this;
+        return addNumber(T_DOUBLE, Double.doubleToRawLongBits(n));
     }
 
     /**
@@ -239,9 +285,23 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(byte[] value) {
+        return addReference(T_BYTES, value);
+    }
 
-        singularArguments.add(BytesArgument.of(value));
-        return this;
+    /**
+     * Add a {@link StreamingArgument} whose payload is streamed from its source when the command is written. The argument is
+     * represented as bulk string.
+     *
+     * @param argument the streaming argument, must not be {@code null}.
+     * @return the command args.
+     * @since 7.6
+     */
+    public CommandArgs<K, V> add(StreamingArgument argument) {
+
+        LettuceAssert.notNull(argument, "StreamingArgument must not be null");
+
+        streaming = true;
+        return addReference(T_STREAM, argument);
     }
 
     /**
@@ -253,8 +313,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
-        return this;
+        return addReference(T_KEYWORD, keyword);
     }
 
     /**
@@ -266,8 +325,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandType type) {
 
         LettuceAssert.notNull(type, "CommandType must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(type));
-        return this;
+        return addReference(T_KEYWORD, type);
     }
 
     /**
@@ -279,8 +337,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(ProtocolKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
-        return this;
+        return addKeyword(keyword);
     }
 
     /**
@@ -299,23 +356,22 @@ public class CommandArgs<K, V> {
         LettuceAssert.notNull(obj, "Argument must not be null");
 
         if (obj instanceof String) {
-            singularArguments.add(StringArgument.of((String) obj));
+            return add((String) obj);
         } else if (obj instanceof Long) {
-            singularArguments.add(IntegerArgument.of((Long) obj));
+            return add((long) (Long) obj);
         } else if (obj instanceof Integer) {
-            singularArguments.add(IntegerArgument.of((long) (Integer) obj));
+            return add((long) (Integer) obj);
         } else if (obj instanceof Double) {
-            singularArguments.add(DoubleArgument.of((Double) obj));
+            return add((double) (Double) obj);
         } else if (obj instanceof Float) {
-            singularArguments.add(DoubleArgument.of((double) (Float) obj));
+            return add((double) (Float) obj);
         } else if (obj instanceof ProtocolKeyword) {
-            singularArguments.add(ProtocolKeywordArgument.of((ProtocolKeyword) obj));
+            return addKeyword((ProtocolKeyword) obj);
         } else if (obj instanceof byte[]) {
-            singularArguments.add(BytesArgument.of((byte[]) obj));
-        } else {
-            singularArguments.add(StringArgument.of(obj.toString()));
+            return add((byte[]) obj);
         }
-        return this;
+
+        return add(obj.toString());
     }
 
     /**
@@ -325,10 +381,36 @@ public class CommandArgs<K, V> {
      * @return the command args.
      * @since 6.2
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public CommandArgs<K, V> addAll(CommandArgs<?, ?> args) {
 
         LettuceAssert.notNull(args, "CommandArgs must not be null");
-        this.singularArguments.addAll(args.singularArguments);
+
+        int size = args.count;
+        ensureCapacity(count + size);
+        streaming |= args.streaming;
+
+        for (int i = 0; i < size; i++) {
+
+            byte type = args.types[i];
+
+            if (type == T_INTEGER || type == T_DOUBLE) {
+                addNumber(type, args.numbers[i]);
+                continue;
+            }
+
+            Object reference = args.references[i];
+
+            // keys and values of args with a different codec retain their codec
+            if (type == T_KEY && args.codec != codec) {
+                addReference(T_ARGUMENT, KeyArgument.of(reference, (RedisCodec) args.codec));
+            } else if (type == T_VALUE && args.codec != codec) {
+                addReference(T_ARGUMENT, ValueArgument.of(reference, (RedisCodec) args.codec));
+            } else {
+                addReference(type, reference);
+            }
+        }
+
         return this;
     }
 
@@ -338,8 +420,17 @@ public class CommandArgs<K, V> {
         final StringBuilder sb = new StringBuilder();
         sb.append(getClass().getSimpleName());
 
-        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(singularArguments.size() * 10);
-        encode(buffer);
+        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(count * 10);
+        for (int i = 0; i < count; i++) {
+
+            // do not consume streaming payloads
+            if (types[i] == T_STREAM) {
+                ((StreamingArgument) references[i]).encodeHeader(buffer);
+                buffer.writeBytes(CRLF);
+            } else {
+                encode(buffer, i);
+            }
+        }
         buffer.resetReaderIndex();
 
         byte[] bytes = new byte[buffer.readableBytes()];
@@ -359,7 +450,19 @@ public class CommandArgs<K, V> {
      * @return the command string representation.
      */
     public String toCommandString() {
-        return LettuceStrings.collectionToDelimitedString(singularArguments, " ", "", "");
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+
+            if (i > 0) {
+                sb.append(' ');
+            }
+
+            sb.append(toCommandString(i));
+        }
+
+        return sb.toString();
     }
 
     /**
@@ -399,292 +502,356 @@ public class CommandArgs<K, V> {
     public void encode(ByteBuf buf) {
 
         buf.touch("CommandArgs.encode(…)");
-        for (SingularArgument singularArgument : singularArguments) {
-            singularArgument.encode(buf);
+        for (int i = 0; i < count; i++) {
+            encode(buf, i);
         }
     }
 
     /**
-     * Single argument wrapper that can be encoded.
+     * @return {@code true} if the arguments contain a {@link StreamingArgument}.
      */
-    static abstract class SingularArgument {
-
-        /**
-         * Encode the argument and write it to the {@code buffer}.
-         *
-         * @param buffer
-         */
-        abstract void encode(ByteBuf buffer);
-
+    boolean hasStreamingArguments() {
+        return streaming;
     }
 
-    static class BytesArgument extends SingularArgument {
-
-        final byte[] val;
-
-        private BytesArgument(byte[] val) {
-            this.val = val;
-        }
-
-        static BytesArgument of(byte[] val) {
-            return new BytesArgument(val);
-        }
-
-        @Override
-        void encode(ByteBuf buffer) {
-            writeBytes(buffer, val);
-        }
-
-        static void writeBytes(ByteBuf buffer, byte[] value) {
-
-            buffer.writeByte('$');
+    /**
+     * @return the {@link StreamingArgument streaming arguments} in their argument order.
+     */
+    List<StreamingArgument> getStreamingArguments() {
 
-            IntegerArgument.writeInteger(buffer, value.length);
-            buffer.writeBytes(CRLF);
+        List<StreamingArgument> arguments = new ArrayList<>(1);
 
-            buffer.writeBytes(value);
-            buffer.writeBytes(CRLF);
+        for (int i = 0; i < count; i++) {
+            if (types[i] == T_STREAM) {
+                arguments.add((StreamingArgument) references[i]);
+            }
         }
 
-        @Override
-        public String toString() {
-            return Base64.getEncoder().encodeToString(val);
-        }
+        return arguments;
+    }
 
+    /**
+     * Estimate the number of bytes required to encode the arguments. Sizes are estimated without encoding the arguments and are
+     * used to size encode buffers upfront.
+     *
+     * @return the estimated encoded size in bytes.
+     * @since 7.6
+     */
+    int estimateSize() {
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            size += estimateSize(i);
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encode(ByteBuf buf, int index) {
+
+        Object reference = references[index];
+
+        switch (types[index]) {
+            case T_KEY:
+                encodeKey(buf, codec, (K) reference);
+                break;
+            case T_VALUE:
+                encodeValue(buf, codec, (V) reference);
+                break;
+            case T_INTEGER:
+                writeLong(buf, numbers[index]);
+                break;
+            case T_DOUBLE:
+                writeString(buf, Double.toString(Double.longBitsToDouble(numbers[index])));
+                break;
+            case T_STRING:
+                writeString(buf, (String) reference);
+                break;
+            case T_CHAR_ARRAY:
+                writeString(buf, (char[]) reference);
+                break;
+            case T_BYTES:
+                writeBytes(buf, (byte[]) reference);
+                break;
+            case T_KEYWORD:
+                writeBytes(buf, ((ProtocolKeyword) reference).getBytes());
+                break;
+            case T_ARGUMENT:
+                ((SingularArgument) reference).encode(buf);
+                break;
+            case T_STREAM:
+                ((StreamingArgument) reference).encode(buf);
+                break;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int estimateSize(int index) {
+
+        Object reference = references[index];
+
+        switch (types[index]) {
+            case T_KEY:
+            case T_VALUE:
+                if (codec instanceof ToByteBufEncoder) {
+                    return ((ToByteBufEncoder<Object, Object>) codec).estimateSize(reference) + FRAMING_SIZE;
+                }
+                return FRAMING_SIZE * 2;
+            case T_STRING:
+                return ((String) reference).length() + FRAMING_SIZE;
+            case T_CHAR_ARRAY:
+                return ((char[]) reference).length + FRAMING_SIZE;
+            case T_BYTES:
+                return ((byte[]) reference).length + FRAMING_SIZE;
+            case T_KEYWORD:
+                return ((ProtocolKeyword) reference).getBytes().length + FRAMING_SIZE;
+            case T_ARGUMENT:
+                return ((SingularArgument) reference).estimateSize();
+            case T_STREAM:
+                return FRAMING_SIZE;
+            default:
+                return FRAMING_SIZE * 2;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String toCommandString(int index) {
+
+        Object reference = references[index];
+
+        switch (types[index]) {
+            case T_KEY:
+                return String.format("key<%s>", new StringCodec().decodeKey(codec.encodeKey((K) reference)));
+            case T_VALUE:
+                return String.format("value<%s>", new StringCodec().decodeValue(codec.encodeValue((V) reference)));
+            case T_INTEGER:
+                return Long.toString(numbers[index]);
+            case T_DOUBLE:
+                return Double.toString(Double.longBitsToDouble(numbers[index]));
+            case T_CHAR_ARRAY:
+                return new String((char[]) reference);
+            case T_BYTES:
+                return Base64.getEncoder().encodeToString((byte[]) reference);
+            default:
+                return String.valueOf(reference);
+        }
+    }
+
+    private CommandArgs<K, V> addKeyword(ProtocolKeyword keyword) {
+
+        if (keyword instanceof CommandType || keyword instanceof CommandKeyword) {
+            return addReference(T_KEYWORD, keyword);
+        }
+
+        return addReference(T_BYTES, keyword.getBytes());
+    }
+
+    private CommandArgs<K, V> addReference(byte type, Object reference) {
+
+        int index = nextIndex();
+        types[index] = type;
+        references[index] = reference;
+        return this;
     }
 
-    static class ProtocolKeywordArgument extends BytesArgument {
+    private CommandArgs<K, V> addNumber(byte type, long number) {
 
-        private final ProtocolKeyword protocolKeyword;
+        int index = nextIndex();
 
-        private ProtocolKeywordArgument(ProtocolKeyword protocolKeyword) {
-            super(protocolKeyword.getBytes());
-            this.protocolKeyword = protocolKeyword;
+        if (numbers == null) {
+            numbers = new long[types.length];
         }
 
-        static BytesArgument of(ProtocolKeyword protocolKeyword) {
-
-            if (protocolKeyword instanceof CommandType) {
-                return CommandTypeCache.cache[((Enum) protocolKeyword).ordinal()];
-            }
-
-            if (protocolKeyword instanceof CommandKeyword) {
-                return CommandKeywordCache.cache[((Enum) protocolKeyword).ordinal()];
-            }
+        types[index] = type;
+        numbers[index] = number;
+        return this;
+    }
 
-            return ProtocolKeywordArgument.of(protocolKeyword.getBytes());
-        }
+    private int nextIndex() {
 
-        @Override
-        public String toString() {
-            return protocolKeyword.toString();
+        if (count == types.length) {
+            ensureCapacity(count + 1);
         }
 
+        return count++;
     }
 
-    static class CommandTypeCache {
-
-        static final ProtocolKeywordArgument cache[];
-
-        static {
+    private void ensureCapacity(int capacity) {
 
-            CommandType[] values = CommandType.values();
-            cache = new ProtocolKeywordArgument[values.length];
-            for (int i = 0; i < cache.length; i++) {
-                cache[i] = new ProtocolKeywordArgument(values[i]);
-            }
+        if (capacity <= types.length) {
+            return;
         }
 
-    }
-
-    static class CommandKeywordCache {
+        int newCapacity = Math.max(types.length + (types.length >> 1), capacity);
 
-        static final ProtocolKeywordArgument cache[];
+        types = Arrays.copyOf(types, newCapacity);
+        references = Arrays.copyOf(references, newCapacity);
 
-        static {
-
-            CommandKeyword[] values = CommandKeyword.values();
-            cache = new ProtocolKeywordArgument[values.length];
-            for (int i = 0; i < cache.length; i++) {
-                cache[i] = new ProtocolKeywordArgument(values[i]);
-            }
+        if (numbers != null) {
+            numbers = Arrays.copyOf(numbers, newCapacity);
         }
-
     }
 
-    static class ByteBufferArgument {
-
-        static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
+    @SuppressWarnings("unchecked")
+    static <K> void encodeKey(ByteBuf target, RedisCodec<K, ?> codec, K key) {
 
-            target.writeByte('$');
-
-            IntegerArgument.writeInteger(target, value.remaining());
-            target.writeBytes(CRLF);
-
-            target.writeBytes(value);
-            target.writeBytes(CRLF);
+        if (codec instanceof ToByteBufEncoder) {
+            encode(target, (ToByteBufEncoder<K, K>) codec, key, ToByteBufEncoder::encodeKey);
+            return;
         }
 
-        static void writeByteBuf(ByteBuf target, ByteBuf value) {
-
-            target.writeByte('$');
+        writeByteBuffer(target, codec.encodeKey(key));
+    }
 
-            IntegerArgument.writeInteger(target, value.readableBytes());
-            target.writeBytes(CRLF);
+    @SuppressWarnings("unchecked")
+    static <V> void encodeValue(ByteBuf target, RedisCodec<?, V> codec, V value) {
 
-            target.writeBytes(value);
-            target.writeBytes(CRLF);
+        if (codec instanceof ToByteBufEncoder) {
+            encode(target, (ToByteBufEncoder<V, V>) codec, value, ToByteBufEncoder::encodeValue);
+            return;
         }
 
+        writeByteBuffer(target, codec.encodeValue(value));
     }
 
-    static class IntegerArgument extends SingularArgument {
-
-        final long val;
+    static void writeBytes(ByteBuf buffer, byte[] value) {
 
-        private IntegerArgument(long val) {
-            this.val = val;
-        }
+        buffer.writeByte('$');
 
-        static IntegerArgument of(long val) {
+        writeInteger(buffer, value.length);
+        buffer.writeBytes(CRLF);
 
-            if (val >= 0 && val < IntegerCache.cache.length) {
-                return IntegerCache.cache[(int) val];
-            }
+        buffer.writeBytes(value);
+        buffer.writeBytes(CRLF);
+    }
 
-            if (val < 0 && val > Integer.MIN_VALUE && -val < IntegerCache.cache.length) {
-                return IntegerCache.negativeCache[(int) -val];
-            }
+    static void writeString(ByteBuf target, String value) {
+        writeBytes(target, value.getBytes(StandardCharsets.UTF_8));
+    }
 
-            return new IntegerArgument(val);
-        }
+    static void writeString(ByteBuf target, char[] value) {
 
-        @Override
-        void encode(ByteBuf target) {
-            StringArgument.writeString(target, Long.toString(val));
-        }
+        final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(value));
+        final byte[] output = new byte[byteBuffer.remaining()];
+        byteBuffer.get(output);
 
-        @Override
-        public String toString() {
-            return "" + val;
-        }
+        writeBytes(target, output);
+    }
 
-        static void writeInteger(ByteBuf target, long value) {
+    static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
 
-            if (value < 10) {
-                target.writeByte((byte) ('0' + value));
-                return;
-            }
+        target.writeByte('$');
 
-            String asString = Long.toString(value);
-
-            for (int i = 0; i < asString.length(); i++) {
-                target.writeByte((byte) asString.charAt(i));
-            }
-        }
+        writeInteger(target, value.remaining());
+        target.writeBytes(CRLF);
 
+        target.writeBytes(value);
+        target.writeBytes(CRLF);
     }
 
-    static class IntegerCache {
+    static void writeByteBuf(ByteBuf target, ByteBuf value) {
 
-        static final IntegerArgument[] cache;
+        target.writeByte('$');
 
-        static final IntegerArgument[] negativeCache;
-
-        static {
-            int high = Integer.getInteger("io.lettuce.core.CommandArgs.IntegerCache", 128);
-            cache = new IntegerArgument[high];
-            negativeCache = new IntegerArgument[high];
-            for (int i = 0; i < high; i++) {
-                cache[i] = new IntegerArgument(i);
-                negativeCache[i] = new IntegerArgument(-i);
-            }
-        }
+        writeInteger(target, value.readableBytes());
+        target.writeBytes(CRLF);
 
+        target.writeBytes(value);
+        target.writeBytes(CRLF);
     }
 
-    static class DoubleArgument extends SingularArgument {
-
-        final double val;
-
-        private DoubleArgument(double val) {
-            this.val = val;
-        }
-
-        static DoubleArgument of(double val) {
-            return new DoubleArgument(val);
-        }
+    /**
+     * Write {@code value} as bulk string of its decimal representation.
+     */
+    static void writeLong(ByteBuf target, long value) {
 
-        @Override
-        void encode(ByteBuf target) {
-            StringArgument.writeString(target, Double.toString(val));
-        }
+        target.writeByte('$');
 
-        @Override
-        public String toString() {
-            return "" + val;
-        }
+        writeInteger(target, stringSize(value));
+        target.writeBytes(CRLF);
 
+        writeInteger(target, value);
+        target.writeBytes(CRLF);
     }
 
-    static class StringArgument extends SingularArgument {
-
-        final String val;
+    /**
+     * Write the decimal representation of {@code value} without allocating an intermediate {@link String}.
+     */
+    static void writeInteger(ByteBuf target, long value) {
 
-        private StringArgument(String val) {
-            this.val = val;
+        if (value >= 0 && value < 10) {
+            target.writeByte((byte) ('0' + value));
+            return;
         }
 
-        static StringArgument of(String val) {
-            return new StringArgument(val);
+        if (value == Long.MIN_VALUE) {
+            target.writeBytes(LONG_MIN_VALUE);
+            return;
         }
 
-        @Override
-        void encode(ByteBuf target) {
-            writeString(target, val);
-        }
+        int size = stringSize(value);
+        target.ensureWritable(size);
 
-        static void writeString(ByteBuf target, String value) {
-            byte[] output = value.getBytes(StandardCharsets.UTF_8);
+        int writerIndex = target.writerIndex();
+        long remaining = value;
 
-            BytesArgument.writeBytes(target, output);
+        if (remaining < 0) {
+            target.setByte(writerIndex, '-');
+            remaining = -remaining;
         }
 
-        @Override
-        public String toString() {
-            return val;
+        for (int i = writerIndex + size - 1; remaining > 0; i--) {
+            target.setByte(i, (int) ('0' + remaining % 10));
+            remaining /= 10;
         }
 
+        target.writerIndex(writerIndex + size);
     }
 
-    static class CharArrayArgument extends SingularArgument {
-
-        final char[] val;
+    /**
+     * @return number of characters of the decimal representation of {@code value}.
+     */
+    static int stringSize(long value) {
 
-        private CharArrayArgument(char[] val) {
-            this.val = val;
+        if (value == Long.MIN_VALUE) {
+            return LONG_MIN_VALUE.length;
         }
 
-        static CharArrayArgument of(char[] val) {
-            return new CharArrayArgument(val);
+        int size = 1;
+        long remaining = value;
+
+        if (remaining < 0) {
+            size++;
+            remaining = -remaining;
         }
 
-        @Override
-        void encode(ByteBuf target) {
-            writeString(target, val);
+        while (remaining >= 10) {
+            remaining /= 10;
+            size++;
         }
 
-        static void writeString(ByteBuf target, char[] value) {
-            final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(value));
-            final byte[] output = new byte[byteBuffer.remaining()];
-            byteBuffer.get(output);
+        return size;
+    }
 
-            BytesArgument.writeBytes(target, output);
-        }
+    /**
+     * Single argument wrapper that can be encoded. Used for key and value arguments that retain their own codec.
+     */
+    static abstract class SingularArgument {
 
-        @Override
-        public String toString() {
-            return new String(val);
+        /**
+         * Encode the argument and write it to the {@code buffer}.
+         *
+         * @param buffer
+         */
+        abstract void encode(ByteBuf buffer);
+
+        /**
+         * Estimate the encoded size of the argument including its framing.
+         *
+         * @return the estimated encoded size in bytes.
+         */
+        int estimateSize() {
+            return FRAMING_SIZE * 2;
         }
 
     }
@@ -704,16 +871,20 @@ public class CommandArgs<K, V> {
             return new KeyArgument<>(key, codec);
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
+            encodeKey(target, codec, key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int estimateSize() {
 
             if (codec instanceof ToByteBufEncoder) {
-                CommandArgs.encode(target, (ToByteBufEncoder<K, K>) codec, key, ToByteBufEncoder::encodeKey);
-                return;
+                return ((ToByteBufEncoder<K, V>) codec).estimateSize(key) + FRAMING_SIZE;
             }
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
+            return super.estimateSize();
         }
 
         @Override
@@ -738,16 +909,20 @@ public class CommandArgs<K, V> {
             return new ValueArgument<>(val, codec);
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
+            encodeValue(target, codec, val);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int estimateSize() {
 
             if (codec instanceof ToByteBufEncoder) {
-                CommandArgs.encode(target, (ToByteBufEncoder<V, V>) codec, val, ToByteBufEncoder::encodeValue);
-                return;
+                return ((ToByteBufEncoder<K, V>) codec).estimateSize(val) + FRAMING_SIZE;
             }
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
+            return super.estimateSize();
         }
 
         @Override
@@ -762,7 +937,7 @@ public class CommandArgs<K, V> {
         if (encoder.isEstimateExact()) {
 
             target.writeByte('$');
-            IntegerArgument.writeInteger(target, encoder.estimateSize(item));
+            writeInteger(target, encoder.estimateSize(item));
             target.writeBytes(CRLF);
 
             encodeFunction.encode(encoder, item, target);
@@ -773,7 +948,7 @@ public class CommandArgs<K, V> {
 
             try {
                 encodeFunction.encode(encoder, item, temporaryBuffer);
-                ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
+                writeByteBuf(target, temporaryBuffer);
             } finally {
                 temporaryBuffer.release();
             }
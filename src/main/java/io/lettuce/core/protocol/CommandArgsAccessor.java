@@ -4,10 +4,6 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
-import io.lettuce.core.protocol.CommandArgs.CharArrayArgument;
-import io.lettuce.core.protocol.CommandArgs.SingularArgument;
-import io.lettuce.core.protocol.CommandArgs.StringArgument;
-
 /**
  * Accessor for first encoded key, first string and first {@link Long integer} argument of {@link CommandArgs}. This class is
  * part of the internal API and may change without further notice.
@@ -17,6 +13,27 @@ import io.lettuce.core.protocol.CommandArgs.StringArgument;
  */
 public class CommandArgsAccessor {
 
+    /**
+     * Get the first encoded key of {@code command} for cluster command routing. Commands created from a {@link CommandTemplate}
+     * encode their first key without materializing {@link CommandArgs}.
+     *
+     * @param command must not be null.
+     * @return the first encoded key or {@code null}.
+     * @since 7.6
+     */
+    public static ByteBuffer encodeFirstKey(RedisCommand<?, ?, ?> command) {
+
+        CommandTemplate.TemplateCommand<?, ?, ?> templateCommand = CommandWrapper.unwrap(command,
+                CommandTemplate.TemplateCommand.class);
+
+        if (templateCommand != null) {
+            return templateCommand.encodeFirstKey();
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return args != null ? args.getFirstEncodedKey() : null;
+    }
+
     /**
      * Get the first encoded key for cluster command routing.
      *
@@ -26,10 +43,16 @@ public class CommandArgsAccessor {
     @SuppressWarnings("unchecked")
     public static <K, V> ByteBuffer encodeFirstKey(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
+
+            if (commandArgs.types[i] == CommandArgs.T_KEY) {
+                return commandArgs.codec.encodeKey((K) commandArgs.references[i]);
+            }
+
+            if (commandArgs.references[i] instanceof CommandArgs.KeyArgument) {
 
-            if (singularArgument instanceof CommandArgs.KeyArgument) {
-                return commandArgs.codec.encodeKey(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+                CommandArgs.KeyArgument<Object, ?> argument = (CommandArgs.KeyArgument<Object, ?>) commandArgs.references[i];
+                return argument.codec.encodeKey(argument.key);
             }
         }
 
@@ -42,13 +65,12 @@ public class CommandArgsAccessor {
      * @param commandArgs must not be null.
      * @return the first {@link String} argument or {@code null}.
      */
-    @SuppressWarnings("unchecked")
     public static <K, V> String getFirstString(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
 
-            if (singularArgument instanceof StringArgument) {
-                return ((StringArgument) singularArgument).val;
+            if (commandArgs.types[i] == CommandArgs.T_STRING) {
+                return (String) commandArgs.references[i];
             }
         }
 
@@ -61,13 +83,12 @@ public class CommandArgsAccessor {
      * @param commandArgs must not be null.
      * @return the first {@link String} argument or {@code null}.
      */
-    @SuppressWarnings("unchecked")
     public static <K, V> char[] getFirstCharArray(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
 
-            if (singularArgument instanceof CharArrayArgument) {
-                return ((CharArrayArgument) singularArgument).val;
+            if (commandArgs.types[i] == CommandArgs.T_CHAR_ARRAY) {
+                return (char[]) commandArgs.references[i];
             }
         }
 
@@ -85,10 +106,10 @@ public class CommandArgsAccessor {
 
         List<String> args = new ArrayList<>();
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
 
-            if (singularArgument instanceof StringArgument) {
-                args.add(((StringArgument) singularArgument).val);
+            if (commandArgs.types[i] == CommandArgs.T_STRING) {
+                args.add((String) commandArgs.references[i]);
             }
         }
 
@@ -106,14 +127,14 @@ public class CommandArgsAccessor {
 
         List<char[]> args = new ArrayList<>();
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
 
-            if (singularArgument instanceof CharArrayArgument) {
-                args.add(((CharArrayArgument) singularArgument).val);
+            if (commandArgs.types[i] == CommandArgs.T_CHAR_ARRAY) {
+                args.add((char[]) commandArgs.references[i]);
             }
 
-            if (singularArgument instanceof StringArgument) {
-                args.add(((StringArgument) singularArgument).val.toCharArray());
+            if (commandArgs.types[i] == CommandArgs.T_STRING) {
+                args.add(((String) commandArgs.references[i]).toCharArray());
             }
         }
 
@@ -126,13 +147,12 @@ public class CommandArgsAccessor {
      * @param commandArgs must not be null.
      * @return the first {@link Long integer} argument or {@code null}.
      */
-    @SuppressWarnings("unchecked")
     public static <K, V> Long getFirstInteger(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+        for (int i = 0; i < commandArgs.count; i++) {
 
-            if (singularArgument instanceof CommandArgs.IntegerArgument) {
-                return ((CommandArgs.IntegerArgument) singularArgument).val;
+            if (commandArgs.types[i] == CommandArgs.T_INTEGER) {
+                return commandArgs.numbers[i];
             }
         }
 
@@ -1,20 +1,32 @@
 package io.lettuce.core.protocol;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.concurrent.PromiseCombiner;
 import io.netty.util.internal.PlatformDependent;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
  * A netty {@link ChannelHandler} responsible for encoding commands.
+ * <p>
+ * Commands with {@link StreamingArgument streaming arguments} are written as sequence of messages: the encoded command parts
+ * interleaved with the argument payloads. Payloads are written through a {@link ChunkedWriteHandler} that is added to the
+ * pipeline when writing the first streaming argument.
  *
  * @author Mark Paluch
  */
@@ -26,12 +38,26 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     private final boolean debugEnabled = logger.isDebugEnabled();
 
+    private final boolean preferDirect;
+
     public CommandEncoder() {
         this(PlatformDependent.directBufferPreferred());
     }
 
     public CommandEncoder(boolean preferDirect) {
         super(preferDirect);
+        this.preferDirect = preferDirect;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+
+        if (isStreaming(msg)) {
+            writeStreaming(ctx, msg, promise);
+            return;
+        }
+
+        super.write(ctx, msg, promise);
     }
 
     @Override
@@ -71,6 +97,175 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
         }
     }
 
+    /**
+     * Write {@code msg} containing commands with {@link StreamingArgument streaming arguments}. Streaming commands are encoded
+     * with their payloads omitted and written in slices interleaved with the payload messages. Other commands are encoded as
+     * usual.
+     */
+    @SuppressWarnings("unchecked")
+    private void writeStreaming(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+
+        Collection<RedisCommand<?, ?, ?>> commands;
+
+        if (msg instanceof RedisCommand) {
+
+            RedisCommand<?, ?, ?> command = (RedisCommand<?, ?, ?>) msg;
+            StreamingArgument consumed = getConsumedArgument(command);
+
+            if (consumed != null) {
+                throw consumedArgument(command, consumed);
+            }
+
+            commands = Collections.singletonList(command);
+        } else {
+
+            commands = new ArrayList<>(((Collection<?>) msg).size());
+
+            // reject commands that cannot be written upfront to not fail after writing a part of the commands
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                if (!rejectConsumed(command)) {
+                    commands.add(command);
+                }
+            }
+        }
+
+        if (ctx.pipeline().get(ChunkedWriteHandler.class) == null) {
+            ctx.pipeline().addBefore(ctx.name(), ChunkedWriteHandler.class.getSimpleName(), new ChunkedWriteHandler());
+        }
+
+        PromiseCombiner combiner = new PromiseCombiner(ctx.executor());
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+
+            if (isStreaming(command)) {
+                writeStreaming(ctx, command, combiner);
+            } else {
+                ChannelPromise commandPromise = ctx.newPromise();
+                combiner.add(commandPromise);
+                super.write(ctx, command, commandPromise);
+            }
+        }
+
+        combiner.finish(promise);
+    }
+
+    private void writeStreaming(ChannelHandlerContext ctx, RedisCommand<?, ?, ?> command, PromiseCombiner combiner) {
+
+        List<StreamingArgument> arguments = command.getArgs().getStreamingArguments();
+        for (StreamingArgument argument : arguments) {
+            argument.defer();
+        }
+
+        ByteBuf buffer = preferDirect ? ctx.alloc().ioBuffer() : ctx.alloc().heapBuffer();
+
+        try {
+            encode(ctx, buffer, command);
+
+            int offset = 0;
+            for (StreamingArgument argument : arguments) {
+
+                int payloadIndex = argument.getPayloadIndex();
+
+                combiner.add(write(ctx, buffer.retainedSlice(offset, payloadIndex - offset)));
+                combiner.add(write(ctx, argument.createMessage(ctx)));
+                offset = payloadIndex;
+            }
+
+            combiner.add(write(ctx, buffer.retainedSlice(offset, buffer.writerIndex() - offset)));
+        } catch (EncoderException e) {
+            throw e;
+        } catch (Exception e) {
+            ctx.close();
+            logger.error(
+                    "{} Cannot write streaming argument. Closing the connection as the connection state may be out of sync.",
+                    logPrefix(ctx.channel()), e);
+            throw new EncoderException(
+                    "Cannot write streaming argument. Closing the connection as the connection state may be out of sync.", e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Write a part of a streaming command. Closes the connection if the write fails as the command was written partially.
+     */
+    private static ChannelFuture write(ChannelHandlerContext ctx, Object msg) {
+        return ctx.write(msg).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+
+    /**
+     * @return {@code true} if {@code msg} is a command or a collection of commands that contains {@link StreamingArgument
+     *         streaming arguments}.
+     */
+    static boolean isStreaming(Object msg) {
+
+        if (!StreamingArgument.isCreated()) {
+            return false;
+        }
+
+        if (msg instanceof RedisCommand) {
+            return isStreaming((RedisCommand<?, ?, ?>) msg);
+        }
+
+        if (msg instanceof Collection) {
+            for (Object command : (Collection<?>) msg) {
+                if (command instanceof RedisCommand && isStreaming((RedisCommand<?, ?, ?>) command)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Complete {@code command} exceptionally if it contains a {@link StreamingArgument} that was already written.
+     *
+     * @return {@code true} if {@code command} was rejected and must not be written.
+     */
+    static boolean rejectConsumed(RedisCommand<?, ?, ?> command) {
+
+        StreamingArgument consumed = getConsumedArgument(command);
+
+        if (consumed == null) {
+            return false;
+        }
+
+        command.completeExceptionally(consumedArgument(command, consumed));
+        return true;
+    }
+
+    private static StreamingArgument getConsumedArgument(RedisCommand<?, ?, ?> command) {
+
+        if (!StreamingArgument.isCreated() || !isStreaming(command)) {
+            return null;
+        }
+
+        for (StreamingArgument argument : command.getArgs().getStreamingArguments()) {
+            if (argument.isConsumed()) {
+                return argument;
+            }
+        }
+
+        return null;
+    }
+
+    private static EncoderException consumedArgument(RedisCommand<?, ?, ?> command, StreamingArgument argument) {
+        return new EncoderException(
+                "Cannot write " + command + " as " + argument + " was already written. Streaming arguments are not retryable.");
+    }
+
+    private static boolean isStreaming(RedisCommand<?, ?, ?> command) {
+
+        // template commands materialize their arguments lazily and cannot contain streaming arguments
+        if (CommandWrapper.unwrap(command) instanceof CommandTemplate.TemplateCommand) {
+            return false;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return args != null && args.hasStreamingArguments();
+    }
+
     private void encode(ChannelHandlerContext ctx, ByteBuf out, RedisCommand<?, ?, ?> command) {
 
         try {
@@ -41,7 +41,7 @@ import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.push.PushMessage;
-import io.lettuce.core.datastructure.queue.HashIndexedQueue;
+import io.lettuce.core.datastructure.queue.IntrusiveIndexedQueue;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceSets;
 import io.lettuce.core.metrics.CommandLatencyRecorder;
@@ -157,13 +157,13 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         this.commandLatencyRecorder = clientResources.commandLatencyRecorder();
         this.latencyMetricsEnabled = commandLatencyRecorder.isEnabled();
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
-        this.stack = clientOptions.isUseHashIndexedQueue() ? new HashIndexedQueue<>() : new ArrayDeque<>();
+        this.stack = clientOptions.isUseHashIndexedQueue() ? new IntrusiveIndexedQueue<>() : new ArrayDeque<>();
 
         Tracing tracing = clientResources.tracing();
 
         this.tracingEnabled = tracing.isEnabled();
 
-        this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy();
+        this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy().forConnection();
     }
 
     public Endpoint getEndpoint() {
@@ -174,6 +174,23 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return stack;
     }
 
+    /**
+     * @return the {@link DecodeBufferPolicy} of this connection.
+     * @since 7.6
+     */
+    protected DecodeBufferPolicy getDecodeBufferPolicy() {
+        return decodeBufferPolicy;
+    }
+
+    /**
+     * @return the {@link DemandAware.Source} that re-enables reading from the channel once a {@link DemandAware.Sink} signals
+     *         demand.
+     * @since 7.6
+     */
+    protected DemandAware.Source getBackpressureSource() {
+        return backpressureSource;
+    }
+
     protected void setState(LifecycleState lifecycleState) {
 
         if (this.lifecycleState != LifecycleState.CLOSED) {
@@ -441,6 +458,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         for (RedisCommand<?, ?, ?> command : batch) {
 
+            // reject replayed commands whose streaming arguments were already written without failing the whole batch
+            if (CommandEncoder.rejectConsumed(command)) {
+                continue;
+            }
+
             if (isWriteable(command) && !deduplicated.add(command)) {
                 deduplicated.remove(command);
                 command.completeExceptionally(
@@ -0,0 +1,373 @@
+package io.lettuce.core.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Prepared command shape consisting of a command type, fixed keywords and parameter placeholders for keys, values and integers.
+ * The static parts of the command (RESP array header, command name and fixed keywords) are encoded once when the template is
+ * built. {@link Command Commands} created from a template retain only their arguments and encode the varying keys, values and
+ * integers at write time without allocating per-argument {@link CommandArgs} wrappers.
+ * <p>
+ * {@link Command#getArgs() Command arguments} are materialized lazily, e.g. for routing or tracing purposes.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+public class CommandTemplate<K, V> {
+
+    private final RedisCodec<K, V> codec;
+
+    private final ProtocolKeyword type;
+
+    /**
+     * Sequence of {@link ProtocolKeyword keywords} and {@link Parameter parameters} following the command type.
+     */
+    private final Object[] layout;
+
+    private final Parameter[] parameters;
+
+    /**
+     * Pre-encoded static bytes preceding each parameter. The last segment contains trailing static bytes.
+     */
+    private final byte[][] segments;
+
+    private CommandTemplate(RedisCodec<K, V> codec, ProtocolKeyword type, List<Object> layout) {
+
+        this.codec = codec;
+        this.type = type;
+        this.layout = layout.toArray();
+
+        List<Parameter> parameters = new ArrayList<>();
+        List<byte[]> segments = new ArrayList<>();
+
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        writeAscii(segment, "*" + (1 + layout.size()) + "\r\n");
+        writeBulk(segment, type.getBytes());
+
+        for (Object element : layout) {
+
+            if (element instanceof Parameter) {
+                parameters.add((Parameter) element);
+                segments.add(segment.toByteArray());
+                segment.reset();
+            } else {
+                writeBulk(segment, ((ProtocolKeyword) element).getBytes());
+            }
+        }
+
+        segments.add(segment.toByteArray());
+
+        this.parameters = parameters.toArray(new Parameter[0]);
+        this.segments = segments.toArray(new byte[0][]);
+    }
+
+    /**
+     * Create a new {@link Builder} for a command template of the given {@code type}.
+     *
+     * @param codec the codec to encode keys and values, must not be {@code null}.
+     * @param type the command type, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Builder}.
+     */
+    public static <K, V> Builder<K, V> builder(RedisCodec<K, V> codec, ProtocolKeyword type) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(type, "Command type must not be null");
+
+        return new Builder<>(codec, type);
+    }
+
+    /**
+     * Create a new {@link Command} from this template.
+     *
+     * @param output the command output, can be {@code null}.
+     * @param arguments the arguments for the template parameters in their declaration order. Keys, values and integers must not
+     *        be {@code null}.
+     * @param <T> Result type.
+     * @return the new {@link Command}.
+     */
+    public <T> Command<K, V, T> create(CommandOutput<K, V, T> output, Object... arguments) {
+
+        LettuceAssert.isTrue(arguments.length == parameters.length,
+                () -> String.format("Expected %d arguments for %s, got %d", parameters.length, type, arguments.length));
+
+        return new TemplateCommand<>(this, output, arguments);
+    }
+
+    /**
+     * @return the command type.
+     */
+    public ProtocolKeyword getType() {
+        return type;
+    }
+
+    /**
+     * @return number of parameters.
+     */
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * Encode the command using {@code arguments} and write it to {@code buf}.
+     */
+    @SuppressWarnings("unchecked")
+    void encode(ByteBuf buf, Object[] arguments) {
+
+        for (int i = 0; i < parameters.length; i++) {
+
+            buf.writeBytes(segments[i]);
+
+            switch (parameters[i]) {
+                case KEY:
+                    CommandArgs.encodeKey(buf, codec, (K) arguments[i]);
+                    break;
+                case VALUE:
+                    CommandArgs.encodeValue(buf, codec, (V) arguments[i]);
+                    break;
+                case INTEGER:
+                    CommandArgs.writeLong(buf, ((Number) arguments[i]).longValue());
+                    break;
+            }
+        }
+
+        buf.writeBytes(segments[parameters.length]);
+    }
+
+    /**
+     * Encode the first key of {@code arguments} without materializing {@link CommandArgs}.
+     *
+     * @return the first key in its byte-encoded representation or {@code null} if the template has no key parameter.
+     */
+    @SuppressWarnings("unchecked")
+    ByteBuffer encodeFirstKey(Object[] arguments) {
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i] == Parameter.KEY) {
+                return codec.encodeKey((K) arguments[i]);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Estimate the encoded size of the command using {@code arguments}.
+     */
+    @SuppressWarnings("unchecked")
+    int estimateSize(Object[] arguments) {
+
+        int size = 0;
+        for (byte[] segment : segments) {
+            size += segment.length;
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+
+            if (codec instanceof ToByteBufEncoder && parameters[i] != Parameter.INTEGER) {
+                size += ((ToByteBufEncoder<Object, Object>) codec).estimateSize(arguments[i]);
+            } else {
+                size += CommandArgs.FRAMING_SIZE;
+            }
+
+            size += CommandArgs.FRAMING_SIZE;
+        }
+
+        return size;
+    }
+
+    /**
+     * Materialize {@link CommandArgs} equivalent to the encoded form of the template using {@code arguments}.
+     */
+    @SuppressWarnings("unchecked")
+    CommandArgs<K, V> toArgs(Object[] arguments) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        int parameter = 0;
+
+        for (Object element : layout) {
+
+            if (!(element instanceof Parameter)) {
+                args.add((ProtocolKeyword) element);
+                continue;
+            }
+
+            Object argument = arguments[parameter++];
+
+            switch ((Parameter) element) {
+                case KEY:
+                    args.addKey((K) argument);
+                    break;
+                case VALUE:
+                    args.addValue((V) argument);
+                    break;
+                case INTEGER:
+                    args.add(((Number) argument).longValue());
+                    break;
+            }
+        }
+
+        return args;
+    }
+
+    private static void writeBulk(ByteArrayOutputStream out, byte[] bytes) {
+
+        writeAscii(out, "$" + bytes.length + "\r\n");
+        out.write(bytes, 0, bytes.length);
+        writeAscii(out, "\r\n");
+    }
+
+    private static void writeAscii(ByteArrayOutputStream out, String value) {
+
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [type=").append(type);
+        sb.append(", layout=").append(Arrays.toString(layout));
+        sb.append(']');
+        return sb.toString();
+    }
+
+    enum Parameter {
+        KEY, VALUE, INTEGER
+    }
+
+    /**
+     * Builder for {@link CommandTemplate}.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    public static class Builder<K, V> {
+
+        private final RedisCodec<K, V> codec;
+
+        private final ProtocolKeyword type;
+
+        private final List<Object> layout = new ArrayList<>();
+
+        private Builder(RedisCodec<K, V> codec, ProtocolKeyword type) {
+            this.codec = codec;
+            this.type = type;
+        }
+
+        /**
+         * Add a key parameter.
+         *
+         * @return {@code this}
+         */
+        public Builder<K, V> key() {
+
+            layout.add(Parameter.KEY);
+            return this;
+        }
+
+        /**
+         * Add a value parameter.
+         *
+         * @return {@code this}
+         */
+        public Builder<K, V> value() {
+
+            layout.add(Parameter.VALUE);
+            return this;
+        }
+
+        /**
+         * Add an integer parameter.
+         *
+         * @return {@code this}
+         */
+        public Builder<K, V> integer() {
+
+            layout.add(Parameter.INTEGER);
+            return this;
+        }
+
+        /**
+         * Add a fixed keyword that is encoded as part of the template.
+         *
+         * @param keyword the keyword, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder<K, V> keyword(ProtocolKeyword keyword) {
+
+            LettuceAssert.notNull(keyword, "Keyword must not be null");
+
+            layout.add(keyword);
+            return this;
+        }
+
+        /**
+         * Create the {@link CommandTemplate}.
+         *
+         * @return the new {@link CommandTemplate}.
+         */
+        public CommandTemplate<K, V> build() {
+            return new CommandTemplate<>(codec, type, layout);
+        }
+
+    }
+
+    /**
+     * {@link Command} created from a {@link CommandTemplate}.
+     */
+    static class TemplateCommand<K, V, T> extends Command<K, V, T> {
+
+        private final CommandTemplate<K, V> template;
+
+        private final Object[] arguments;
+
+        TemplateCommand(CommandTemplate<K, V> template, CommandOutput<K, V, T> output, Object[] arguments) {
+            super(template.type, output, null);
+            this.template = template;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public CommandArgs<K, V> getArgs() {
+
+            CommandArgs<K, V> args = this.args;
+            if (args == null) {
+                this.args = args = template.toArgs(arguments);
+            }
+
+            return args;
+        }
+
+        @Override
+        public void encode(ByteBuf buf) {
+
+            buf.touch("Command.encode(…)");
+            template.encode(buf, arguments);
+        }
+
+        ByteBuffer encodeFirstKey() {
+            return template.encodeFirstKey(arguments);
+        }
+
+        int estimateSize() {
+            return template.estimateSize(arguments);
+        }
+
+    }
+
+}
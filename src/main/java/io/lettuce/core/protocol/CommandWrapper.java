@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import io.lettuce.core.datastructure.queue.IntrusiveIndexedQueue;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 
@@ -32,7 +33,8 @@ import io.netty.buffer.ByteBuf;
  *
  * @author Mark Paluch
  */
-public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, CompleteableCommand<T>, DecoratedCommand<K, V, T> {
+public class CommandWrapper<K, V, T>
+        implements RedisCommand<K, V, T>, CompleteableCommand<T>, DecoratedCommand<K, V, T>, IntrusiveIndexedQueue.Element {
 
     @SuppressWarnings({ "rawtypes" })
     private static final AtomicReferenceFieldUpdater<CommandWrapper, Object[]> ONCOMPLETE = AtomicReferenceFieldUpdater
@@ -48,6 +50,8 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
     @SuppressWarnings("unused")
     private volatile Object[] onComplete = EMPTY;
 
+    private long queueIndex = IntrusiveIndexedQueue.NO_INDEX;
+
     public CommandWrapper(RedisCommand<K, V, T> command) {
         this.command = command;
     }
@@ -224,6 +228,16 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         }
     }
 
+    @Override
+    public long getQueueIndex() {
+        return queueIndex;
+    }
+
+    @Override
+    public void setQueueIndex(long index) {
+        this.queueIndex = index;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
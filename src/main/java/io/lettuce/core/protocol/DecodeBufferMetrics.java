@@ -0,0 +1,98 @@
+package io.lettuce.core.protocol;
+
+/**
+ * Snapshot of the decisions taken by an {@link AdaptiveDecodeBufferPolicy}. Counters are cumulative across all connections
+ * using the policy since the policy was created.
+ *
+ * @since 7.6
+ * @see AdaptiveDecodeBufferPolicy
+ */
+public class DecodeBufferMetrics {
+
+    private final long replyCount;
+
+    private final long replyBytes;
+
+    private final long discardCount;
+
+    private final long skippedDiscardCount;
+
+    private final long shrinkCount;
+
+    private final long releasedBytes;
+
+    public DecodeBufferMetrics(long replyCount, long replyBytes, long discardCount, long skippedDiscardCount, long shrinkCount,
+            long releasedBytes) {
+        this.replyCount = replyCount;
+        this.replyBytes = replyBytes;
+        this.discardCount = discardCount;
+        this.skippedDiscardCount = skippedDiscardCount;
+        this.shrinkCount = shrinkCount;
+        this.releasedBytes = releasedBytes;
+    }
+
+    /**
+     * @return number of decoded replies.
+     */
+    public long getReplyCount() {
+        return replyCount;
+    }
+
+    /**
+     * @return total number of bytes of decoded replies.
+     */
+    public long getReplyBytes() {
+        return replyBytes;
+    }
+
+    /**
+     * @return number of {@link io.netty.buffer.ByteBuf#discardReadBytes() discards} that moved unread bytes to the start of the
+     *         buffer.
+     */
+    public long getDiscardCount() {
+        return discardCount;
+    }
+
+    /**
+     * @return number of times discarding read bytes was skipped because the buffer had sufficient room left.
+     */
+    public long getSkippedDiscardCount() {
+        return skippedDiscardCount;
+    }
+
+    /**
+     * @return number of times an oversized buffer was shrunk.
+     */
+    public long getShrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * @return total number of bytes of buffer capacity released by shrinking.
+     */
+    public long getReleasedBytes() {
+        return releasedBytes;
+    }
+
+    /**
+     * @return the average reply size in bytes or {@code 0} if no replies have been decoded.
+     */
+    public double getAverageReplySize() {
+        return replyCount == 0 ? 0 : (double) replyBytes / replyCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [replyCount=").append(replyCount);
+        sb.append(", replyBytes=").append(replyBytes);
+        sb.append(", discardCount=").append(discardCount);
+        sb.append(", skippedDiscardCount=").append(skippedDiscardCount);
+        sb.append(", shrinkCount=").append(shrinkCount);
+        sb.append(", releasedBytes=").append(releasedBytes);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
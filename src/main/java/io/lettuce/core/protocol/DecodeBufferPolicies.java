@@ -67,6 +67,31 @@ public abstract class DecodeBufferPolicies {
         return new RatioDecodeBufferPolicy(bufferUsageRatio);
     }
 
+    /**
+     * Adaptive {@link DecodeBufferPolicy} that tracks reply sizes and buffer usage per connection to avoid unnecessary discards
+     * and to shrink oversized buffers. Uses {@link AdaptiveDecodeBufferPolicy#DEFAULT_MIN_CAPACITY} as minimum capacity.
+     *
+     * @return the new strategy object.
+     * @since 7.6
+     * @see AdaptiveDecodeBufferPolicy
+     */
+    public static AdaptiveDecodeBufferPolicy adaptive() {
+        return adaptive(AdaptiveDecodeBufferPolicy.DEFAULT_MIN_CAPACITY);
+    }
+
+    /**
+     * Adaptive {@link DecodeBufferPolicy} that tracks reply sizes and buffer usage per connection to avoid unnecessary discards
+     * and to shrink oversized buffers.
+     *
+     * @param minCapacity the minimum capacity to which buffers are shrunk, must be greater than zero.
+     * @return the new strategy object.
+     * @since 7.6
+     * @see AdaptiveDecodeBufferPolicy
+     */
+    public static AdaptiveDecodeBufferPolicy adaptive(int minCapacity) {
+        return new AdaptiveDecodeBufferPolicy(minCapacity);
+    }
+
     /**
      * {@link DecodeBufferPolicy} that {@link ByteBuf#discardReadBytes() discards read bytes} after each decoding phase. This
      * strategy has the most memory efficiency but also leads to more CPU pressure.
@@ -41,4 +41,15 @@ public interface DecodeBufferPolicy {
         buffer.discardSomeReadBytes();
     }
 
+    /**
+     * Obtain the policy to be used by a single connection. Stateful policies return a new instance holding the state of the
+     * connection. Stateless policies return {@code this}.
+     *
+     * @return the policy to be used by a single connection.
+     * @since 7.6
+     */
+    default DecodeBufferPolicy forConnection() {
+        return this;
+    }
+
 }
@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -54,6 +56,7 @@ import io.netty.handler.codec.EncoderException;
 import io.netty.util.Recycler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.internal.PlatformDependent;
 import io.netty.util.internal.logging.InternalLogLevel;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -75,6 +78,9 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
     private static final AtomicIntegerFieldUpdater<DefaultEndpoint> STATUS = AtomicIntegerFieldUpdater
             .newUpdater(DefaultEndpoint.class, "status");
 
+    private static final AtomicIntegerFieldUpdater<DefaultEndpoint> AUTO_BATCH_SCHEDULED = AtomicIntegerFieldUpdater
+            .newUpdater(DefaultEndpoint.class, "autoBatchScheduled");
+
     private static final int ST_OPEN = 0;
 
     private static final int ST_CLOSED = 1;
@@ -97,6 +103,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private final boolean rejectCommandsWhileDisconnected;
 
+    private final Queue<RedisCommand<?, ?, ?>> autoBatchQueue;
+
+    private final int autoBatchSize;
+
+    private final long autoBatchLingerMicros;
+
     private final long endpointId = ENDPOINT_COUNTER.incrementAndGet();
 
     private final List<PushListener> pushListeners = new CopyOnWriteArrayList<>();
@@ -127,6 +139,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
     @SuppressWarnings("unused")
     private volatile int status = ST_OPEN;
 
+    // access via AUTO_BATCH_SCHEDULED
+    @SuppressWarnings("unused")
+    private volatile int autoBatchScheduled = 0;
+
     private final String cachedEndpointId;
 
     /**
@@ -148,6 +164,9 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
+        this.autoBatchQueue = clientOptions.getAutoBatchOptions().isEnabled() ? PlatformDependent.newMpscQueue() : null;
+        this.autoBatchSize = clientOptions.getAutoBatchOptions().getMaxBatchSize();
+        this.autoBatchLingerMicros = TimeUnit.NANOSECONDS.toMicros(clientOptions.getAutoBatchOptions().getLinger().toNanos());
         this.cachedEndpointId = "0x" + Long.toHexString(endpointId);
     }
 
@@ -202,7 +221,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             if (autoFlushCommands) {
                 Channel channel = this.channel;
                 if (isConnected(channel)) {
-                    writeToChannelAndFlush(channel, command);
+                    if (autoBatchQueue != null) {
+                        writeToAutoBatch(channel, command);
+                    } else {
+                        writeToChannelAndFlush(channel, command);
+                    }
                 } else {
                     writeToDisconnectedBuffer(command);
                 }
@@ -243,7 +266,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             if (autoFlushCommands) {
                 Channel channel = this.channel;
                 if (isConnected(channel)) {
-                    writeToChannelAndFlush(channel, commands);
+                    if (autoBatchQueue != null) {
+                        writeToAutoBatch(channel, commands);
+                    } else {
+                        writeToChannelAndFlush(channel, commands);
+                    }
                 } else {
                     writeToDisconnectedBuffer(commands);
                 }
@@ -421,6 +448,160 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         channelFlush(channel);
     }
 
+    private void writeToAutoBatch(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        QUEUE_SIZE.incrementAndGet(this);
+
+        autoBatchQueue.offer(command);
+        scheduleAutoBatch(channel);
+    }
+
+    private void writeToAutoBatch(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        QUEUE_SIZE.addAndGet(this, commands.size());
+
+        // enqueue individually to retain the command order across producers using single and batch writes
+        for (RedisCommand<?, ?, ?> command : commands) {
+            autoBatchQueue.offer(command);
+        }
+
+        scheduleAutoBatch(channel);
+    }
+
+    /**
+     * Schedule a drain of the auto-batch queue on the event loop of {@code channel} unless a drain is already pending.
+     */
+    private void scheduleAutoBatch(Channel channel) {
+
+        if (!AUTO_BATCH_SCHEDULED.compareAndSet(this, 0, 1)) {
+            return;
+        }
+
+        try {
+            if (autoBatchLingerMicros > 0) {
+                channel.eventLoop().schedule(this::drainAutoBatch, autoBatchLingerMicros, TimeUnit.MICROSECONDS);
+            } else {
+                channel.eventLoop().execute(this::drainAutoBatch);
+            }
+        } catch (RejectedExecutionException e) {
+
+            // event loop is shutting down, channel writes fail and completion is left to the write listeners
+            drainAutoBatch();
+        }
+    }
+
+    /**
+     * Write all pending auto-batch commands to the current channel in batches of up to {@code autoBatchSize} commands and flush
+     * the channel once per batch. Pending commands are moved to the disconnected buffer if the channel was disconnected in the
+     * meantime.
+     */
+    private void drainAutoBatch() {
+
+        try {
+            sharedLock.incrementWriters();
+
+            // the channel that scheduled the drain might be gone already
+            Channel channel = this.channel;
+
+            if (isConnected(channel)) {
+
+                List<RedisCommand<?, ?, ?>> batch;
+
+                do {
+
+                    batch = new ArrayList<>(Math.min(autoBatchSize, 64));
+
+                    RedisCommand<?, ?, ?> command;
+                    while (batch.size() < autoBatchSize && (command = autoBatchQueue.poll()) != null) {
+                        batch.add(command);
+                    }
+
+                    if (!batch.isEmpty()) {
+                        channelWriteAndFlush(channel, batch);
+                    }
+                } while (batch.size() == autoBatchSize);
+            }
+        } finally {
+            sharedLock.decrementWriters();
+            AUTO_BATCH_SCHEDULED.set(this, 0);
+        }
+
+        if (autoBatchQueue.isEmpty()) {
+            return;
+        }
+
+        Channel channel = this.channel;
+
+        if (isConnected(channel)) {
+
+            // commands enqueued after the last poll but before resetting the scheduled flag
+            scheduleAutoBatch(channel);
+        } else if (isClosed()) {
+            cancelBufferedCommands("Close");
+        } else {
+            sharedLock.doExclusive(this::bufferAutoBatch);
+        }
+    }
+
+    /**
+     * Move pending auto-batch commands to the disconnected buffer. Pending commands were written before any command that was
+     * buffered after the disconnect so they are prepended to retain the command order. Must be called while holding the
+     * exclusive lock.
+     */
+    private void bufferAutoBatch() {
+
+        if (autoBatchQueue == null || autoBatchQueue.isEmpty()) {
+            return;
+        }
+
+        List<RedisCommand<?, ?, ?>> buffered = new ArrayList<>(disconnectedBuffer.size());
+
+        RedisCommand<?, ?, ?> command;
+        while ((command = disconnectedBuffer.poll()) != null) {
+            buffered.add(command);
+        }
+
+        if (debugEnabled) {
+            logger.debug("{} bufferAutoBatch() moving {} pending command(s) to buffer", logPrefix(), autoBatchQueue.size());
+        }
+
+        while ((command = autoBatchQueue.poll()) != null) {
+
+            QUEUE_SIZE.decrementAndGet(this);
+
+            if (!command.isDone()) {
+                writeToDisconnectedBuffer(command);
+            }
+        }
+
+        for (RedisCommand<?, ?, ?> bufferedCommand : buffered) {
+
+            if (!disconnectedBuffer.offer(bufferedCommand)) {
+                bufferedCommand.completeExceptionally(new RedisException("Request queue size exceeded: "
+                        + clientOptions.getRequestQueueSize() + ". Commands are not accepted until the queue size drops."));
+            }
+        }
+    }
+
+    private void channelWriteAndFlush(Channel channel, List<RedisCommand<?, ?, ?>> batch) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() writeAndFlush auto-batch of {} commands", logPrefix(), batch.size());
+        }
+
+        ChannelFuture channelFuture = channel.writeAndFlush(batch);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, batch));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            channelFuture.addListener(RetryListener.newInstance(this, batch));
+        }
+    }
+
     private void channelFlush(Channel channel) {
 
         if (debugEnabled) {
@@ -515,6 +696,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 logger.debug("{} deactivating endpoint handler", logPrefix());
             }
 
+            bufferAutoBatch();
             connectionFacade.deactivated();
         });
 
@@ -731,6 +913,22 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         List<RedisCommand<?, ?, ?>> target = new ArrayList<>(disconnectedBuffer.size() + commandBuffer.size());
 
+        if (autoBatchQueue != null) {
+
+            int polled = 0;
+
+            RedisCommand<?, ?, ?> cmd;
+            while ((cmd = autoBatchQueue.poll()) != null) {
+                polled++;
+
+                if (!cmd.isDone()) {
+                    target.add(cmd);
+                }
+            }
+
+            QUEUE_SIZE.addAndGet(this, -polled);
+        }
+
         drainCommands(disconnectedBuffer, target);
         drainCommands(commandBuffer, target);
 
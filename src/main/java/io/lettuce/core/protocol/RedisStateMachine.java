@@ -594,6 +594,21 @@ public class RedisStateMachine {
 
     static State.Result handleBytes(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
             Consumer<Throwable> errorHandler) {
+
+        if (output.isPartialAware()) {
+            return handlePartialBytes(rsm, state, buffer, output, errorHandler);
+        }
+
+        if (output.isByteBufAware()) {
+
+            ByteBuf slice;
+            if ((slice = rsm.readSlice(buffer, state.count)) == null) {
+                return State.Result.BREAK_LOOP;
+            }
+            rsm.safeSetByteBuf(output, slice, errorHandler);
+            return State.Result.NORMAL_END;
+        }
+
         ByteBuffer bytes;
 
         if ((bytes = rsm.readBytes(buffer, state.count)) == null) {
@@ -603,6 +618,33 @@ public class RedisStateMachine {
         return State.Result.NORMAL_END;
     }
 
+    /**
+     * Emit the available part of a bulk string to the output without waiting for the whole bulk string to arrive. Consumed
+     * bytes are released from the buffer so that the buffer does not need to hold the entire bulk string. The last chunk is
+     * emitted once the remainder of the bulk string including its terminator is readable; it may be empty.
+     */
+    static State.Result handlePartialBytes(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
+            Consumer<Throwable> errorHandler) {
+
+        int readable = Math.min(buffer.readableBytes(), state.count - TERMINATOR_LENGTH);
+        boolean last = buffer.readableBytes() >= state.count;
+
+        if (readable == 0 && !last) {
+            return State.Result.BREAK_LOOP;
+        }
+
+        rsm.safeSetPartial(output, rsm.readBytes0(buffer, readable), last, errorHandler);
+
+        if (last) {
+            buffer.skipBytes(TERMINATOR_LENGTH);
+            return State.Result.NORMAL_END;
+        }
+
+        state.count -= readable;
+        buffer.markReaderIndex();
+        return State.Result.BREAK_LOOP;
+    }
+
     private static State.Result handleAttribute(RedisStateMachine rsm, State state, ByteBuf buffer,
             CommandOutput<?, ?, ?> output, Consumer<Throwable> errorHandler) {
         throw new RedisProtocolException("Not implemented");
@@ -701,6 +743,21 @@ public class RedisStateMachine {
         return null;
     }
 
+    private ByteBuf readSlice(ByteBuf buffer, int count) {
+
+        if (buffer.readableBytes() >= count) {
+
+            ByteBuf slice = buffer.slice(buffer.readerIndex(), count - TERMINATOR_LENGTH);
+
+            buffer.skipBytes(count);
+            buffer.markReaderIndex();
+
+            return slice;
+        }
+
+        return null;
+    }
+
     private ByteBuffer readBytes0(ByteBuf buffer, int count) {
 
         ByteBuffer byteBuffer = buffer.internalNioBuffer(buffer.readerIndex(), count);
@@ -818,6 +875,25 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setPartial(ByteBuffer, boolean)}. Notifies the {@code errorHandler} if an exception
+     * occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param last
+     * @param errorHandler
+     */
+    protected void safeSetPartial(CommandOutput<?, ?, ?> output, ByteBuffer bytes, boolean last,
+            Consumer<Throwable> errorHandler) {
+
+        try {
+            output.setPartial(bytes, last);
+        } catch (Throwable e) {
+            errorHandler.accept(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Notifies the {@code errorHandler} if an exception occurs.
      *
@@ -834,6 +910,22 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param errorHandler
+     */
+    protected void safeSetByteBuf(CommandOutput<?, ?, ?> output, ByteBuf bytes, Consumer<Throwable> errorHandler) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Throwable e) {
+            errorHandler.accept(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Notifies the {@code errorHandler} if an exception occurs.
      *
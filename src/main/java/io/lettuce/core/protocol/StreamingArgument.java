@@ -0,0 +1,577 @@
+package io.lettuce.core.protocol;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
+
+/**
+ * Bulk string argument of a known length whose payload is streamed from a source at write time instead of being encoded into
+ * the command buffer. Streaming arguments allow writing large values (e.g. for {@code SET} or {@code APPEND}) without
+ * materializing them on the heap.
+ * <p>
+ * {@link CommandEncoder} writes the payload as separate message following the preceding part of the command: file payloads are
+ * written as {@link io.netty.channel.FileRegion} to allow zero-copy transfer unless the connection uses SSL, other payloads are
+ * written chunk-wise through a {@link ChunkedWriteHandler}.
+ * <p>
+ * A streaming argument can be written only once and takes ownership of its source: channels are closed after their payload was
+ * written. Commands with streaming arguments are therefore not retried after a reconnect. The source must provide exactly
+ * {@link #getLength() length} bytes, otherwise the connection is closed as the protocol state cannot be recovered.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre class="code">
+ * FileChannel file = FileChannel.open(path);
+ * connection.async().dispatch(CommandType.SET, new StatusOutput&lt;&gt;(codec),
+ *         new CommandArgs&lt;&gt;(codec).addKey(key).add(StreamingArgument.from(file, 0, file.size())));
+ * </pre>
+ *
+ * @since 7.6
+ * @see CommandArgs#add(StreamingArgument)
+ */
+public abstract class StreamingArgument {
+
+    static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Set once the first streaming argument is created to let the encoder skip scanning commands for streaming arguments.
+     */
+    private static volatile boolean created;
+
+    private final long length;
+
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    /**
+     * Whether to omit the payload when encoding so that it can be written as separate message.
+     */
+    private boolean deferred;
+
+    /**
+     * Buffer index at which the payload is to be written, set when encoding a deferred argument.
+     */
+    private int payloadIndex = -1;
+
+    private StreamingArgument(long length) {
+
+        LettuceAssert.isTrue(length >= 0, "Length must not be negative");
+        LettuceAssert.isTrue(length <= Integer.MAX_VALUE, "Length must not exceed the maximum bulk string length");
+
+        this.length = length;
+        created = true;
+    }
+
+    /**
+     * @return {@code true} if any {@link StreamingArgument} was created so that commands may contain streaming arguments.
+     */
+    static boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Create a {@link StreamingArgument} reading {@code length} bytes from a {@link ReadableByteChannel}. The channel is read
+     * on the event loop so reads must not block for a long time. If the channel has no data available, reading is retried after
+     * a short delay. Use {@link #from(Publisher, long)} to read from blocking sources on a different thread.
+     *
+     * @param channel the channel to read from, must not be {@code null}.
+     * @param length the number of bytes to read from {@code channel}.
+     * @return the streaming argument.
+     */
+    public static StreamingArgument from(ReadableByteChannel channel, long length) {
+
+        LettuceAssert.notNull(channel, "ReadableByteChannel must not be null");
+
+        return new ChannelArgument(channel, length);
+    }
+
+    /**
+     * Create a {@link StreamingArgument} transferring {@code length} bytes of a {@link FileChannel} starting at
+     * {@code position}. The file is transferred using zero-copy if the transport allows.
+     *
+     * @param channel the file channel, must not be {@code null}.
+     * @param position the position of the first byte to transfer.
+     * @param length the number of bytes to transfer.
+     * @return the streaming argument.
+     */
+    public static StreamingArgument from(FileChannel channel, long position, long length) {
+
+        LettuceAssert.notNull(channel, "FileChannel must not be null");
+        LettuceAssert.isTrue(position >= 0, "Position must not be negative");
+
+        return new FileArgument(channel, position, length);
+    }
+
+    /**
+     * Create a {@link StreamingArgument} from a {@link Publisher} emitting {@code length} bytes in total. The publisher is
+     * subscribed once the argument is written and requested one buffer at a time. Emitted buffers must not be modified after
+     * emission.
+     *
+     * @param publisher the publisher, must not be {@code null}.
+     * @param length the total number of bytes emitted by {@code publisher}.
+     * @return the streaming argument.
+     */
+    public static StreamingArgument from(Publisher<ByteBuffer> publisher, long length) {
+
+        LettuceAssert.notNull(publisher, "Publisher must not be null");
+
+        return new PublisherArgument(publisher, length);
+    }
+
+    /**
+     * @return the number of payload bytes.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Write the bulk string header of this argument to {@code buf}.
+     */
+    void encodeHeader(ByteBuf buf) {
+
+        buf.writeByte('$');
+        CommandArgs.writeInteger(buf, length);
+        buf.writeBytes(CommandArgs.CRLF);
+    }
+
+    /**
+     * @return {@code true} if this argument was already encoded.
+     */
+    boolean isConsumed() {
+        return consumed.get();
+    }
+
+    /**
+     * Omit the payload when encoding this argument. The payload is written by {@link #createMessage(ChannelHandlerContext)} at
+     * the {@link #getPayloadIndex() payload index} of the encoded command.
+     */
+    void defer() {
+        this.deferred = true;
+    }
+
+    /**
+     * @return the buffer index at which the payload is to be written or {@code -1} if the argument was not encoded deferred.
+     */
+    int getPayloadIndex() {
+        return payloadIndex;
+    }
+
+    /**
+     * Encode this argument into {@code buf}. Copies the payload into {@code buf} unless this argument is {@link #defer()
+     * deferred}.
+     */
+    void encode(ByteBuf buf) {
+
+        if (!consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException(this + " was already written");
+        }
+
+        encodeHeader(buf);
+
+        if (deferred) {
+            payloadIndex = buf.writerIndex();
+        } else {
+            copyPayload(buf);
+        }
+
+        buf.writeBytes(CommandArgs.CRLF);
+    }
+
+    private void copyPayload(ByteBuf buf) {
+
+        buf.ensureWritable((int) length);
+
+        try {
+            ChunkedInput<ByteBuf> input = createInput();
+            try {
+                while (!input.isEndOfInput()) {
+
+                    ByteBuf chunk = input.readChunk(buf.alloc());
+                    if (chunk == null) {
+                        throw new IllegalStateException(
+                                "Cannot encode " + this + " into a single buffer as its payload is not available");
+                    }
+
+                    buf.writeBytes(chunk);
+                    chunk.release();
+                }
+            } finally {
+                input.close();
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot read payload of " + this, e);
+        }
+    }
+
+    /**
+     * Create the message that writes the payload of this {@link #defer() deferred} argument to the channel of {@code ctx}.
+     * Requires a {@link ChunkedWriteHandler} in the pipeline.
+     */
+    Object createMessage(ChannelHandlerContext ctx) throws IOException {
+        return createInput();
+    }
+
+    abstract ChunkedInput<ByteBuf> createInput() throws IOException;
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [length=").append(length);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    static class ChannelArgument extends StreamingArgument {
+
+        private static final long RESUME_DELAY_MILLIS = 1;
+
+        private final ReadableByteChannel channel;
+
+        ChannelArgument(ReadableByteChannel channel, long length) {
+            super(length);
+            this.channel = channel;
+        }
+
+        @Override
+        Object createMessage(ChannelHandlerContext ctx) throws IOException {
+
+            ChunkedWriteHandler chunkedWriteHandler = ctx.pipeline().get(ChunkedWriteHandler.class);
+            ChannelInput input = (ChannelInput) super.createMessage(ctx);
+
+            // poll the channel again later instead of spinning on the event loop
+            input.resume = () -> ctx.executor().schedule(chunkedWriteHandler::resumeTransfer, RESUME_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+
+            return input;
+        }
+
+        @Override
+        ChunkedInput<ByteBuf> createInput() {
+            return new ChannelInput(channel, getLength());
+        }
+
+    }
+
+    static class FileArgument extends StreamingArgument {
+
+        private final FileChannel channel;
+
+        private final long position;
+
+        FileArgument(FileChannel channel, long position, long length) {
+            super(length);
+            this.channel = channel;
+            this.position = position;
+        }
+
+        @Override
+        Object createMessage(ChannelHandlerContext ctx) throws IOException {
+
+            if (ctx.pipeline().get(SslHandler.class) != null) {
+                return super.createMessage(ctx);
+            }
+
+            return new DefaultFileRegion(channel, position, getLength());
+        }
+
+        @Override
+        ChunkedInput<ByteBuf> createInput() throws IOException {
+            return new ChunkedNioFile(channel, position, getLength(), CHUNK_SIZE);
+        }
+
+    }
+
+    static class PublisherArgument extends StreamingArgument {
+
+        private final Publisher<ByteBuffer> publisher;
+
+        PublisherArgument(Publisher<ByteBuffer> publisher, long length) {
+            super(length);
+            this.publisher = publisher;
+        }
+
+        @Override
+        Object createMessage(ChannelHandlerContext ctx) throws IOException {
+
+            ChunkedWriteHandler chunkedWriteHandler = ctx.pipeline().get(ChunkedWriteHandler.class);
+            PublisherInput input = (PublisherInput) super.createMessage(ctx);
+
+            // resume asynchronously to not re-enter the ChunkedWriteHandler while it reads a chunk
+            input.resume = () -> ctx.executor().execute(chunkedWriteHandler::resumeTransfer);
+
+            return input;
+        }
+
+        @Override
+        ChunkedInput<ByteBuf> createInput() {
+            return new PublisherInput(publisher, getLength());
+        }
+
+    }
+
+    /**
+     * {@link ChunkedInput} reading exactly {@code length} bytes from a {@link ReadableByteChannel}. Chunks contain the bytes
+     * that are available without waiting. If no bytes are available, the transfer is suspended and {@link #resume resumed}
+     * later.
+     */
+    static class ChannelInput implements ChunkedInput<ByteBuf> {
+
+        private final ReadableByteChannel channel;
+
+        private final long length;
+
+        private long progress;
+
+        volatile Runnable resume = () -> {
+        };
+
+        ChannelInput(ReadableByteChannel channel, long length) {
+            this.channel = channel;
+            this.length = length;
+        }
+
+        @Override
+        public boolean isEndOfInput() {
+            return progress == length;
+        }
+
+        @Override
+        public void close() throws Exception {
+            channel.close();
+        }
+
+        @Override
+        @Deprecated
+        public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+
+            if (isEndOfInput()) {
+                return null;
+            }
+
+            int chunkSize = (int) Math.min(CHUNK_SIZE, length - progress);
+            ByteBuf chunk = allocator.buffer(chunkSize);
+
+            try {
+                while (chunk.writerIndex() < chunkSize) {
+
+                    int writerIndex = chunk.writerIndex();
+                    int read = channel.read(chunk.internalNioBuffer(writerIndex, chunkSize - writerIndex));
+
+                    if (read < 0) {
+                        throw new EOFException(
+                                String.format("Premature end of channel after %d of %d bytes", progress + writerIndex, length));
+                    }
+
+                    if (read == 0) {
+                        break;
+                    }
+
+                    chunk.writerIndex(writerIndex + read);
+                }
+            } catch (Exception e) {
+                chunk.release();
+                throw e;
+            }
+
+            if (!chunk.isReadable()) {
+
+                chunk.release();
+                resume.run();
+                return null;
+            }
+
+            progress += chunk.readableBytes();
+            return chunk;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public long progress() {
+            return progress;
+        }
+
+    }
+
+    /**
+     * {@link ChunkedInput} emitting buffers of a {@link Publisher} as chunks. Subscribes to the publisher when reading the
+     * first chunk and requests one buffer at a time. If no buffer is available, the transfer is suspended and {@link #resume
+     * resumed} once the publisher signals.
+     */
+    static class PublisherInput implements ChunkedInput<ByteBuf>, Subscriber<ByteBuffer> {
+
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+        private final Publisher<ByteBuffer> publisher;
+
+        private final long length;
+
+        private long progress;
+
+        private boolean subscribed;
+
+        private volatile Subscription subscription;
+
+        private volatile boolean completed;
+
+        private volatile Throwable error;
+
+        private volatile boolean suspended;
+
+        volatile Runnable resume = () -> {
+        };
+
+        PublisherInput(Publisher<ByteBuffer> publisher, long length) {
+            this.publisher = publisher;
+            this.length = length;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+
+            buffers.add(buffer);
+            signal();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+
+            this.error = throwable;
+            signal();
+        }
+
+        @Override
+        public void onComplete() {
+
+            this.completed = true;
+            signal();
+        }
+
+        private void signal() {
+
+            if (suspended) {
+                suspended = false;
+                resume.run();
+            }
+        }
+
+        @Override
+        public boolean isEndOfInput() {
+            return progress == length;
+        }
+
+        @Override
+        public void close() {
+
+            Subscription subscription = this.subscription;
+            if (subscription != null && !completed && error == null) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        @Deprecated
+        public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+
+            if (!subscribed) {
+                subscribed = true;
+                publisher.subscribe(this);
+            }
+
+            ByteBuffer buffer = buffers.poll();
+
+            if (buffer == null && !completed && error == null) {
+
+                suspended = true;
+
+                // re-check to not miss a signal that arrived before suspending
+                if ((buffer = buffers.poll()) == null && !completed && error == null) {
+                    return null;
+                }
+
+                suspended = false;
+            }
+
+            if (buffer == null) {
+
+                if (error != null) {
+                    throw new IOException("Publisher failed after " + progress + " of " + length + " bytes", error);
+                }
+
+                if (!isEndOfInput()) {
+                    throw new EOFException(
+                            String.format("Premature completion of publisher after %d of %d bytes", progress, length));
+                }
+
+                return null;
+            }
+
+            if (progress + buffer.remaining() > length) {
+                throw new IOException(String.format("Publisher emitted more than %d bytes", length));
+            }
+
+            progress += buffer.remaining();
+
+            if (!isEndOfInput()) {
+                subscription.request(1);
+            }
+
+            return Unpooled.wrappedBuffer(buffer);
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public long progress() {
+            return progress;
+        }
+
+    }
+
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.MetricCollector;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * {@link RedisPubSubListener} that hands notifications off to an {@link Executor} instead of calling its delegate on the I/O
+ * thread. A slow listener therefore no longer stalls reads of the connection.
+ * <p>
+ * Notifications are queued per channel (and per pattern for pattern notifications). Each queue is drained by at most one task
+ * at a time so that notifications of the same channel are delivered in order, while different channels are delivered
+ * concurrently. Queues are bounded, the {@link OverflowPolicy} determines what happens to notifications that arrive while a
+ * queue is full. {@link OverflowPolicy#BLOCK} blocks the I/O thread and therefore must not be used with an {@link Executor}
+ * that runs tasks on the I/O thread. Delivery counters and lag are available through {@link MetricCollector#retrieveMetrics()}.
+ * <p>
+ * Any {@link Executor} can be used, e.g. a virtual thread per task executor on Java 21 and newer.
+ *
+ * <pre class="code">
+ *
+ * ExecutorPubSubListener&lt;String, String&gt; listener = ExecutorPubSubListener.builder(delegate)
+ *         .executor(Executors.newFixedThreadPool(4)).queueCapacity(1024).overflowPolicy(OverflowPolicy.DROP_OLDEST).build();
+ *
+ * connection.addListener(listener);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see IndexedPubSubListener
+ */
+public class ExecutorPubSubListener<K, V> implements RedisPubSubListener<K, V>, MetricCollector<PubSubDeliveryMetrics> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ExecutorPubSubListener.class);
+
+    /**
+     * Number of notifications delivered by a single task before yielding to other queues.
+     */
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final RedisPubSubListener<K, V> delegate;
+
+    private final Executor executor;
+
+    private final int queueCapacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Map<PubSubEndpoint.Wrapper<K>, DeliveryQueue> channelQueues = new ConcurrentHashMap<>();
+
+    private final Map<PubSubEndpoint.Wrapper<K>, DeliveryQueue> patternQueues = new ConcurrentHashMap<>();
+
+    private final LongAdder delivered = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder pending = new LongAdder();
+
+    private final LongAdder totalLag = new LongAdder();
+
+    private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+
+    ExecutorPubSubListener(RedisPubSubListener<K, V> delegate, Executor executor, int queueCapacity,
+            OverflowPolicy overflowPolicy) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Create a new {@link Builder} for a {@link ExecutorPubSubListener} that delivers notifications to {@code delegate}.
+     *
+     * @param delegate the listener to notify, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Builder}.
+     */
+    public static <K, V> Builder<K, V> builder(RedisPubSubListener<K, V> delegate) {
+
+        LettuceAssert.notNull(delegate, "RedisPubSubListener must not be null");
+
+        return new Builder<>(delegate);
+    }
+
+    @Override
+    public void message(K channel, V message) {
+        enqueue(channelQueues, channel, new Notification<>(PubSubOutput.Type.message, null, channel, message, 0));
+    }
+
+    @Override
+    public void message(K pattern, K channel, V message) {
+        enqueue(patternQueues, pattern, new Notification<>(PubSubOutput.Type.pmessage, pattern, channel, message, 0));
+    }
+
+    @Override
+    public void subscribed(K channel, long count) {
+        enqueue(channelQueues, channel, new Notification<>(PubSubOutput.Type.subscribe, null, channel, null, count));
+    }
+
+    @Override
+    public void psubscribed(K pattern, long count) {
+        enqueue(patternQueues, pattern, new Notification<>(PubSubOutput.Type.psubscribe, pattern, null, null, count));
+    }
+
+    @Override
+    public void unsubscribed(K channel, long count) {
+        enqueue(channelQueues, channel, new Notification<>(PubSubOutput.Type.unsubscribe, null, channel, null, count));
+    }
+
+    @Override
+    public void punsubscribed(K pattern, long count) {
+        enqueue(patternQueues, pattern, new Notification<>(PubSubOutput.Type.punsubscribe, pattern, null, null, count));
+    }
+
+    @Override
+    public void ssubscribed(K shardChannel, long count) {
+        enqueue(channelQueues, shardChannel, new Notification<>(PubSubOutput.Type.ssubscribe, null, shardChannel, null, count));
+    }
+
+    @Override
+    public void sunsubscribed(K shardChannel, long count) {
+        enqueue(channelQueues, shardChannel,
+                new Notification<>(PubSubOutput.Type.sunsubscribe, null, shardChannel, null, count));
+    }
+
+    @Override
+    public void smessage(K shardChannel, V message) {
+        enqueue(channelQueues, shardChannel, new Notification<>(PubSubOutput.Type.smessage, null, shardChannel, message, 0));
+    }
+
+    @Override
+    public PubSubDeliveryMetrics retrieveMetrics() {
+        return new PubSubDeliveryMetrics(delivered.sum(), dropped.sum(), pending.sum(), totalLag.sum(), maxLag.get());
+    }
+
+    /**
+     * Metrics are computed on retrieval, there are no resources to release.
+     */
+    @Override
+    public void shutdown() {
+    }
+
+    private void enqueue(Map<PubSubEndpoint.Wrapper<K>, DeliveryQueue> queues, K name, Notification<K, V> notification) {
+
+        PubSubEndpoint.Wrapper<K> key = new PubSubEndpoint.Wrapper<>(name);
+
+        // retry if the queue was retired concurrently after an unsubscribe notification
+        while (true) {
+
+            DeliveryQueue queue = queues.computeIfAbsent(key, it -> new DeliveryQueue(queues, it));
+            if (queue.offer(notification)) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(Notification<K, V> notification) {
+
+        long lag = System.nanoTime() - notification.receivedAt;
+        totalLag.add(lag);
+        maxLag.accumulate(lag);
+
+        try {
+            switch (notification.type) {
+                case message:
+                    delegate.message(notification.channel, notification.message);
+                    break;
+                case pmessage:
+                    delegate.message(notification.pattern, notification.channel, notification.message);
+                    break;
+                case subscribe:
+                    delegate.subscribed(notification.channel, notification.count);
+                    break;
+                case psubscribe:
+                    delegate.psubscribed(notification.pattern, notification.count);
+                    break;
+                case unsubscribe:
+                    delegate.unsubscribed(notification.channel, notification.count);
+                    break;
+                case punsubscribe:
+                    delegate.punsubscribed(notification.pattern, notification.count);
+                    break;
+                case ssubscribe:
+                    delegate.ssubscribed(notification.channel, notification.count);
+                    break;
+                case sunsubscribe:
+                    delegate.sunsubscribed(notification.channel, notification.count);
+                    break;
+                case smessage:
+                    delegate.smessage(notification.channel, notification.message);
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Operation " + notification.type + " not supported");
+            }
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+        } finally {
+            delivered.increment();
+        }
+    }
+
+    private static boolean isUnsubscribe(PubSubOutput.Type type) {
+        return type == PubSubOutput.Type.unsubscribe || type == PubSubOutput.Type.punsubscribe
+                || type == PubSubOutput.Type.sunsubscribe;
+    }
+
+    /**
+     * Policy applied to notifications that arrive while the queue of their channel is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drop the notification that arrived.
+         */
+        DROP_LATEST,
+
+        /**
+         * Drop the oldest queued notification to make room for the notification that arrived.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Block the I/O thread until the queue has room. Reading from the connection pauses while blocked.
+         */
+        BLOCK
+
+    }
+
+    /**
+     * Builder for {@link ExecutorPubSubListener}.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    public static class Builder<K, V> {
+
+        private final RedisPubSubListener<K, V> delegate;
+
+        private Executor executor;
+
+        private int queueCapacity = 1024;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+        private Builder(RedisPubSubListener<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Set the {@link Executor} to deliver notifications on.
+         *
+         * @param executor the executor, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> executor(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of pending notifications per channel respective pattern. Defaults to {@code 1024}.
+         *
+         * @param queueCapacity the queue capacity, must be greater than zero.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the {@link OverflowPolicy} applied when a queue is full. Defaults to {@link OverflowPolicy#DROP_OLDEST}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link ExecutorPubSubListener}.
+         */
+        public ExecutorPubSubListener<K, V> build() {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            return new ExecutorPubSubListener<>(delegate, executor, queueCapacity, overflowPolicy);
+        }
+
+    }
+
+    static class Notification<K, V> {
+
+        final PubSubOutput.Type type;
+
+        final K pattern;
+
+        final K channel;
+
+        final V message;
+
+        final long count;
+
+        final long receivedAt = System.nanoTime();
+
+        Notification(PubSubOutput.Type type, K pattern, K channel, V message, long count) {
+            this.type = type;
+            this.pattern = pattern;
+            this.channel = channel;
+            this.message = message;
+            this.count = count;
+        }
+
+    }
+
+    /**
+     * Queue of notifications for a single channel or pattern. Drained by at most one task at a time.
+     */
+    class DeliveryQueue implements Runnable {
+
+        private final Map<PubSubEndpoint.Wrapper<K>, DeliveryQueue> owner;
+
+        private final PubSubEndpoint.Wrapper<K> key;
+
+        private final ArrayDeque<Notification<K, V>> notifications = new ArrayDeque<>();
+
+        private boolean scheduled;
+
+        private boolean retired;
+
+        DeliveryQueue(Map<PubSubEndpoint.Wrapper<K>, DeliveryQueue> owner, PubSubEndpoint.Wrapper<K> key) {
+            this.owner = owner;
+            this.key = key;
+        }
+
+        /**
+         * @return {@code false} if the queue was retired and the notification must be offered to a new queue.
+         */
+        boolean offer(Notification<K, V> notification) {
+
+            synchronized (this) {
+
+                if (retired) {
+                    return false;
+                }
+
+                while (notifications.size() >= queueCapacity) {
+
+                    if (overflowPolicy == OverflowPolicy.DROP_LATEST) {
+                        dropped.increment();
+                        return true;
+                    }
+
+                    if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                        notifications.poll();
+                        pending.decrement();
+                        dropped.increment();
+                        continue;
+                    }
+
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                        return true;
+                    }
+
+                    if (retired) {
+                        return false;
+                    }
+                }
+
+                notifications.add(notification);
+                pending.increment();
+
+                if (scheduled) {
+                    return true;
+                }
+
+                scheduled = true;
+            }
+
+            schedule();
+            return true;
+        }
+
+        @Override
+        public void run() {
+
+            for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+
+                Notification<K, V> notification;
+
+                synchronized (this) {
+
+                    notification = notifications.poll();
+
+                    if (notification == null) {
+                        scheduled = false;
+                        return;
+                    }
+
+                    pending.decrement();
+                    notifyAll();
+                }
+
+                deliver(notification);
+
+                if (isUnsubscribe(notification.type)) {
+                    retireIfEmpty();
+                }
+            }
+
+            schedule();
+        }
+
+        private void schedule() {
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+
+                logger.error("Cannot deliver Pub/Sub notifications, executor rejected delivery task", e);
+
+                synchronized (this) {
+                    dropped.add(notifications.size());
+                    pending.add(-notifications.size());
+                    notifications.clear();
+                    scheduled = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        private void retireIfEmpty() {
+
+            synchronized (this) {
+
+                if (!notifications.isEmpty()) {
+                    return;
+                }
+
+                retired = true;
+                notifyAll();
+            }
+
+            owner.remove(key, this);
+        }
+
+    }
+
+}
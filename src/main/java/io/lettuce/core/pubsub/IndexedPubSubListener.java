@@ -0,0 +1,203 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * {@link RedisPubSubListener} that dispatches notifications to listeners registered for a specific channel or pattern.
+ * Listeners are looked up by channel respective pattern name instead of notifying every listener and letting each listener
+ * filter the notifications it is interested in. Dispatch cost is therefore independent of the number of subscribed channels.
+ * <p>
+ * Channel listeners receive {@link #message(Object, Object) messages}, {@link #smessage(Object, Object) shard messages} and
+ * subscription notifications for their channel. Pattern listeners receive {@link #message(Object, Object, Object) pattern
+ * messages} and subscription notifications for their pattern. Binary ({@code byte[]}) channel names are compared by their
+ * content.
+ *
+ * <pre class="code">
+ *
+ * IndexedPubSubListener&lt;String, String&gt; listeners = new IndexedPubSubListener&lt;&gt;();
+ * listeners.addChannelListener("orders", ordersListener);
+ * listeners.addPatternListener("prices.*", pricesListener);
+ *
+ * connection.addListener(listeners);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see ExecutorPubSubListener
+ */
+public class IndexedPubSubListener<K, V> implements RedisPubSubListener<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(IndexedPubSubListener.class);
+
+    private final Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> channelListeners = new ConcurrentHashMap<>();
+
+    private final Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> patternListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Add a {@link RedisPubSubListener listener} for notifications of a channel or shard channel.
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        add(channelListeners, channel, listener);
+    }
+
+    /**
+     * Remove a {@link RedisPubSubListener listener} for notifications of a channel or shard channel.
+     *
+     * @param channel the channel, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        remove(channelListeners, channel, listener);
+    }
+
+    /**
+     * Add a {@link RedisPubSubListener listener} for notifications of a pattern.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        add(patternListeners, pattern, listener);
+    }
+
+    /**
+     * Remove a {@link RedisPubSubListener listener} for notifications of a pattern.
+     *
+     * @param pattern the pattern, must not be {@code null}.
+     * @param listener the listener, must not be {@code null}.
+     */
+    public void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        remove(patternListeners, pattern, listener);
+    }
+
+    /**
+     * @param channel the channel.
+     * @return {@code true} if at least one listener is registered for {@code channel}.
+     */
+    public boolean hasChannelListeners(K channel) {
+        return channel != null && channelListeners.containsKey(new PubSubEndpoint.Wrapper<>(channel));
+    }
+
+    /**
+     * @param pattern the pattern.
+     * @return {@code true} if at least one listener is registered for {@code pattern}.
+     */
+    public boolean hasPatternListeners(K pattern) {
+        return pattern != null && patternListeners.containsKey(new PubSubEndpoint.Wrapper<>(pattern));
+    }
+
+    @Override
+    public void message(K channel, V message) {
+        dispatch(channelListeners, channel, listener -> listener.message(channel, message));
+    }
+
+    @Override
+    public void message(K pattern, K channel, V message) {
+        dispatch(patternListeners, pattern, listener -> listener.message(pattern, channel, message));
+    }
+
+    @Override
+    public void subscribed(K channel, long count) {
+        dispatch(channelListeners, channel, listener -> listener.subscribed(channel, count));
+    }
+
+    @Override
+    public void psubscribed(K pattern, long count) {
+        dispatch(patternListeners, pattern, listener -> listener.psubscribed(pattern, count));
+    }
+
+    @Override
+    public void unsubscribed(K channel, long count) {
+        dispatch(channelListeners, channel, listener -> listener.unsubscribed(channel, count));
+    }
+
+    @Override
+    public void punsubscribed(K pattern, long count) {
+        dispatch(patternListeners, pattern, listener -> listener.punsubscribed(pattern, count));
+    }
+
+    @Override
+    public void ssubscribed(K shardChannel, long count) {
+        dispatch(channelListeners, shardChannel, listener -> listener.ssubscribed(shardChannel, count));
+    }
+
+    @Override
+    public void sunsubscribed(K shardChannel, long count) {
+        dispatch(channelListeners, shardChannel, listener -> listener.sunsubscribed(shardChannel, count));
+    }
+
+    @Override
+    public void smessage(K shardChannel, V message) {
+        dispatch(channelListeners, shardChannel, listener -> listener.smessage(shardChannel, message));
+    }
+
+    private void dispatch(Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name,
+            Consumer<RedisPubSubListener<K, V>> notification) {
+
+        if (name == null || index.isEmpty()) {
+            return;
+        }
+
+        List<RedisPubSubListener<K, V>> listeners = index.get(new PubSubEndpoint.Wrapper<>(name));
+        if (listeners == null) {
+            return;
+        }
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+            }
+        }
+    }
+
+    private void add(Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(name, "Name must not be null");
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+
+        index.compute(new PubSubEndpoint.Wrapper<>(name), (key, listeners) -> {
+
+            if (listeners == null) {
+                listeners = new CopyOnWriteArrayList<>();
+            }
+
+            listeners.add(listener);
+            return listeners;
+        });
+    }
+
+    private void remove(Map<PubSubEndpoint.Wrapper<K>, List<RedisPubSubListener<K, V>>> index, K name,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(name, "Name must not be null");
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+
+        index.computeIfPresent(new PubSubEndpoint.Wrapper<>(name), (key, listeners) -> {
+
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+}
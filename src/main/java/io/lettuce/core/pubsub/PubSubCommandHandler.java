@@ -1,17 +1,15 @@
 package io.lettuce.core.pubsub;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.api.push.PushMessage;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.CommandOutput;
-import io.lettuce.core.output.ReplayOutput;
 import io.lettuce.core.protocol.CommandHandler;
-import io.lettuce.core.protocol.DecodeBufferPolicy;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.buffer.ByteBuf;
@@ -24,8 +22,8 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * A netty {@link ChannelHandler} responsible for writing Redis Pub/Sub commands and reading the response stream from the
  * server. {@link PubSubCommandHandler} accounts for Pub/Sub message notification calling back
  * {@link PubSubEndpoint#notifyMessage(PubSubMessage)}. Redis responses can be interleaved in the sense that a response contains
- * a Pub/Sub message first, then a command response. Possible interleave is introspected via {@link ResponseHeaderReplayOutput}
- * and decoding hooks.
+ * a Pub/Sub message first, then a command response. Possible interleave is introspected via {@link ResponseDispatchOutput} and
+ * decoding hooks.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -40,11 +38,9 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
     private final RedisCodec<K, V> codec;
 
-    private final Deque<ReplayOutput<K, V>> queue = new ArrayDeque<>();
+    private final Deque<PubSubOutput<K, V>> queue = new ArrayDeque<>();
 
-    private final DecodeBufferPolicy decodeBufferPolicy;
-
-    private ResponseHeaderReplayOutput<K, V> replay;
+    private final ResponseDispatchOutput<K, V> dispatch;
 
     private PubSubOutput<K, V> output;
 
@@ -63,27 +59,43 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
         this.endpoint = endpoint;
         this.codec = codec;
-        this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy();
         this.output = new PubSubOutput<>(codec);
+        this.dispatch = new ResponseDispatchOutput<>(codec);
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
 
-        replay = null;
+        dispatch.reset();
         queue.clear();
 
         super.channelInactive(ctx);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) throws InterruptedException {
 
+        decodePubSub(ctx, buffer);
+
+        // pause reading until slow subscribers catch up, letting TCP flow control push back on the server
+        if (!endpoint.hasDemand(getBackpressureSource())) {
+
+            ctx.channel().config().setAutoRead(false);
+
+            // re-check as demand signalled before disabling autoRead does not re-enable reading
+            if (endpoint.hasDemand(getBackpressureSource())) {
+                ctx.channel().config().setAutoRead(true);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decodePubSub(ChannelHandlerContext ctx, ByteBuf buffer) throws InterruptedException {
+
         if (output.type() != null && !output.isCompleted()) {
 
             if (!super.decode(buffer, output)) {
-                decodeBufferPolicy.afterPartialDecode(buffer);
+                getDecodeBufferPolicy().afterPartialDecode(buffer);
                 return;
             }
 
@@ -97,18 +109,15 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             super.decode(ctx, buffer);
         }
 
-        ReplayOutput<K, V> replay;
-        while ((replay = queue.poll()) != null) {
-
-            replay.replay(output);
-            doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+        PubSubOutput<K, V> message;
+        while ((message = queue.poll()) != null) {
+            doNotifyMessage(message);
         }
 
         while (super.getStack().isEmpty() && buffer.isReadable()) {
 
             if (!super.decode(buffer, output)) {
-                decodeBufferPolicy.afterPartialDecode(buffer);
+                getDecodeBufferPolicy().afterPartialDecode(buffer);
                 return;
             }
 
@@ -116,7 +125,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             output = new PubSubOutput<>(codec);
         }
 
-        decodeBufferPolicy.afterDecoding(buffer);
+        getDecodeBufferPolicy().afterDecoding(buffer);
     }
 
     @Override
@@ -127,59 +136,17 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
     @Override
     protected boolean canComplete(RedisCommand<?, ?, ?> command) {
 
-        if (isResp2PubSubMessage(replay)) {
+        PubSubOutput<K, V> message = dispatch.getMessage();
+        dispatch.reset();
 
-            queue.add(replay);
-            replay = null;
+        if (message != null) {
+            queue.add(message);
             return false;
         }
 
         return super.canComplete(command);
     }
 
-    @Override
-    protected void complete(RedisCommand<?, ?, ?> command) {
-
-        if (replay != null && command.getOutput() != null) {
-            try {
-                replay.replay(command.getOutput());
-            } catch (Exception e) {
-                command.completeExceptionally(e);
-            }
-            replay = null;
-        }
-
-        super.complete(command);
-    }
-
-    /**
-     * Check whether {@link ResponseHeaderReplayOutput} contains a Pub/Sub message that requires Pub/Sub dispatch instead of to
-     * be used as Command output.
-     *
-     * @param replay
-     * @return
-     */
-    private static boolean isResp2PubSubMessage(ResponseHeaderReplayOutput<?, ?> replay) {
-
-        if (replay == null) {
-            return false;
-        }
-
-        String firstElement = replay.firstElement;
-        if (replay.multiCount != null && firstElement != null) {
-
-            if (replay.multiCount == 3 && firstElement.equalsIgnoreCase(PubSubOutput.Type.message.name())) {
-                return true;
-            }
-
-            if (replay.multiCount == 4 && firstElement.equalsIgnoreCase(PubSubOutput.Type.pmessage.name())) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     @Override
     protected CommandOutput<?, ?, ?> getCommandOutput(RedisCommand<?, ?, ?> command) {
 
@@ -187,11 +154,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             return super.getCommandOutput(command);
         }
 
-        if (replay == null) {
-            replay = new ResponseHeaderReplayOutput<>();
-        }
-
-        return replay;
+        return dispatch.bind(command.getOutput());
     }
 
     protected void notifyPushListeners(PushMessage notification) {
@@ -287,38 +250,223 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
     }
 
     /**
-     * Inspectable {@link ReplayOutput} to investigate the first multi and string response elements.
+     * {@link CommandOutput} that inspects the header of a response to tell RESP2 Pub/Sub messages interleaved with command
+     * responses apart from the command response itself. Signals are passed on to either a new {@link PubSubOutput} or the
+     * command output as soon as the first element of the response is known, so that responses are decoded only once without
+     * buffering.
      *
      * @param <K>
      * @param <V>
      */
-    static class ResponseHeaderReplayOutput<K, V> extends ReplayOutput<K, V> {
+    static class ResponseDispatchOutput<K, V> extends CommandOutput<K, V, Object> {
+
+        private static final byte[] MESSAGE = PubSubOutput.Type.message.name().getBytes(StandardCharsets.US_ASCII);
 
-        Integer multiCount;
+        private static final byte[] SMESSAGE = PubSubOutput.Type.smessage.name().getBytes(StandardCharsets.US_ASCII);
+
+        private static final byte[] PMESSAGE = PubSubOutput.Type.pmessage.name().getBytes(StandardCharsets.US_ASCII);
+
+        private final RedisCodec<K, V> codec;
+
+        private CommandOutput<?, ?, ?> commandOutput;
+
+        private CommandOutput<?, ?, ?> target;
+
+        private PubSubOutput<K, V> message;
+
+        private int headerCount = -1;
+
+        ResponseDispatchOutput(RedisCodec<K, V> codec) {
+            super(codec, null);
+            this.codec = codec;
+        }
 
-        String firstElement;
+        /**
+         * Bind the output of the command that awaits its response. Has no effect while a response is being decoded.
+         *
+         * @param commandOutput the command output.
+         * @return {@code this} output.
+         */
+        ResponseDispatchOutput<K, V> bind(CommandOutput<?, ?, ?> commandOutput) {
+
+            if (target == null && headerCount == -1) {
+                this.commandOutput = commandOutput;
+            }
+
+            return this;
+        }
+
+        /**
+         * @return the Pub/Sub message if the current response is a Pub/Sub message, otherwise {@code null}.
+         */
+        PubSubOutput<K, V> getMessage() {
+            return message;
+        }
+
+        /**
+         * Reset this output to accept the next response.
+         */
+        void reset() {
+            commandOutput = null;
+            target = null;
+            message = null;
+            headerCount = -1;
+        }
 
         @Override
         public void set(ByteBuffer bytes) {
 
-            if (firstElement == null && bytes != null && bytes.remaining() > 0) {
+            if (target == null && headerCount != -1 && isMessage(headerCount, bytes)) {
 
-                bytes.mark();
-                firstElement = StringCodec.ASCII.decodeKey(bytes);
-                bytes.reset();
+                message = new PubSubOutput<>(codec);
+                message.multi(headerCount);
+                target = message;
+                headerCount = -1;
             }
 
-            super.set(bytes);
+            if (message != null) {
+
+                // do not fail the pending command if the message cannot be decoded
+                try {
+                    message.set(bytes);
+                } catch (RuntimeException e) {
+                    logger.error("Unexpected error occurred while decoding a Pub/Sub message", e);
+                }
+                return;
+            }
+
+            target().set(bytes);
+        }
+
+        @Override
+        public void setSingle(ByteBuffer bytes) {
+            target().setSingle(bytes);
+        }
+
+        @Override
+        public void setBigNumber(ByteBuffer bytes) {
+            target().setBigNumber(bytes);
+        }
+
+        @Override
+        public void set(long integer) {
+            target().set(integer);
+        }
+
+        @Override
+        public void set(double number) {
+            target().set(number);
+        }
+
+        @Override
+        public void set(boolean value) {
+            target().set(value);
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+            target().setError(error);
+        }
+
+        @Override
+        public void setError(String error) {
+            target().setError(error);
+        }
+
+        @Override
+        public boolean hasError() {
+            return target != null && target.hasError();
+        }
+
+        @Override
+        public String getError() {
+            return target != null ? target.getError() : null;
+        }
+
+        @Override
+        public void complete(int depth) {
+            target().complete(depth);
         }
 
         @Override
         public void multi(int count) {
+            target().multi(count);
+        }
+
+        @Override
+        public void multiArray(int count) {
+
+            // Pub/Sub messages are arrays of three (message, smessage) or four (pmessage) elements
+            if (target == null && headerCount == -1 && (count == 3 || count == 4)) {
+                headerCount = count;
+                return;
+            }
+
+            target().multiArray(count);
+        }
+
+        @Override
+        public void multiPush(int count) {
+            target().multiPush(count);
+        }
+
+        @Override
+        public void multiMap(int count) {
+            target().multiMap(count);
+        }
+
+        @Override
+        public void multiSet(int count) {
+            target().multiSet(count);
+        }
+
+        /**
+         * Resolve the output to pass signals on to. Responses that are not Pub/Sub messages are passed on to the command
+         * output, including a deferred array header.
+         */
+        private CommandOutput<?, ?, ?> target() {
+
+            if (target == null) {
+
+                target = commandOutput;
+
+                if (headerCount != -1) {
+                    target.multiArray(headerCount);
+                    headerCount = -1;
+                }
+            }
+
+            return target;
+        }
+
+        private static boolean isMessage(int count, ByteBuffer bytes) {
+
+            if (bytes == null) {
+                return false;
+            }
+
+            if (count == 3) {
+                return equalsIgnoreCase(bytes, MESSAGE) || equalsIgnoreCase(bytes, SMESSAGE);
+            }
+
+            return equalsIgnoreCase(bytes, PMESSAGE);
+        }
+
+        private static boolean equalsIgnoreCase(ByteBuffer bytes, byte[] expected) {
+
+            if (bytes.remaining() != expected.length) {
+                return false;
+            }
+
+            int position = bytes.position();
+            for (int i = 0; i < expected.length; i++) {
 
-            if (multiCount == null) {
-                multiCount = count;
+                if ((bytes.get(position + i) | 0x20) != expected[i]) {
+                    return false;
+                }
             }
 
-            super.multi(count);
+            return true;
         }
 
     }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the notifications handed off by an {@link ExecutorPubSubListener}. Counters are cumulative since the listener was
+ * created. Lag is the time between receiving a notification on the event loop and delivering it to the listener.
+ *
+ * @since 7.6
+ * @see ExecutorPubSubListener
+ */
+public class PubSubDeliveryMetrics {
+
+    private final long deliveredCount;
+
+    private final long droppedCount;
+
+    private final long pendingCount;
+
+    private final long totalLagNanos;
+
+    private final long maxLagNanos;
+
+    public PubSubDeliveryMetrics(long deliveredCount, long droppedCount, long pendingCount, long totalLagNanos,
+            long maxLagNanos) {
+        this.deliveredCount = deliveredCount;
+        this.droppedCount = droppedCount;
+        this.pendingCount = pendingCount;
+        this.totalLagNanos = totalLagNanos;
+        this.maxLagNanos = maxLagNanos;
+    }
+
+    /**
+     * @return number of notifications delivered to the listener.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    /**
+     * @return number of notifications dropped because a queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return number of notifications waiting for delivery.
+     */
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * @param unit the time unit.
+     * @return the average delivery lag or {@code 0} if no notifications have been delivered.
+     */
+    public long getAverageLag(TimeUnit unit) {
+        return deliveredCount == 0 ? 0 : unit.convert(totalLagNanos / deliveredCount, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit the time unit.
+     * @return the maximum delivery lag.
+     */
+    public long getMaxLag(TimeUnit unit) {
+        return unit.convert(maxLagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [deliveredCount=").append(deliveredCount);
+        sb.append(", droppedCount=").append(droppedCount);
+        sb.append(", pendingCount=").append(pendingCount);
+        sb.append(", totalLagNanos=").append(totalLagNanos);
+        sb.append(", maxLagNanos=").append(maxLagNanos);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
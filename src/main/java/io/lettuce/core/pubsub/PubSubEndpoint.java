@@ -33,6 +33,7 @@ import io.lettuce.core.ConnectionState;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.DemandAware;
 import io.lettuce.core.protocol.ProtocolVersion;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
@@ -54,6 +55,8 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
     private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
 
+    private final List<DemandAware.Sink> demandAwareListeners = new CopyOnWriteArrayList<>();
+
     private final Set<Wrapper<K>> channels;
 
     private final Set<Wrapper<K>> shardChannels;
@@ -99,12 +102,18 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     }
 
     /**
-     * Add a new {@link RedisPubSubListener listener}.
+     * Add a new {@link RedisPubSubListener listener}. Listeners implementing {@link DemandAware.Sink} pause reading from the
+     * connection while they have no demand.
      *
      * @param listener the listener, must not be {@code null}.
      */
     public void addListener(RedisPubSubListener<K, V> listener) {
+
         listeners.add(listener);
+
+        if (listener instanceof DemandAware.Sink) {
+            demandAwareListeners.add((DemandAware.Sink) listener);
+        }
     }
 
     /**
@@ -113,7 +122,34 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
      * @param listener the listener, must not be {@code null}.
      */
     public void removeListener(RedisPubSubListener<K, V> listener) {
+
         listeners.remove(listener);
+
+        if (listener instanceof DemandAware.Sink && demandAwareListeners.remove(listener)) {
+            ((DemandAware.Sink) listener).removeSource();
+        }
+    }
+
+    /**
+     * Check whether all {@link DemandAware.Sink demand-aware listeners} have demand. Listeners are registered with
+     * {@code source} before checking their demand so that they can signal demand once they catch up.
+     *
+     * @param source the source to notify once a listener signals demand.
+     * @return {@code true} if all demand-aware listeners have demand.
+     * @since 7.6
+     */
+    boolean hasDemand(DemandAware.Source source) {
+
+        for (DemandAware.Sink sink : demandAwareListeners) {
+
+            sink.setSource(source);
+
+            if (!sink.hasDemand()) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     protected List<RedisPubSubListener<K, V>> getListeners() {
@@ -27,6 +27,7 @@ import reactor.core.publisher.Mono;
 import io.lettuce.core.RedisReactiveCommandsImpl;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.DemandAware;
 import io.lettuce.core.pubsub.api.reactive.ChannelMessage;
 import io.lettuce.core.pubsub.api.reactive.PatternMessage;
 import io.lettuce.core.pubsub.api.reactive.RedisPubSubReactiveCommands;
@@ -75,16 +76,31 @@ public class RedisPubSubReactiveCommandsImpl<K, V> extends RedisReactiveCommands
 
             };
 
-            StatefulRedisPubSubConnection<K, V> statefulConnection = getStatefulConnection();
-            statefulConnection.addListener(listener);
-
-            sink.onDispose(() -> {
-                statefulConnection.removeListener(listener);
-            });
+            register(sink, listener);
 
         }, overflowStrategy);
     }
 
+    @Override
+    public Flux<PatternMessage<K, V>> observePatternsWithBackpressure() {
+
+        return Flux.create(sink -> {
+
+            DemandAwareListener<K, V, PatternMessage<K, V>> listener = new DemandAwareListener<K, V, PatternMessage<K, V>>(
+                    sink) {
+
+                @Override
+                public void message(K pattern, K channel, V message) {
+                    sink.next(new PatternMessage<>(pattern, channel, message));
+                }
+
+            };
+
+            register(sink, listener);
+
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
     @Override
     public Flux<ChannelMessage<K, V>> observeChannels() {
         return observeChannels(FluxSink.OverflowStrategy.BUFFER);
@@ -104,16 +120,47 @@ public class RedisPubSubReactiveCommandsImpl<K, V> extends RedisReactiveCommands
 
             };
 
-            StatefulRedisPubSubConnection<K, V> statefulConnection = getStatefulConnection();
-            statefulConnection.addListener(listener);
-
-            sink.onDispose(() -> {
-                statefulConnection.removeListener(listener);
-            });
+            register(sink, listener);
 
         }, overflowStrategy);
     }
 
+    @Override
+    public Flux<ChannelMessage<K, V>> observeChannelsWithBackpressure() {
+
+        return Flux.create(sink -> {
+
+            DemandAwareListener<K, V, ChannelMessage<K, V>> listener = new DemandAwareListener<K, V, ChannelMessage<K, V>>(
+                    sink) {
+
+                @Override
+                public void message(K channel, V message) {
+                    sink.next(new ChannelMessage<>(channel, message));
+                }
+
+            };
+
+            register(sink, listener);
+
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    private void register(FluxSink<?> sink, RedisPubSubAdapter<K, V> listener) {
+
+        StatefulRedisPubSubConnection<K, V> statefulConnection = getStatefulConnection();
+        statefulConnection.addListener(listener);
+
+        sink.onDispose(() -> {
+
+            // resume reading in case the connection was paused for this subscriber, removing the listener detaches its source
+            if (listener instanceof DemandAwareListener) {
+                ((DemandAwareListener<K, V, ?>) listener).resume();
+            }
+
+            statefulConnection.removeListener(listener);
+        });
+    }
+
     @Override
     public Mono<Void> psubscribe(K... patterns) {
         return createMono(() -> commandBuilder.psubscribe(patterns)).then();
@@ -180,4 +227,45 @@ public class RedisPubSubReactiveCommandsImpl<K, V> extends RedisReactiveCommands
         return (StatefulRedisPubSubConnection<K, V>) super.getStatefulConnection();
     }
 
+    /**
+     * Listener that signals downstream demand of its {@link FluxSink} so that the connection stops reading while the subscriber
+     * cannot keep up.
+     */
+    abstract static class DemandAwareListener<K, V, T> extends RedisPubSubAdapter<K, V> implements DemandAware.Sink {
+
+        private final FluxSink<T> sink;
+
+        private volatile DemandAware.Source source;
+
+        DemandAwareListener(FluxSink<T> sink) {
+            this.sink = sink;
+            sink.onRequest(n -> resume());
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return sink.requestedFromDownstream() > 0 || sink.isCancelled();
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        @Override
+        public void removeSource() {
+            this.source = null;
+        }
+
+        void resume() {
+
+            DemandAware.Source source = this.source;
+
+            if (source != null) {
+                source.requestMore();
+            }
+        }
+
+    }
+
 }
@@ -44,7 +44,9 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
     RedisPubSubReactiveCommands<K, V> reactive();
 
     /**
-     * Add a new {@link RedisPubSubListener listener}.
+     * Add a new {@link RedisPubSubListener listener}. Listeners are notified on the I/O thread. Use
+     * {@link IndexedPubSubListener} to dispatch notifications to per-channel listeners and {@link ExecutorPubSubListener} to
+     * deliver notifications on a different thread.
      *
      * @param listener the listener, must not be {@code null}.
      */
@@ -29,6 +29,7 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.protocol.ConnectionWatchdog;
 import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
@@ -122,7 +123,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
     /**
      * Re-subscribe to all previously subscribed channels and patterns.
      *
-     * @return list of the futures of the {@literal subscribe} and {@literal psubscribe} commands.
+     * @return list of the futures of the {@literal subscribe}, {@literal ssubscribe} and {@literal psubscribe} commands.
      */
     protected List<RedisFuture<Void>> resubscribe() {
 
@@ -133,7 +134,11 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         }
 
         if (endpoint.hasShardChannelSubscriptions()) {
-            result.add(async().ssubscribe(toArray(endpoint.getShardChannels())));
+
+            // SSUBSCRIBE requires all shard channels to hash to the same slot
+            for (List<K> shardChannels : SlotHash.partition(getCodec(), endpoint.getShardChannels()).values()) {
+                result.add(async().ssubscribe(toArray(shardChannels)));
+            }
         }
 
         if (endpoint.hasPatternSubscriptions()) {
@@ -38,6 +38,20 @@ public interface RedisPubSubReactiveCommands<K, V> extends RedisReactiveCommands
      */
     Flux<PatternMessage<K, V>> observePatterns(FluxSink.OverflowStrategy overflowStrategy);
 
+    /**
+     * Flux for messages ({@literal pmessage}) received though pattern subscriptions. The connection needs to be subscribed to
+     * one or more patterns using {@link #psubscribe(Object[])}.
+     * <p>
+     * The connection stops reading while the subscriber has no demand so that only messages that were already read are
+     * buffered. Reading resumes once the subscriber requests more messages or is cancelled. Pausing reads also pauses command
+     * responses on this connection, so the subscriber must not await commands on this connection while processing messages.
+     * </p>
+     *
+     * @return hot Flux for subscriptions to {@literal pmessage}'s.
+     * @since 7.6
+     */
+    Flux<PatternMessage<K, V>> observePatternsWithBackpressure();
+
     /**
      * Flux for messages ({@literal message}) received though channel subscriptions. The connection needs to be subscribed to
      * one or more channels using {@link #subscribe(Object[])}.
@@ -61,6 +75,20 @@ public interface RedisPubSubReactiveCommands<K, V> extends RedisReactiveCommands
      */
     Flux<ChannelMessage<K, V>> observeChannels(FluxSink.OverflowStrategy overflowStrategy);
 
+    /**
+     * Flux for messages ({@literal message}) received though channel subscriptions. The connection needs to be subscribed to
+     * one or more channels using {@link #subscribe(Object[])}.
+     * <p>
+     * The connection stops reading while the subscriber has no demand so that only messages that were already read are
+     * buffered. Reading resumes once the subscriber requests more messages or is cancelled. Pausing reads also pauses command
+     * responses on this connection, so the subscriber must not await commands on this connection while processing messages.
+     * </p>
+     *
+     * @return hot Flux for subscriptions to {@literal message}'s.
+     * @since 7.6
+     */
+    Flux<ChannelMessage<K, V>> observeChannelsWithBackpressure();
+
     /**
      * Listen for messages published to channels matching the given patterns. The {@link Mono} completes without a result as
      * soon as the pattern subscription is registered.
@@ -0,0 +1,296 @@
+package io.lettuce.core.support.caching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.KeyValueListOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * {@link AsyncCacheFrontend} using {@code CLIENT TRACKING} in {@code OPTIN} mode. Each read is pipelined together with
+ * {@code CLIENT CACHING yes} in a single write so that registering interest in a key does not require an additional round trip.
+ * Concurrent cache misses for the same key share a single in-flight read (single-flight) and multi-key lookups are fetched
+ * using a single {@code MGET} command.
+ * <p>
+ * Values are only put into the client-side cache if {@code CLIENT CACHING yes} succeeded, i.e. if the key is tracked by the
+ * server.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+class AsyncClientSideCaching<K, V> implements AsyncCacheFrontend<K, V> {
+
+    private final CacheAccessor<K, V> cacheAccessor;
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final PushListener pushListener = this::onPushMessage;
+
+    private AsyncClientSideCaching(CacheAccessor<K, V> cacheAccessor, StatefulRedisConnection<K, V> connection,
+            RedisCodec<K, V> codec) {
+        this.cacheAccessor = cacheAccessor;
+        this.connection = connection;
+        this.codec = codec;
+    }
+
+    /**
+     * Create a new {@link AsyncClientSideCaching} for a connection that has {@code CLIENT TRACKING} enabled in {@code OPTIN}
+     * mode.
+     */
+    static <K, V> AsyncClientSideCaching<K, V> create(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        AsyncClientSideCaching<K, V> caching = new AsyncClientSideCaching<>(cacheAccessor, connection, codec);
+        connection.addListener(caching.pushListener);
+
+        return caching;
+    }
+
+    @Override
+    public void close() {
+        connection.removeListener(pushListener);
+        connection.close();
+    }
+
+    @Override
+    public CompletionStage<V> get(K key) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+
+        if (existing != null) {
+            return existing.thenApply(it -> it);
+        }
+
+        AsyncCommand<K, V, String> caching = clientCachingYes();
+        AsyncCommand<K, V, V> get = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(codec), new CommandArgs<>(codec).addKey(key)));
+
+        get.whenComplete((result, throwable) -> complete(key, promise, caching, result, throwable));
+        dispatch(caching, get);
+
+        return promise.thenApply(it -> it);
+    }
+
+    @Override
+    public CompletionStage<V> get(K key, Supplier<? extends CompletionStage<V>> valueLoader) {
+
+        return get(key).thenCompose(value -> {
+
+            if (value != null) {
+                return CompletableFuture.completedFuture(value);
+            }
+
+            CompletableFuture<V> result = new CompletableFuture<>();
+            CompletionStage<V> loaded;
+
+            try {
+                loaded = valueLoader.get();
+            } catch (Exception e) {
+                result.completeExceptionally(new CacheFrontend.ValueRetrievalException(
+                        String.format("Value loader %s failed with an exception for key %s", valueLoader, key), e));
+                return result;
+            }
+
+            loaded.whenComplete((loadedValue, throwable) -> {
+
+                if (throwable != null) {
+                    result.completeExceptionally(new CacheFrontend.ValueRetrievalException(
+                            String.format("Value loader %s failed with an exception for key %s", valueLoader, key), throwable));
+                    return;
+                }
+
+                if (loadedValue == null) {
+                    result.completeExceptionally(new CacheFrontend.ValueRetrievalException(
+                            String.format("Value loader %s returned a null value for key %s", valueLoader, key)));
+                    return;
+                }
+
+                store(key, loadedValue, result);
+            });
+
+            return result;
+        });
+    }
+
+    @Override
+    public CompletionStage<Map<K, V>> getAll(Iterable<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+        List<K> missing = new ArrayList<>();
+        List<CompletableFuture<V>> promises = new ArrayList<>();
+
+        for (K key : keys) {
+
+            V value = cacheAccessor.get(key);
+
+            if (value != null) {
+                result.put(key, value);
+                continue;
+            }
+
+            if (pending.containsKey(key)) {
+                continue;
+            }
+
+            CompletableFuture<V> promise = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+
+            if (existing != null) {
+                pending.put(key, existing);
+                continue;
+            }
+
+            pending.put(key, promise);
+            missing.add(key);
+            promises.add(promise);
+        }
+
+        if (!missing.isEmpty()) {
+
+            AsyncCommand<K, V, String> caching = clientCachingYes();
+            AsyncCommand<K, V, List<KeyValue<K, V>>> mget = new AsyncCommand<>(new Command<>(CommandType.MGET,
+                    new KeyValueListOutput<>(codec, missing), new CommandArgs<>(codec).addKeys(missing)));
+
+            mget.whenComplete((values, throwable) -> {
+                for (int i = 0; i < missing.size(); i++) {
+
+                    V value = null;
+                    if (throwable == null && i < values.size()) {
+                        KeyValue<K, V> keyValue = values.get(i);
+                        value = keyValue.hasValue() ? keyValue.getValue() : null;
+                    }
+
+                    complete(missing.get(i), promises.get(i), caching, value, throwable);
+                }
+            });
+            dispatch(caching, mget);
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0])).thenApply(ignore -> {
+
+            pending.forEach((key, future) -> {
+
+                V value = future.join();
+                if (value != null) {
+                    result.put(key, value);
+                }
+            });
+
+            return result;
+        });
+    }
+
+    /**
+     * Write {@code value} to Redis and register interest in the key by pipelining {@code SET}, {@code CLIENT CACHING yes} and
+     * {@code GET}.
+     */
+    private void store(K key, V value, CompletableFuture<V> result) {
+
+        AsyncCommand<K, V, String> set = new AsyncCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).addKey(key).addValue(value)));
+        AsyncCommand<K, V, String> caching = clientCachingYes();
+        AsyncCommand<K, V, V> get = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(codec), new CommandArgs<>(codec).addKey(key)));
+
+        get.whenComplete((current, throwable) -> {
+
+            if (set.isCompletedExceptionally()) {
+                set.whenComplete((ignore, setError) -> result.completeExceptionally(setError));
+                return;
+            }
+
+            if (throwable == null && current != null && !caching.isCompletedExceptionally()) {
+                cacheAccessor.put(key, current);
+            }
+
+            result.complete(value);
+        });
+
+        dispatch(set, caching, get);
+    }
+
+    private void complete(K key, CompletableFuture<V> promise, AsyncCommand<K, V, String> caching, V value,
+            Throwable throwable) {
+
+        if (throwable == null && value != null && !caching.isCompletedExceptionally()) {
+            cacheAccessor.put(key, value);
+        }
+
+        inFlight.remove(key, promise);
+
+        if (throwable != null) {
+            promise.completeExceptionally(throwable);
+        } else {
+            promise.complete(value);
+        }
+    }
+
+    @SafeVarargs
+    private final void dispatch(RedisCommand<K, V, ?>... commands) {
+
+        try {
+            connection.dispatch(Arrays.asList(commands));
+        } catch (RuntimeException e) {
+            for (RedisCommand<K, V, ?> command : commands) {
+                command.completeExceptionally(e);
+            }
+        }
+    }
+
+    private AsyncCommand<K, V, String> clientCachingYes() {
+        return new AsyncCommand<>(new Command<>(CommandType.CLIENT, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).add(CommandKeyword.CACHING).add(CommandKeyword.YES)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPushMessage(PushMessage message) {
+
+        if (!message.getType().equals("invalidate")) {
+            return;
+        }
+
+        List<Object> content = message.getContent(codec::decodeKey);
+        List<K> keys = (List<K>) content.get(1);
+
+        if (keys != null) {
+            keys.forEach(cacheAccessor::evict);
+        }
+    }
+
+}
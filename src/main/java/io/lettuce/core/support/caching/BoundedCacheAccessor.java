@@ -0,0 +1,467 @@
+package io.lettuce.core.support.caching;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.metrics.MetricCollector;
+
+/**
+ * Bounded {@link CacheAccessor} using segmented LRU (SLRU) eviction. New entries are admitted into a probationary segment and
+ * promoted into a protected segment on their second access so that a scan of one-hit keys cannot flush frequently used keys.
+ * The cache is bounded by a total weight, either the number of entries or the encoded size of keys and values when a
+ * {@link RedisCodec} is configured.
+ * <p>
+ * Entries can be configured with a time to live that acts as fallback in case invalidation messages are lost, e.g. while the
+ * tracking connection reconnects. Hit, miss, eviction and expiration counters are available through
+ * {@link MetricCollector#retrieveMetrics()}.
+ * <p>
+ * The cache is partitioned into independently locked segments by key hash. Each segment is bounded by its share of the maximum
+ * weight.
+ *
+ * <pre class="code">
+ * 
+ * BoundedCacheAccessor&lt;String, String&gt; accessor = BoundedCacheAccessor.builder(StringCodec.UTF8)
+ *         .maximumWeight(64 * 1024 * 1024).timeToLive(Duration.ofMinutes(10)).build();
+ *
+ * CacheFrontend&lt;String, String&gt; frontend = ClientSideCaching.enable(accessor, connection, TrackingArgs.Builder.enabled());
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+public class BoundedCacheAccessor<K, V> implements CacheAccessor<K, V>, MetricCollector<CacheMetrics> {
+
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final Segment<K, V>[] segments;
+
+    private final int segmentMask;
+
+    private final RedisCodec<K, V> codec;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private volatile boolean stopped;
+
+    @SuppressWarnings("unchecked")
+    BoundedCacheAccessor(long maximumWeight, int concurrencyLevel, RedisCodec<K, V> codec, Duration timeToLive,
+            LongSupplier nanoTime) {
+
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && segmentCount < maximumWeight) {
+            segmentCount <<= 1;
+        }
+
+        long segmentWeight = (maximumWeight + segmentCount - 1) / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentWeight);
+        }
+
+        this.segmentMask = segmentCount - 1;
+        this.codec = codec;
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Create a new {@link Builder} that weighs entries by their count.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Builder}.
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(null);
+    }
+
+    /**
+     * Create a new {@link Builder} that weighs entries by the encoded size of their key and value using the given
+     * {@link RedisCodec}. Codecs implementing {@link ToByteBufEncoder} with exact size estimation are used to determine the
+     * size without encoding.
+     *
+     * @param codec the codec used to determine the entry weight, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Builder}.
+     */
+    public static <K, V> Builder<K, V> builder(RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        return new Builder<>(codec);
+    }
+
+    @Override
+    public V get(K key) {
+
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry;
+
+        segment.lock.lock();
+        try {
+            entry = segment.get(key);
+
+            if (entry != null && isExpired(entry)) {
+                segment.remove(key);
+                record(expirations);
+                entry = null;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+
+        record(entry == null ? misses : hits);
+
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+
+        if (value == null) {
+            evict(key);
+            return;
+        }
+
+        Entry<V> entry = new Entry<>(value, weigh(key, value), timeToLiveNanos > 0 ? nanoTime.getAsLong() : 0);
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock.lock();
+        try {
+            int evicted = segment.put(key, entry);
+            if (evicted > 0 && !stopped) {
+                evictions.add(evicted);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(K key) {
+
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock.lock();
+        try {
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries from this cache.
+     */
+    public void clear() {
+
+        for (Segment<K, V> segment : segments) {
+
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stop recording cache statistics. The cache remains functional.
+     */
+    @Override
+    public void shutdown() {
+        stopped = true;
+    }
+
+    @Override
+    public CacheMetrics retrieveMetrics() {
+
+        long entryCount = 0;
+        long weight = 0;
+
+        for (Segment<K, V> segment : segments) {
+
+            segment.lock.lock();
+            try {
+                entryCount += segment.probation.size() + segment.protectedEntries.size();
+                weight += segment.weight;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        return new CacheMetrics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entryCount, weight);
+    }
+
+    private void record(LongAdder counter) {
+
+        if (!stopped) {
+            counter.increment();
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return timeToLiveNanos > 0 && nanoTime.getAsLong() - entry.writeTime >= timeToLiveNanos;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+
+        return segments[h & segmentMask];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int weigh(K key, V value) {
+
+        if (codec == null) {
+            return 1;
+        }
+
+        if (codec instanceof ToByteBufEncoder && ((ToByteBufEncoder<K, V>) codec).isEstimateExact()) {
+
+            ToByteBufEncoder<K, V> encoder = (ToByteBufEncoder<K, V>) codec;
+            return Math.max(1, encoder.estimateSize(key) + encoder.estimateSize(value));
+        }
+
+        return Math.max(1, codec.encodeKey(key).remaining() + codec.encodeValue(value).remaining());
+    }
+
+    /**
+     * Builder for {@link BoundedCacheAccessor}.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    public static class Builder<K, V> {
+
+        private final RedisCodec<K, V> codec;
+
+        private long maximumWeight = 10_000;
+
+        private int concurrencyLevel = 16;
+
+        private Duration timeToLive;
+
+        private Builder(RedisCodec<K, V> codec) {
+            this.codec = codec;
+        }
+
+        /**
+         * Configure the maximum total weight of the cache. The weight is the number of entries or, if the builder was created
+         * with a {@link RedisCodec}, the number of bytes of the encoded keys and values. Defaults to {@code 10000}.
+         *
+         * @param maximumWeight the maximum weight, must be greater than zero.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+
+            LettuceAssert.isTrue(maximumWeight > 0, "Maximum weight must be greater than zero");
+
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Configure the number of independently locked segments. The actual number of segments is the next power of two.
+         * Defaults to {@code 16}.
+         *
+         * @param concurrencyLevel the concurrency level, must be greater than zero.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> concurrencyLevel(int concurrencyLevel) {
+
+            LettuceAssert.isTrue(concurrencyLevel > 0, "Concurrency level must be greater than zero");
+
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Configure the time to live after which entries expire regardless of invalidation messages. Expiry is disabled by
+         * default.
+         *
+         * @param timeToLive the time to live, must not be {@code null} or negative. {@link Duration#ZERO} disables expiry.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder<K, V> timeToLive(Duration timeToLive) {
+
+            LettuceAssert.notNull(timeToLive, "Time to live must not be null");
+            LettuceAssert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link BoundedCacheAccessor}.
+         */
+        public BoundedCacheAccessor<K, V> build() {
+            return new BoundedCacheAccessor<>(maximumWeight, concurrencyLevel, codec, timeToLive, System::nanoTime);
+        }
+
+    }
+
+    static class Entry<V> {
+
+        final V value;
+
+        final int weight;
+
+        final long writeTime;
+
+        Entry(V value, int weight, long writeTime) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+    }
+
+    /**
+     * SLRU segment consisting of a probationary and a protected LRU list. Guarded by {@link #lock}.
+     */
+    static class Segment<K, V> {
+
+        final ReentrantLock lock = new ReentrantLock();
+
+        final long maximumWeight;
+
+        final long maximumProtectedWeight;
+
+        final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+        final LinkedHashMap<K, Entry<V>> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+        long weight;
+
+        long protectedWeight;
+
+        Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            this.maximumProtectedWeight = maximumWeight * PROTECTED_PERCENTAGE / 100;
+        }
+
+        Entry<V> get(K key) {
+
+            Entry<V> entry = protectedEntries.get(key);
+
+            if (entry != null) {
+                return entry;
+            }
+
+            entry = probation.remove(key);
+
+            if (entry != null) {
+                promote(key, entry);
+            }
+
+            return entry;
+        }
+
+        int put(K key, Entry<V> entry) {
+
+            remove(key);
+
+            if (entry.weight > maximumWeight) {
+                return 1;
+            }
+
+            probation.put(key, entry);
+            weight += entry.weight;
+
+            return evict();
+        }
+
+        void remove(K key) {
+
+            Entry<V> entry = probation.remove(key);
+
+            if (entry == null) {
+                entry = protectedEntries.remove(key);
+                if (entry != null) {
+                    protectedWeight -= entry.weight;
+                }
+            }
+
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+        }
+
+        void clear() {
+            probation.clear();
+            protectedEntries.clear();
+            weight = 0;
+            protectedWeight = 0;
+        }
+
+        private void promote(K key, Entry<V> entry) {
+
+            protectedEntries.put(key, entry);
+            protectedWeight += entry.weight;
+
+            // demote least recently used protected entries back to probation
+            Iterator<Map.Entry<K, Entry<V>>> iterator = protectedEntries.entrySet().iterator();
+            while (protectedWeight > maximumProtectedWeight && protectedEntries.size() > 1 && iterator.hasNext()) {
+
+                Map.Entry<K, Entry<V>> eldest = iterator.next();
+                iterator.remove();
+                protectedWeight -= eldest.getValue().weight;
+                probation.put(eldest.getKey(), eldest.getValue());
+            }
+        }
+
+        private int evict() {
+
+            int evicted = 0;
+
+            while (weight > maximumWeight) {
+
+                LinkedHashMap<K, Entry<V>> victims = probation.isEmpty() ? protectedEntries : probation;
+                Iterator<Map.Entry<K, Entry<V>>> iterator = victims.entrySet().iterator();
+
+                if (!iterator.hasNext()) {
+                    break;
+                }
+
+                Map.Entry<K, Entry<V>> eldest = iterator.next();
+                iterator.remove();
+                weight -= eldest.getValue().weight;
+
+                if (victims == protectedEntries) {
+                    protectedWeight -= eldest.getValue().weight;
+                }
+
+                evicted++;
+            }
+
+            return evicted;
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.lettuce.core.support.caching;
+
+/**
+ * Snapshot of client-side cache statistics. Counters are cumulative since the cache was created.
+ *
+ * @since 7.6
+ * @see BoundedCacheAccessor
+ */
+public class CacheMetrics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long expirationCount;
+
+    private final long entryCount;
+
+    private final long weight;
+
+    public CacheMetrics(long hitCount, long missCount, long evictionCount, long expirationCount, long entryCount, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.entryCount = entryCount;
+        this.weight = weight;
+    }
+
+    /**
+     * @return number of lookups that returned a cached value.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of lookups that did not find a cached value, including lookups of expired entries.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries removed to keep the cache within its weight bounds.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of entries removed because their time to live has elapsed.
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * @return number of entries currently held by the cache.
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return total weight of the entries currently held by the cache.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the ratio of hits to lookups or {@code 1.0} if no lookups have been performed.
+     */
+    public double getHitRate() {
+
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [hitCount=").append(hitCount);
+        sb.append(", missCount=").append(missCount);
+        sb.append(", evictionCount=").append(evictionCount);
+        sb.append(", expirationCount=").append(expirationCount);
+        sb.append(", entryCount=").append(entryCount);
+        sb.append(", weight=").append(weight);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -92,6 +92,54 @@ public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
         return create(cacheAccessor, redisCache);
     }
 
+    /**
+     * Enable server-assisted Client side caching for the given {@link CacheAccessor} and {@link StatefulRedisConnection} using
+     * an asynchronous {@link AsyncCacheFrontend}. This method enables client key tracking in {@code OPTIN} mode. Reads are
+     * pipelined with {@code CLIENT CACHING yes} so that registering interest in a key does not require an additional round
+     * trip.
+     * <p>
+     * Note that the {@link AsyncCacheFrontend} is associated with a Redis connection. Make sure to
+     * {@link AsyncCacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis connection to use. The connection will be associated with {@link AsyncCacheFrontend} and must
+     *        be closed through {@link AsyncCacheFrontend#close()}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link AsyncCacheFrontend} for value retrieval.
+     * @since 7.6
+     */
+    public static <K, V> AsyncCacheFrontend<K, V> enableAsync(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisConnection<K, V> connection) {
+
+        connection.sync().clientTracking(TrackingArgs.Builder.enabled().optin());
+
+        StatefulRedisConnectionImpl<K, V> connectionImpl = (StatefulRedisConnectionImpl) connection;
+
+        return AsyncClientSideCaching.create(cacheAccessor, connection, connectionImpl.getCodec());
+    }
+
+    /**
+     * Enable server-assisted Client side caching for the given {@link CacheAccessor} and {@link StatefulRedisConnection} using
+     * a reactive {@link ReactiveCacheFrontend}. This method enables client key tracking in {@code OPTIN} mode.
+     * <p>
+     * Note that the {@link ReactiveCacheFrontend} is associated with a Redis connection. Make sure to
+     * {@link ReactiveCacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis connection to use. The connection will be associated with {@link ReactiveCacheFrontend} and
+     *        must be closed through {@link ReactiveCacheFrontend#close()}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link ReactiveCacheFrontend} for value retrieval.
+     * @since 7.6
+     * @see #enableAsync(CacheAccessor, StatefulRedisConnection)
+     */
+    public static <K, V> ReactiveCacheFrontend<K, V> enableReactive(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisConnection<K, V> connection) {
+        return new ReactiveClientSideCaching<>(enableAsync(cacheAccessor, connection));
+    }
+
     private static <K, V> CacheFrontend<K, V> create(CacheAccessor<K, V> cacheAccessor, RedisCache<K, V> redisCache) {
 
         ClientSideCaching<K, V> caching = new ClientSideCaching<>(cacheAccessor, redisCache);
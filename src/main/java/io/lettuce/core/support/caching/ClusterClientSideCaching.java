@@ -0,0 +1,377 @@
+package io.lettuce.core.support.caching;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import reactor.core.Disposable;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.StatefulRedisClusterConnectionImpl;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.push.RedisClusterPushListener;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Utility to provide server-side assistance for client-side caches on a Redis Cluster. This is a {@link CacheFrontend} that
+ * represents a two-level cache backed by a client-side and a Redis cache sharded across the cluster.
+ * <p>
+ * Client tracking is enabled lazily on the connection to each upstream node once a key owned by that node is read. Reads are
+ * served from the slot owner's node connection so that tracking and invalidation messages use the same connection.
+ * Invalidations are received through {@link StatefulRedisClusterConnection#addListener(RedisClusterPushListener)} and evict the
+ * affected keys only. Cached keys are indexed by hash slot: an invalidation of all keys on a node (e.g. after {@code FLUSHALL})
+ * flushes only the slots served by that node, and a {@link ClusterTopologyChangedEvent} flushes all slots whose owner has
+ * changed.
+ * <p>
+ * For example:
+ *
+ * <pre class="code">
+ *
+ * Map<String, String> clientCache = new ConcurrentHashMap<>();
+ *
+ * StatefulRedisClusterConnection&lt;String, String&gt; connection = redisClusterClient.connect();
+ *
+ * CacheFrontend&lt;String, String&gt; frontend = ClusterClientSideCaching.enable(CacheAccessor.forMap(clientCache), connection,
+ *         TrackingArgs.Builder.enabled());
+ *
+ * String value = frontend.get(key);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see ClientSideCaching
+ */
+public class ClusterClientSideCaching<K, V> implements CacheFrontend<K, V> {
+
+    private final CacheAccessor<K, V> cacheAccessor;
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final TrackingArgs tracking;
+
+    private final AtomicReferenceArray<Set<K>> keysBySlot = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+
+    private final Map<String, CompletableFuture<StatefulRedisConnection<K, V>>> trackedConnections = new ConcurrentHashMap<>();
+
+    private final List<Consumer<K>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private final RedisClusterPushListener pushListener = this::onPushMessage;
+
+    private volatile String[] slotOwners;
+
+    private volatile Disposable topologySubscription;
+
+    private ClusterClientSideCaching(CacheAccessor<K, V> cacheAccessor, StatefulRedisClusterConnection<K, V> connection,
+            RedisCodec<K, V> codec, TrackingArgs tracking) {
+        this.cacheAccessor = cacheAccessor;
+        this.connection = connection;
+        this.codec = codec;
+        this.tracking = tracking;
+        this.slotOwners = getSlotOwners(connection.getPartitions());
+    }
+
+    /**
+     * Enable server-assisted Client side caching for the given {@link CacheAccessor} and
+     * {@link StatefulRedisClusterConnection}.
+     * <p>
+     * Note that the {@link CacheFrontend} is associated with a Redis Cluster connection. Make sure to
+     * {@link CacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param cacheAccessor the accessor used to interact with the client-side cache.
+     * @param connection the Redis Cluster connection to use. The connection will be associated with {@link CacheFrontend} and
+     *        must be closed through {@link CacheFrontend#close()}. The connection must use RESP3 to receive invalidation
+     *        messages.
+     * @param tracking the tracking parameters applied to each node connection.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link CacheFrontend} for value retrieval.
+     */
+    public static <K, V> CacheFrontend<K, V> enable(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisClusterConnection<K, V> connection, TrackingArgs tracking) {
+
+        StatefulRedisClusterConnectionImpl<K, V> connectionImpl = (StatefulRedisClusterConnectionImpl) connection;
+
+        return create(cacheAccessor, connection, connectionImpl.getCodec(), tracking);
+    }
+
+    static <K, V> ClusterClientSideCaching<K, V> create(CacheAccessor<K, V> cacheAccessor,
+            StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec, TrackingArgs tracking) {
+
+        LettuceAssert.notNull(cacheAccessor, "CacheAccessor must not be null");
+        LettuceAssert.notNull(tracking, "TrackingArgs must not be null");
+
+        ClusterClientSideCaching<K, V> caching = new ClusterClientSideCaching<>(cacheAccessor, connection, codec, tracking);
+
+        caching.addInvalidationListener(cacheAccessor::evict);
+        connection.addListener(caching.pushListener);
+        caching.topologySubscription = connection.getResources().eventBus().get()
+                .filter(ClusterTopologyChangedEvent.class::isInstance).cast(ClusterTopologyChangedEvent.class)
+                .filter(caching::isSameCluster).subscribe(event -> caching.onTopologyChanged(event.after()));
+
+        return caching;
+    }
+
+    public void addInvalidationListener(Consumer<K> invalidationListener) {
+        invalidationListeners.add(invalidationListener);
+    }
+
+    @Override
+    public void close() {
+
+        Disposable subscription = topologySubscription;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+
+        connection.removeListener(pushListener);
+        trackedConnections.clear();
+        connection.close();
+    }
+
+    @Override
+    public V get(K key) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value == null) {
+            value = load(key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public V get(K key, Callable<V> valueLoader) {
+
+        V value = cacheAccessor.get(key);
+
+        if (value == null) {
+            value = load(key);
+
+            if (value == null) {
+
+                try {
+                    value = valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(
+                            String.format("Value loader %s failed with an exception for key %s", valueLoader, key), e);
+                }
+
+                if (value == null) {
+                    throw new ValueRetrievalException(
+                            String.format("Value loader %s returned a null value for key %s", valueLoader, key));
+                }
+
+                connection.sync().set(key, value);
+
+                // register interest in key
+                load(key);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Read the value from the node that owns the key's slot and register it in the client-side cache.
+     */
+    private V load(K key) {
+
+        int slot = SlotHash.getSlot(codec.encodeKey(key));
+        String owner = slotOwners[slot];
+
+        if (owner == null) {
+            return connection.sync().get(key);
+        }
+
+        V value;
+        try {
+            value = getTrackedConnection(owner).sync().get(key);
+        } catch (RedisCommandExecutionException e) {
+
+            if (isRedirection(e)) {
+                // topology change in progress, read without caching until the topology is refreshed.
+                return connection.sync().get(key);
+            }
+
+            throw e;
+        }
+
+        if (value != null) {
+            getKeys(slot).add(key);
+            cacheAccessor.put(key, value);
+        }
+
+        return value;
+    }
+
+    private StatefulRedisConnection<K, V> getTrackedConnection(String nodeId) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = trackedConnections.computeIfAbsent(nodeId,
+                it -> connection.getConnectionAsync(it).thenCompose(
+                        nodeConnection -> nodeConnection.async().clientTracking(tracking).thenApply(ignore -> nodeConnection)));
+
+        future.whenComplete((ignore, e) -> {
+
+            // allow retries after connection or tracking failures
+            if (e != null) {
+                trackedConnections.remove(nodeId, future);
+            }
+        });
+
+        try {
+            return future.join();
+        } catch (Exception e) {
+            throw Exceptions.bubble(e);
+        }
+    }
+
+    void onPushMessage(RedisClusterNode node, PushMessage message) {
+
+        if (!message.getType().equals("invalidate")) {
+            return;
+        }
+
+        List<Object> content = message.getContent(codec::decodeKey);
+        List<K> keys = (List<K>) content.get(1);
+
+        if (keys == null) {
+            flushSlots(node.getNodeId());
+            return;
+        }
+
+        for (K key : keys) {
+
+            Set<K> slotKeys = keysBySlot.get(SlotHash.getSlot(codec.encodeKey(key)));
+            if (slotKeys != null) {
+                slotKeys.remove(key);
+            }
+
+            notifyInvalidate(key);
+        }
+    }
+
+    /**
+     * Topology events are published on the shared event bus by all cluster clients. Events of this cluster share node Ids with
+     * the partitions of this connection. The partitions are reloaded only after the event is published, so the topology is
+     * taken from {@link ClusterTopologyChangedEvent#after()}.
+     */
+    boolean isSameCluster(ClusterTopologyChangedEvent event) {
+
+        Set<String> nodeIds = new HashSet<>();
+        for (RedisClusterNode node : connection.getPartitions()) {
+            nodeIds.add(node.getNodeId());
+        }
+
+        for (RedisClusterNode node : event.before()) {
+            if (nodeIds.contains(node.getNodeId())) {
+                return true;
+            }
+        }
+
+        for (RedisClusterNode node : event.after()) {
+            if (nodeIds.contains(node.getNodeId())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    void onTopologyChanged(List<RedisClusterNode> nodes) {
+
+        String[] previous = this.slotOwners;
+        String[] owners = getSlotOwners(nodes);
+
+        this.slotOwners = owners;
+
+        List<String> nodeIds = new ArrayList<>(nodes.size());
+        for (RedisClusterNode node : nodes) {
+            nodeIds.add(node.getNodeId());
+        }
+        trackedConnections.keySet().retainAll(nodeIds);
+
+        for (int slot = 0; slot < owners.length; slot++) {
+            if (owners[slot] == null || !owners[slot].equals(previous[slot])) {
+                flushSlot(slot);
+            }
+        }
+    }
+
+    private void flushSlots(String nodeId) {
+
+        String[] owners = this.slotOwners;
+
+        for (int slot = 0; slot < owners.length; slot++) {
+            if (nodeId.equals(owners[slot])) {
+                flushSlot(slot);
+            }
+        }
+    }
+
+    private void flushSlot(int slot) {
+
+        Set<K> keys = keysBySlot.getAndSet(slot, null);
+
+        if (keys != null) {
+            keys.forEach(this::notifyInvalidate);
+        }
+    }
+
+    private void notifyInvalidate(K key) {
+
+        for (Consumer<K> invalidationListener : invalidationListeners) {
+            invalidationListener.accept(key);
+        }
+    }
+
+    private Set<K> getKeys(int slot) {
+
+        Set<K> keys = keysBySlot.get(slot);
+
+        if (keys == null) {
+            keysBySlot.compareAndSet(slot, null, ConcurrentHashMap.newKeySet());
+            keys = keysBySlot.get(slot);
+        }
+
+        return keys;
+    }
+
+    private static boolean isRedirection(RedisCommandExecutionException e) {
+
+        String message = e.getMessage();
+        return message != null && (message.startsWith("MOVED") || message.startsWith("ASK"));
+    }
+
+    private static String[] getSlotOwners(Iterable<RedisClusterNode> nodes) {
+
+        String[] owners = new String[SlotHash.SLOT_COUNT];
+
+        for (RedisClusterNode node : nodes) {
+            if (node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                node.forEachSlot(slot -> owners[slot] = node.getNodeId());
+            }
+        }
+
+        return owners;
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.lettuce.core.support.caching;
+
+import java.io.Closeable;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variant of {@link CacheFrontend} that represents a two-level cache backed by a client-side and a Redis cache.
+ * Concurrent cache misses for the same key are coalesced into a single Redis read. Cache lookups are deferred until
+ * subscription.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ * @see CacheFrontend
+ * @see AsyncCacheFrontend
+ */
+public interface ReactiveCacheFrontend<K, V> extends Closeable {
+
+    /**
+     * Return the value to which this cache maps the specified key.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return a {@link Mono} emitting the value to which this cache maps the specified key or completing empty if the cache
+     *         contains no mapping for this key.
+     */
+    Mono<V> get(K key);
+
+    /**
+     * Return the value to which this cache maps the specified key, obtaining that value from {@code valueLoader} if necessary.
+     * The loaded value is written to Redis and interest in the key is registered within the same round trip.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param valueLoader the value loader that is used to obtain the value if the client-side cache and Redis cache are not
+     *        associated with a value.
+     * @return a {@link Mono} emitting the value to which this cache maps the specified key.
+     */
+    Mono<V> get(K key, Mono<V> valueLoader);
+
+    /**
+     * Return the values to which this cache maps the specified keys. Keys that are not present in the client-side cache are
+     * fetched from Redis using a single {@code MGET} command.
+     *
+     * @param keys the keys whose associated values are to be returned.
+     * @return a {@link Mono} emitting a {@link Map} of keys to their values. Keys without a value are not contained in the map.
+     */
+    Mono<Map<K, V>> getAll(Iterable<K> keys);
+
+    /**
+     * Closes this cache frontend and releases any system resources associated with it. If the frontend is already closed then
+     * invoking this method has no effect.
+     */
+    @Override
+    void close();
+
+}
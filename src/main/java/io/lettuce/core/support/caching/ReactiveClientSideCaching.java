@@ -0,0 +1,43 @@
+package io.lettuce.core.support.caching;
+
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveCacheFrontend} adapter on top of an {@link AsyncCacheFrontend}. Each method defers the cache lookup until
+ * subscription.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.6
+ */
+class ReactiveClientSideCaching<K, V> implements ReactiveCacheFrontend<K, V> {
+
+    private final AsyncCacheFrontend<K, V> delegate;
+
+    ReactiveClientSideCaching(AsyncCacheFrontend<K, V> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<V> get(K key) {
+        return Mono.defer(() -> Mono.fromCompletionStage(delegate.get(key)));
+    }
+
+    @Override
+    public Mono<V> get(K key, Mono<V> valueLoader) {
+        return Mono.defer(() -> Mono.fromCompletionStage(delegate.get(key, valueLoader::toFuture)));
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAll(Iterable<K> keys) {
+        return Mono.defer(() -> Mono.fromCompletionStage(delegate.getAll(keys)));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+}
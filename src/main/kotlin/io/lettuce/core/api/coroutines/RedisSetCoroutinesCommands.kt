@@ -25,6 +25,7 @@ import io.lettuce.core.ScanArgs
 import io.lettuce.core.ScanCursor
 import io.lettuce.core.ValueScanCursor
 import kotlinx.coroutines.flow.Flow
+import java.util.BitSet
 
 /**
  * Coroutine executed commands for Sets.
@@ -144,6 +145,16 @@ interface RedisSetCoroutinesCommands<K : Any, V : Any> {
      */
     fun smismember(key: K, vararg members: V): Flow<Boolean>
 
+    /**
+     * Returns whether each member is a member of the set stored at key as [BitSet].
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return BitSet bit set with the bit at the index of each given member set if the member is a member of the set.
+     * @since 7.6
+     */
+    suspend fun smismemberBitSet(key: K, vararg members: V): BitSet
+
     /**
      * Move a member from one set to another.
      *
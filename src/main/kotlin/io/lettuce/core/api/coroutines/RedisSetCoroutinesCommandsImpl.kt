@@ -29,6 +29,7 @@ import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toSet
 import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitFirstOrNull
+import java.util.BitSet
 
 
 /**
@@ -67,6 +68,8 @@ internal class RedisSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
 
     override fun smismember(key: K, vararg members: V): Flow<Boolean> = ops.smismember(key, *members).asFlow()
 
+    override suspend fun smismemberBitSet(key: K, vararg members: V): BitSet = ops.smismemberBitSet(key, *members).awaitFirstOrNull() ?: BitSet()
+
     override suspend fun smove(source: K, destination: K, member: V): Boolean? = ops.smove(source, destination, member).awaitFirstOrNull()
 
     override suspend fun spop(key: K): V? = ops.spop(key).awaitFirstOrNull()
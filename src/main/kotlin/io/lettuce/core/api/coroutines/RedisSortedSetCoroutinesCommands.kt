@@ -403,6 +403,17 @@ interface RedisSortedSetCoroutinesCommands<K : Any, V : Any> {
      */
     suspend fun zmscore(key: K, vararg members: V): List<Double?>
 
+    /**
+     * Returns the scores associated with the specified members in the sorted set stored at key as primitive array.
+     *
+     * @param key the key.
+     * @param members the member type: value.
+     * @return double[] array-reply list of scores associated with the specified member values, [Double.NaN] for members
+     *         that do not exist.
+     * @since 7.6
+     */
+    suspend fun zmscoreArray(key: K, vararg members: V): DoubleArray
+
     /**
      * Pops one or more elements, that are member-score pairs, from the first non-empty sorted set in the provided list of keys.
      *
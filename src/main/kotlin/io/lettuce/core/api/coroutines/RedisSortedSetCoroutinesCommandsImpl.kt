@@ -161,6 +161,9 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
     override suspend fun zmscore(key: K, vararg members: V): List<Double?> =
         ops.zmscore(key, *members).awaitFirstOrNull().orEmpty()
 
+    override suspend fun zmscoreArray(key: K, vararg members: V): DoubleArray =
+        ops.zmscoreArray(key, *members).awaitFirstOrNull() ?: DoubleArray(0)
+
     override suspend fun zmpop(
         args: ZPopArgs,
         vararg keys: K
@@ -71,6 +71,19 @@ interface RedisStringCoroutinesCommands<K : Any, V : Any> {
      */
     suspend fun bitfield(key: K, bitFieldArgs: BitFieldArgs): List<Long>
 
+    /**
+     * Execute `BITFIELD` with its subcommands and return the results as primitive array.
+     *
+     * `nil` results are reported as `0` and cannot be told apart from an actual `0`. An `INCRBY` that is not performed due
+     * to `OVERFLOW FAIL` returns `nil`, use [bitfield] when using `OVERFLOW FAIL`.
+     *
+     * @param key the key.
+     * @param bitFieldArgs the args containing subcommands, must not be `null`.
+     * @return long[] array-reply the results from the bitfield commands.
+     * @since 7.6
+     */
+    suspend fun bitfieldArray(key: K, bitFieldArgs: BitFieldArgs): LongArray
+
     /**
      * Find first bit set or clear in a string.
      *
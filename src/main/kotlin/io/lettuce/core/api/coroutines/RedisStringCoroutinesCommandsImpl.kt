@@ -48,6 +48,8 @@ internal class RedisStringCoroutinesCommandsImpl<K : Any, V : Any>(internal val
 
     override suspend fun bitfield(key: K, bitFieldArgs: BitFieldArgs): List<Long> = ops.bitfield(key, bitFieldArgs).map { it.value }.asFlow().toList()
 
+    override suspend fun bitfieldArray(key: K, bitFieldArgs: BitFieldArgs): LongArray = ops.bitfieldArray(key, bitFieldArgs).awaitFirstOrNull() ?: LongArray(0)
+
     override suspend fun bitpos(key: K, state: Boolean): Long? = ops.bitpos(key, state).awaitFirstOrNull()
 
     override suspend fun bitpos(key: K, state: Boolean, start: Long): Long? = ops.bitpos(key, state, start).awaitFirstOrNull()
@@ -0,0 +1,116 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConcurrentLruCache}.
+ */
+@Tag(UNIT_TEST)
+class ConcurrentLruCacheUnitTests {
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    private final ConcurrentLruCache<String, String> sut = new ConcurrentLruCache<>(3, key -> {
+        generated.incrementAndGet();
+        return key.toUpperCase();
+    });
+
+    @Test
+    void shouldCacheGeneratedValues() {
+
+        assertThat(sut.get("a")).isEqualTo("A");
+        assertThat(sut.get("a")).isEqualTo("A");
+
+        assertThat(generated).hasValue(1);
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.contains("a")).isTrue();
+    }
+
+    @Test
+    void shouldEvictUnreferencedEntryFirst() {
+
+        sut.get("a");
+        sut.get("b");
+        sut.get("c");
+
+        // hit on a and c, b remains unreferenced
+        sut.get("a");
+        sut.get("c");
+
+        sut.get("d");
+
+        assertThat(sut.size()).isEqualTo(3);
+        assertThat(sut.contains("b")).isFalse();
+        assertThat(sut.contains("a")).isTrue();
+        assertThat(sut.contains("c")).isTrue();
+        assertThat(sut.contains("d")).isTrue();
+    }
+
+    @Test
+    void shouldEvictInInsertionOrderWithoutHits() {
+
+        sut.get("a");
+        sut.get("b");
+        sut.get("c");
+        sut.get("d");
+        sut.get("e");
+
+        assertThat(sut.contains("a")).isFalse();
+        assertThat(sut.contains("b")).isFalse();
+        assertThat(sut.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRemoveEntries() {
+
+        sut.get("a");
+        sut.get("b");
+        sut.get("c");
+
+        assertThat(sut.remove("a")).isTrue();
+        assertThat(sut.remove("a")).isFalse();
+        assertThat(sut.size()).isEqualTo(2);
+
+        sut.get("d");
+        sut.get("e");
+
+        assertThat(sut.size()).isEqualTo(3);
+        assertThat(sut.contains("e")).isTrue();
+    }
+
+    @Test
+    void shouldClearEntries() {
+
+        sut.get("a");
+        sut.get("b");
+        sut.clear();
+
+        assertThat(sut.size()).isZero();
+        assertThat(sut.contains("a")).isFalse();
+
+        sut.get("a");
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroSizeLimitShouldAlwaysGenerate() {
+
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(0, key -> {
+            generated.incrementAndGet();
+            return key;
+        });
+
+        cache.get("a");
+        cache.get("a");
+
+        assertThat(generated).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+}
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.RedisChannelWriter;
@@ -243,6 +244,63 @@ class ClusterDistributionChannelWriterUnitTests {
         verify(defaultWriter).disconnect();
     }
 
+    @Test
+    void shouldWriteBatchOncePerNode() {
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(connection));
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        clusterDistributionChannelWriter.write(Arrays.asList(get("a"), get("b"), get("c"), get("a")));
+
+        verify(pooledClusterConnectionProvider, times(3)).getConnectionAsync(any(ConnectionIntent.class), anyInt());
+        verify(clusterNodeEndpoint, times(1))
+                .write(ArgumentMatchers.<List<RedisCommand<String, String, ?>>> argThat(commands -> commands.size() == 4));
+        verify(clusterNodeEndpoint, never()).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+    }
+
+    @Test
+    void shouldWriteBatchOnceConnectionIsAvailable() {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt())).thenReturn(future);
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        clusterDistributionChannelWriter.write(Arrays.asList(get("a"), get("a")));
+
+        verify(clusterNodeEndpoint, never()).write(anyList());
+
+        future.complete(connection);
+
+        verify(clusterNodeEndpoint, times(1))
+                .write(ArgumentMatchers.<List<RedisCommand<String, String, ?>>> argThat(commands -> commands.size() == 2));
+    }
+
+    @Test
+    void shouldFailBatchIfConnectionCannotBeObtained() {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt())).thenReturn(future);
+
+        AsyncCommand<String, String, String> command = get("a");
+        clusterDistributionChannelWriter.write(Collections.singletonList(command));
+
+        future.completeExceptionally(new IllegalStateException("connect failed"));
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+    }
+
+    private static AsyncCommand<String, String, String> get(String key) {
+        return new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(key)));
+    }
+
     @Test
     void shouldWriteOneCommandWhenMoved() {
         verifyWriteCommandCountWhenRedirecting(true);
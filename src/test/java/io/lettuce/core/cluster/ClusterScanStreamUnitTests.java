@@ -0,0 +1,165 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Unit tests for {@link ClusterScanStream}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterScanStreamUnitTests {
+
+    @Mock
+    StatefulRedisClusterConnection<String, String> connection;
+
+    @Mock
+    StatefulRedisConnection<String, String> nodeConnection1;
+
+    @Mock
+    StatefulRedisConnection<String, String> nodeConnection2;
+
+    @Mock
+    RedisReactiveCommands<String, String> commands1;
+
+    @Mock
+    RedisReactiveCommands<String, String> commands2;
+
+    private final Partitions partitions = new Partitions();
+
+    @BeforeEach
+    void before() {
+
+        partitions.add(upstream("1", IntStream.range(0, 8192)));
+        partitions.add(upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT)));
+
+        when(connection.getPartitions()).thenReturn(partitions);
+        when(connection.getConnectionAsync("1")).thenReturn(CompletableFuture.completedFuture(nodeConnection1));
+        when(connection.getConnectionAsync("2")).thenReturn(CompletableFuture.completedFuture(nodeConnection2));
+        when(nodeConnection1.reactive()).thenReturn(commands1);
+        when(nodeConnection2.reactive()).thenReturn(commands2);
+
+        Map<String, KeyScanCursor<String>> node1 = new HashMap<>();
+        node1.put("0", cursor("7", false, "a1", "a2"));
+        node1.put("7", cursor("0", true, "a3"));
+        respond(commands1, node1);
+
+        Map<String, KeyScanCursor<String>> node2 = new HashMap<>();
+        node2.put("0", cursor("5", false, "b1"));
+        node2.put("5", cursor("0", true, "b2", "b3"));
+        respond(commands2, node2);
+    }
+
+    @Test
+    void shouldScanAllNodes() {
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+
+        List<String> keys = ClusterScanStream.scan(connection, null, 2, checkpoint).collectList().block();
+
+        assertThat(keys).containsExactlyInAnyOrder("a1", "a2", "a3", "b1", "b2", "b3");
+        assertThat(checkpoint.isFinished()).isTrue();
+        assertThat(checkpoint.getCursors()).containsOnlyKeys("1", "2");
+    }
+
+    @Test
+    void shouldScanNodesSequentiallyWithParallelismOfOne() {
+
+        List<String> keys = ClusterScanStream.scan(connection, 1).collectList().block();
+
+        assertThat(keys).containsExactly("a1", "a2", "a3", "b1", "b2", "b3");
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+
+        Map<String, ScanCursor> cursors = new LinkedHashMap<>();
+        cursors.put("1", ScanCursor.FINISHED);
+        cursors.put("2", new ScanCursor("5", false));
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.of(cursors);
+
+        List<String> keys = ClusterScanStream.scan(connection, null, 2, checkpoint).collectList().block();
+
+        assertThat(keys).containsExactly("b2", "b3");
+        assertThat(checkpoint.isFinished()).isTrue();
+        verify(connection, never()).getConnectionAsync("1");
+    }
+
+    @Test
+    void shouldCheckpointConsumedBatchesOnly() {
+
+        ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.create();
+
+        StepVerifier.create(ClusterScanStream.scan(connection, null, 1, checkpoint), 1).expectNext("a1").thenCancel().verify();
+
+        assertThat(checkpoint.getCursors().get("1").getCursor()).isEqualTo("0");
+        assertThat(checkpoint.getCursors().get("1").isFinished()).isFalse();
+        assertThat(checkpoint.isFinished()).isFalse();
+    }
+
+    @Test
+    void shouldStreamKeysToChannel() {
+
+        List<String> keys = Collections.synchronizedList(new ArrayList<>());
+
+        Long count = ClusterScanStream.scan(connection, keys::add, null, 2, ClusterScanCheckpoint.create()).block();
+
+        assertThat(count).isEqualTo(6);
+        assertThat(keys).hasSize(6);
+    }
+
+    private static void respond(RedisReactiveCommands<String, String> commands, Map<String, KeyScanCursor<String>> batches) {
+        when(commands.scan(any(ScanCursor.class)))
+                .thenAnswer(invocation -> Mono.just(batches.get(invocation.<ScanCursor> getArgument(0).getCursor())));
+    }
+
+    private static KeyScanCursor<String> cursor(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> result = new KeyScanCursor<>();
+        result.setCursor(cursor);
+        result.setFinished(finished);
+        result.getKeys().addAll(Arrays.asList(keys));
+        return result;
+    }
+
+    private static RedisClusterNode upstream(String nodeId, IntStream slots) {
+        return new RedisClusterNode(RedisURI.create("localhost", 6379), nodeId, true, null, 0, 0, 0,
+                slots.boxed().collect(Collectors.toList()), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+    }
+
+}
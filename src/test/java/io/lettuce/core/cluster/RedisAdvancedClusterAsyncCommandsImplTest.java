@@ -3,6 +3,7 @@
  */
 package io.lettuce.core.cluster;
 
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
@@ -12,7 +13,9 @@ import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.protocol.ConnectionIntent;
 import io.lettuce.core.search.AggregationReply;
 import io.lettuce.core.search.arguments.AggregateArgs;
@@ -30,10 +33,13 @@ import org.apache.logging.log4j.Level;
 import org.mockito.Spy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.*;
@@ -103,6 +109,71 @@ class RedisAdvancedClusterAsyncCommandsImplTest {
         when(async.getStatefulConnection()).thenReturn(clusterConn);
     }
 
+    @Test
+    void del_pipelinesSubCommandsPerNode_whenCrossSlotPipeliningEnabled() {
+
+        List<List<RedisCommand<String, String, ?>>> batches = enableCrossSlotPipelining(2);
+
+        RedisFuture<Long> result = new RedisAdvancedClusterAsyncCommandsImpl<>(clusterConn, StringCodec.UTF8).del("a", "b",
+                "c");
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.get(1)).hasSize(1);
+
+        for (List<RedisCommand<String, String, ?>> batch : batches) {
+            for (RedisCommand<String, String, ?> command : batch) {
+                assertThat(command.getType()).isEqualTo(CommandType.DEL);
+                command.getOutput().set(1L);
+                command.complete();
+            }
+        }
+
+        assertThat(result.toCompletableFuture().join()).isEqualTo(3L);
+    }
+
+    @Test
+    void mget_restoresKeyOrder_whenCrossSlotPipeliningEnabled() {
+
+        List<List<RedisCommand<String, String, ?>>> batches = enableCrossSlotPipelining(Integer.MAX_VALUE);
+
+        RedisFuture<List<KeyValue<String, String>>> result = new RedisAdvancedClusterAsyncCommandsImpl<>(clusterConn,
+                StringCodec.UTF8).mget("a", "b", "c", "a");
+
+        assertThat(batches).hasSize(1);
+
+        for (RedisCommand<String, String, ?> command : batches.get(0)) {
+
+            List<String> keys = new ArrayList<>();
+            Matcher matcher = Pattern.compile("key<([^>]*)>").matcher(command.getArgs().toCommandString());
+            while (matcher.find()) {
+                keys.add(matcher.group(1));
+            }
+
+            command.getOutput().multi(keys.size());
+            keys.forEach(key -> command.getOutput().set(StringCodec.UTF8.encodeValue("v-" + key)));
+            command.complete();
+        }
+
+        assertThat(result.toCompletableFuture().join()).extracting(KeyValue::getValue).containsExactly("v-a", "v-b", "v-c",
+                "v-a");
+    }
+
+    private List<List<RedisCommand<String, String, ?>>> enableCrossSlotPipelining(int batchSize) {
+
+        List<List<RedisCommand<String, String, ?>>> batches = new ArrayList<>();
+
+        when(clusterConn.getOptions())
+                .thenReturn(ClusterClientOptions.builder().crossSlotPipelining(true).crossSlotBatchSize(batchSize).build());
+        when(clusterConn.dispatch(anyCollection())).thenAnswer(invocation -> {
+            Collection<RedisCommand<String, String, ?>> commands = invocation.getArgument(0);
+            batches.add(new ArrayList<>(commands));
+            return commands;
+        });
+
+        return batches;
+    }
+
     @Test
     void ftAggregate_stampsNodeId_whenCursorCreated() {
         AggregateArgs<String, String> args = AggregateArgs.<String, String> builder()
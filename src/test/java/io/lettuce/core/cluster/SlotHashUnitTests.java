@@ -4,10 +4,15 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.codec.CRC16;
+import io.lettuce.core.codec.StringCodec;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -47,4 +52,42 @@ class SlotHashUnitTests {
         assertThat(result).isEqualTo(0x31C3);
     }
 
+    @Test
+    void shouldGetTaggedSlotOfHeapBufferWithOffset() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("xx{user1}a{b}".getBytes());
+        buffer.position(2);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(SlotHash.getSlot("user1"));
+        assertThat(SlotHash.getSlot(buffer.slice())).isEqualTo(SlotHash.getSlot("user1"));
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGetTaggedSlotOfDirectBufferWithOffset() {
+
+        byte[] bytes = "xx{user1}a{b}".getBytes();
+        ByteBuffer buffer = (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        buffer.position(2);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(SlotHash.getSlot("user1"));
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIgnoreEmptyHashTag() {
+        assertThat(SlotHash.getSlot("{}user1")).isEqualTo(CRC16.crc16("{}user1".getBytes()) % SlotHash.SLOT_COUNT);
+    }
+
+    @Test
+    void shouldGetSlotsForKeys() {
+
+        List<String> keys = Arrays.asList("a", "{a}b", "123456789");
+
+        int[] slots = SlotHash.getSlots(StringCodec.UTF8, keys);
+
+        assertThat(slots).containsExactly(SlotHash.getSlot("a"), SlotHash.getSlot("a"), 0x31C3);
+        assertThat(SlotHash.getSlots(StringCodec.UTF8, keys::iterator)).containsExactly(slots);
+    }
+
 }
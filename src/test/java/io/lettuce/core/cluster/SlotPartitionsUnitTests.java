@@ -0,0 +1,78 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link SlotPartitions}.
+ */
+@Tag(UNIT_TEST)
+class SlotPartitionsUnitTests {
+
+    @Test
+    void shouldGroupKeysBySlotRetainingOrder() {
+
+        List<String> keys = Arrays.asList("{a}1", "b", "{a}2", "c", "{a}3", "b");
+
+        SlotPartitions<String> partitions = SlotPartitions.of(StringCodec.UTF8, keys);
+
+        assertThat(partitions.size()).isEqualTo(6);
+        assertThat(partitions.getPartitionCount()).isEqualTo(3);
+
+        for (int partition = 0; partition < partitions.getPartitionCount(); partition++) {
+
+            List<String> partitionKeys = partitions.getKeys(partition);
+            for (String key : partitionKeys) {
+                assertThat(SlotHash.getSlot(key)).isEqualTo(partitions.getSlot(partition));
+            }
+        }
+
+        int a = partitions.getPartition(0);
+        assertThat(partitions.getKeys(a)).containsExactly("{a}1", "{a}2", "{a}3");
+        assertThat(partitions.getKeys(partitions.getPartition(1))).containsExactly("b", "b");
+    }
+
+    @Test
+    void shouldMapKeyIndexToPartitionPosition() {
+
+        String[] keys = { "b", "{a}1", "c", "{a}2", "b" };
+
+        SlotPartitions<String> partitions = SlotPartitions.of(StringCodec.UTF8, keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(partitions.getKeys(partitions.getPartition(i)).get(partitions.getPosition(i))).isEqualTo(keys[i]);
+        }
+
+        assertThat(partitions.getPosition(0)).isZero();
+        assertThat(partitions.getPosition(4)).isOne();
+    }
+
+    @Test
+    void shouldOrderPartitionsBySlot() {
+
+        SlotPartitions<String> partitions = SlotPartitions.of(StringCodec.UTF8, Arrays.asList("a", "b", "c", "d"));
+
+        for (int partition = 1; partition < partitions.getPartitionCount(); partition++) {
+            assertThat(partitions.getSlot(partition)).isGreaterThan(partitions.getSlot(partition - 1));
+        }
+    }
+
+    @Test
+    void shouldPartitionEmptyKeys() {
+
+        SlotPartitions<String> partitions = SlotPartitions.of(StringCodec.UTF8, Collections.emptyList());
+
+        assertThat(partitions.size()).isZero();
+        assertThat(partitions.getPartitionCount()).isZero();
+    }
+
+}
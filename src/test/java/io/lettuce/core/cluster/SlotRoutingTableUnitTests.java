@@ -0,0 +1,58 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+
+/**
+ * Unit tests for {@link SlotRoutingTable}.
+ */
+@Tag(UNIT_TEST)
+class SlotRoutingTableUnitTests {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRetainFirstWriter() {
+
+        SlotRoutingTable<String, String> sut = new SlotRoutingTable<>();
+        CompletableFuture<StatefulRedisConnection<String, String>> first = CompletableFuture
+                .completedFuture(mock(StatefulRedisConnection.class));
+        CompletableFuture<StatefulRedisConnection<String, String>> second = CompletableFuture
+                .completedFuture(mock(StatefulRedisConnection.class));
+
+        assertThat(sut.getWriter(42)).isNull();
+
+        sut.setWriter(42, first);
+        sut.setWriter(42, second);
+
+        assertThat(sut.getWriter(42)).isSameAs(first);
+        assertThat(sut.getWriter(43)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void withoutReadersShouldRetainWriters() {
+
+        SlotRoutingTable<String, String> sut = new SlotRoutingTable<>();
+        CompletableFuture<StatefulRedisConnection<String, String>> writer = CompletableFuture
+                .completedFuture(mock(StatefulRedisConnection.class));
+        CompletableFuture<StatefulRedisConnection<String, String>>[] readers = new CompletableFuture[] { writer };
+
+        sut.setWriter(1, writer);
+        sut.setReaders(1, readers);
+
+        SlotRoutingTable<String, String> copy = sut.withoutReaders();
+
+        assertThat(copy.getWriter(1)).isSameAs(writer);
+        assertThat(copy.getReaders(1)).isNull();
+        assertThat(sut.getReaders(1)).isSameAs(readers);
+    }
+
+}
@@ -0,0 +1,261 @@
+package io.lettuce.core.cluster.pubsub;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.PipelinedRedisFuture;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link ClusterShardedPubSub}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterShardedPubSubUnitTests {
+
+    @Mock
+    StatefulRedisClusterPubSubConnection<String, String> connection;
+
+    @Mock
+    StatefulRedisPubSubConnection<String, String> nodeConnection1;
+
+    @Mock
+    StatefulRedisPubSubConnection<String, String> nodeConnection2;
+
+    @Mock
+    RedisPubSubAsyncCommands<String, String> nodeCommands1;
+
+    @Mock
+    RedisPubSubAsyncCommands<String, String> nodeCommands2;
+
+    @Mock
+    RedisClusterPubSubListener<String, String> listener;
+
+    @Mock
+    ClientResources clientResources;
+
+    @Mock
+    EventBus eventBus;
+
+    private final Partitions partitions = new Partitions();
+
+    private RedisClusterNode node1;
+
+    private RedisClusterNode node2;
+
+    private ClusterShardedPubSub<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        node1 = upstream("1", IntStream.range(0, 8192));
+        node2 = upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT));
+        partitions.add(node1);
+        partitions.add(node2);
+
+        when(connection.getPartitions()).thenReturn(partitions);
+        when(connection.getResources()).thenReturn(clientResources);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+        when(eventBus.get()).thenReturn(Flux.never());
+        when(connection.getConnectionAsync("1")).thenReturn(CompletableFuture.completedFuture(nodeConnection1));
+        when(connection.getConnectionAsync("2")).thenReturn(CompletableFuture.completedFuture(nodeConnection2));
+        when(nodeConnection1.async()).thenReturn(nodeCommands1);
+        when(nodeConnection2.async()).thenReturn(nodeCommands2);
+        when(nodeCommands1.ssubscribe(any())).thenReturn(completed());
+        when(nodeCommands2.ssubscribe(any())).thenReturn(completed());
+        when(nodeCommands1.sunsubscribe(any())).thenReturn(completed());
+        when(nodeCommands2.sunsubscribe(any())).thenReturn(completed());
+
+        sut = ClusterShardedPubSub.create(connection, StringCodec.UTF8);
+        sut.addListener(listener);
+    }
+
+    @Test
+    void shouldSubscribeOnSlotOwnerPerSlot() {
+
+        // "a" (15495) and "b" (3300) hash to different nodes, "{a}x" shares the slot of "a"
+        sut.ssubscribe("a", "b", "{a}x").join();
+
+        verify(nodeCommands1).ssubscribe("b");
+        verify(nodeCommands2).ssubscribe("a", "{a}x");
+        verify(connection, times(1)).getConnectionAsync("1");
+        verify(connection, times(1)).getConnectionAsync("2");
+        assertThat(sut.getShardChannels()).containsOnly("a", "b", "{a}x");
+    }
+
+    @Test
+    void shouldNotResubscribeKnownChannels() {
+
+        sut.ssubscribe("a").join();
+        sut.ssubscribe("a").join();
+
+        verify(nodeCommands2, times(1)).ssubscribe(any());
+    }
+
+    @Test
+    void shouldUnsubscribeFromSlotOwner() {
+
+        sut.ssubscribe("a", "b").join();
+        sut.sunsubscribe("a").join();
+
+        verify(nodeCommands2).sunsubscribe("a");
+        verify(nodeCommands1, never()).sunsubscribe(any());
+        assertThat(sut.getShardChannels()).containsOnly("b");
+    }
+
+    @Test
+    void shouldDeliverMessagesWithNode() {
+
+        sut.ssubscribe("a").join();
+
+        RedisPubSubListener<String, String> nodeListener = captureListener(nodeConnection2);
+        nodeListener.smessage("a", "hello");
+
+        verify(listener).smessage(node2, "a", "hello");
+    }
+
+    @Test
+    void shouldMoveSubscriptionsOnTopologyChange() {
+
+        sut.ssubscribe("a", "b").join();
+
+        int slot = SlotHash.getSlot("a");
+        RedisClusterNode moved = upstream("1", IntStream.concat(IntStream.range(0, 8192), IntStream.of(slot)));
+        RedisClusterNode remaining = upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT).filter(it -> it != slot));
+
+        sut.onTopologyChanged(Arrays.asList(moved, remaining));
+
+        verify(nodeCommands1).ssubscribe("a");
+        verify(nodeCommands2).sunsubscribe("a");
+        verify(nodeCommands1, times(1)).ssubscribe("b");
+    }
+
+    @Test
+    void shouldIgnoreTopologyChangesOfOtherClusters() {
+
+        Sinks.Many<Event> events = Sinks.many().multicast().directBestEffort();
+        when(eventBus.get()).thenReturn(events.asFlux());
+
+        sut = ClusterShardedPubSub.create(connection, StringCodec.UTF8);
+        sut.ssubscribe("a", "b").join();
+
+        List<RedisClusterNode> foreign = Arrays.asList(upstream("x", IntStream.range(0, 8192)),
+                upstream("y", IntStream.range(8192, SlotHash.SLOT_COUNT)));
+        events.tryEmitNext(new ClusterTopologyChangedEvent(foreign, foreign));
+
+        verify(connection, never()).getConnectionAsync("x");
+        verify(connection, never()).getConnectionAsync("y");
+        verify(nodeCommands1, never()).sunsubscribe(any());
+        verify(nodeCommands2, never()).sunsubscribe(any());
+        verify(nodeConnection1, never()).removeListener(any(RedisPubSubListener.class));
+        verify(nodeConnection2, never()).removeListener(any(RedisPubSubListener.class));
+
+        int slot = SlotHash.getSlot("a");
+        List<RedisClusterNode> moved = Arrays.asList(
+                upstream("1", IntStream.concat(IntStream.range(0, 8192), IntStream.of(slot))),
+                upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT).filter(it -> it != slot)));
+        events.tryEmitNext(new ClusterTopologyChangedEvent(new ArrayList<>(partitions), moved));
+
+        verify(nodeCommands1).ssubscribe("a");
+    }
+
+    @Test
+    void shouldResubscribeAfterServerSideUnsubscribe() {
+
+        sut.ssubscribe("a").join();
+        RedisPubSubListener<String, String> nodeListener = captureListener(nodeConnection2);
+
+        // slot migrated, topology not yet refreshed
+        nodeListener.sunsubscribed("a", 0);
+        verify(listener).sunsubscribed(node2, "a", 0);
+        verify(nodeCommands1, never()).ssubscribe(any());
+
+        int slot = SlotHash.getSlot("a");
+        sut.onTopologyChanged(Arrays.asList(upstream("1", IntStream.concat(IntStream.range(0, 8192), IntStream.of(slot))),
+                upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT).filter(it -> it != slot))));
+
+        verify(nodeCommands1).ssubscribe("a");
+        verify(nodeCommands2, never()).sunsubscribe(any());
+        assertThat(sut.getShardChannels()).containsOnly("a");
+    }
+
+    @Test
+    void shouldRetrySubscriptionAfterFailure() {
+
+        PipelinedRedisFuture<Void> failed = new PipelinedRedisFuture<>(new CompletableFuture<>());
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        when(nodeCommands2.ssubscribe(any())).thenReturn(failed, completed());
+
+        assertThatThrownBy(() -> sut.ssubscribe("a").join()).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        sut.onTopologyChanged(new ArrayList<>(partitions));
+
+        verify(nodeCommands2, times(2)).ssubscribe("a");
+    }
+
+    @Test
+    void closeShouldUnsubscribeAndRemoveListeners() {
+
+        sut.ssubscribe("a").join();
+        RedisPubSubListener<String, String> nodeListener = captureListener(nodeConnection2);
+
+        sut.close();
+
+        verify(nodeCommands2).sunsubscribe("a");
+        verify(nodeConnection2).removeListener(nodeListener);
+        verify(connection, never()).close();
+        assertThat(sut.getShardChannels()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisPubSubListener<String, String> captureListener(StatefulRedisPubSubConnection<String, String> node) {
+
+        ArgumentCaptor<RedisPubSubListener<String, String>> captor = ArgumentCaptor.forClass(RedisPubSubListener.class);
+        verify(node).addListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private static PipelinedRedisFuture<Void> completed() {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null));
+    }
+
+    private static RedisClusterNode upstream(String nodeId, IntStream slots) {
+        return new RedisClusterNode(RedisURI.create("localhost", 6379), nodeId, true, null, 0, 0, 0,
+                slots.boxed().collect(Collectors.toList()), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+    }
+
+}
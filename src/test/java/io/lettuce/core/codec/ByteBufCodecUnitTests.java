@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link ByteBufCodec}.
+ */
+@Tag(UNIT_TEST)
+class ByteBufCodecUnitTests {
+
+    private final ByteBufCodec codec = ByteBufCodec.INSTANCE;
+
+    @Test
+    void shouldEncodeWithoutConsumingSource() {
+
+        ByteBuf key = Unpooled.copiedBuffer("key", StandardCharsets.US_ASCII);
+        ByteBuf target = Unpooled.buffer();
+
+        codec.encodeKey(key, target);
+
+        assertThat(key.readableBytes()).isEqualTo(3);
+        assertThat(target.toString(StandardCharsets.US_ASCII)).isEqualTo("key");
+        assertThat(codec.estimateSize(key)).isEqualTo(3);
+        assertThat(codec.isEstimateExact()).isTrue();
+
+        key.release();
+        target.release();
+    }
+
+    @Test
+    void shouldDecodeIntoIndependentBuffer() {
+
+        ByteBuf source = Unpooled.copiedBuffer("value", StandardCharsets.US_ASCII);
+
+        ByteBuf decoded = codec.decodeValue(source.slice());
+        source.setByte(0, 'x');
+
+        assertThat(decoded.toString(StandardCharsets.US_ASCII)).isEqualTo("value");
+        assertThat(decoded.refCnt()).isEqualTo(1);
+
+        decoded.release();
+        source.release();
+    }
+
+    @Test
+    void shouldDecodeByteBuffer() {
+
+        ByteBuf decoded = codec.decodeKey(ByteBuffer.wrap("key".getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(decoded.toString(StandardCharsets.US_ASCII)).isEqualTo("key");
+        decoded.release();
+    }
+
+    @Test
+    void shouldEncodeNullToEmptyByteBuffer() {
+        assertThat(codec.encodeValue(null).remaining()).isZero();
+        assertThat(codec.estimateSize(null)).isZero();
+    }
+
+}
@@ -160,6 +160,18 @@ public class BitCommandIntegrationTests extends TestSupport {
         assertThat(bitstring.get(key)).isEqualTo("0000000000010011");
     }
 
+    @Test
+    @EnabledOnCommand("BITFIELD")
+    void bitfieldArray() {
+
+        BitFieldArgs bitFieldArgs = BitFieldArgs.Builder.set(signed(8), 0, 1).set(5, 1).incrBy(2, 3).get().get(2);
+
+        long[] values = redis.bitfieldArray(key, bitFieldArgs);
+
+        assertThat(values).containsExactly(0L, 32L, 3L, 0L, 3L);
+        assertThat(bitstring.get(key)).isEqualTo("0000000000010011");
+    }
+
     @Test
     @EnabledOnCommand("BITFIELD")
     void bitfieldGetWithOffset() {
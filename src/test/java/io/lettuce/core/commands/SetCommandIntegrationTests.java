@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -178,6 +179,14 @@ public class SetCommandIntegrationTests extends TestSupport {
         assertThat(redis.smismember(key, "b", "a")).isEqualTo(list(false, true));
     }
 
+    @Test
+    @EnabledOnCommand("SMISMEMBER")
+    void smismemberBitSet() {
+        assertThat(redis.smismemberBitSet(key, "a").isEmpty()).isTrue();
+        redis.sadd(key, "a", "c");
+        assertThat(redis.smismemberBitSet(key, "b", "a", "d", "c")).isEqualTo(BitSet.valueOf(new long[] { 0b1010 }));
+    }
+
     @Test
     void spop() {
         assertThat(redis.spop(key)).isNull();
@@ -991,6 +991,13 @@ public class SortedSetCommandIntegrationTests extends TestSupport {
         assertThat(redis.zmscore("zset1", "a", "c", "b")).isEqualTo(list(1.0, null, 2.0));
     }
 
+    @Test
+    @EnabledOnCommand("ZMSCORE")
+    public void zmscoreArray() {
+        redis.zadd("zset1", 1.0, "a", 2.0, "b");
+        assertThat(redis.zmscoreArray("zset1", "a", "c", "b")).containsExactly(1.0, Double.NaN, 2.0);
+    }
+
     @Test
     void zrangebylex() {
         setup100KeyValues(new HashSet<>());
@@ -0,0 +1,207 @@
+package io.lettuce.core.datastructure.queue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.lettuce.TestTags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag(TestTags.UNIT_TEST)
+class IntrusiveIndexedQueueTests {
+
+    private IntrusiveIndexedQueue<Object> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new IntrusiveIndexedQueue<>();
+    }
+
+    @Test
+    void testOfferAndPollInOrder() {
+
+        List<Item> items = items(100);
+        queue.addAll(items);
+
+        assertEquals(100, queue.size());
+
+        for (Item item : items) {
+            assertSame(item, queue.peek());
+            assertSame(item, queue.poll());
+            assertEquals(IntrusiveIndexedQueue.NO_INDEX, item.getQueueIndex());
+        }
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void testRemoveFromMiddle() {
+
+        List<Item> items = items(5);
+        queue.addAll(items);
+
+        assertTrue(queue.remove(items.get(2)));
+        assertFalse(queue.remove(items.get(2)));
+        assertFalse(queue.contains(items.get(2)));
+        assertEquals(4, queue.size());
+
+        assertEquals(Arrays.asList(items.get(0), items.get(1), items.get(3), items.get(4)), new ArrayList<>(queue));
+    }
+
+    @Test
+    void testRemoveHeadAndTailSkipsEmptySlots() {
+
+        List<Item> items = items(4);
+        queue.addAll(items);
+
+        queue.remove(items.get(1));
+        queue.remove(items.get(0));
+        queue.remove(items.get(3));
+
+        assertEquals(1, queue.size());
+        assertSame(items.get(2), queue.peek());
+        assertSame(items.get(2), queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testCompactsEmptySlotsAndKeepsIndex() {
+
+        List<Item> items = items(16);
+        queue.addAll(items);
+
+        for (int i = 1; i < 15; i++) {
+            queue.remove(items.get(i));
+        }
+
+        List<Item> more = items(20);
+        queue.addAll(more);
+
+        assertEquals(22, queue.size());
+        assertTrue(queue.remove(more.get(10)));
+        assertTrue(queue.remove(items.get(15)));
+        assertSame(items.get(0), queue.poll());
+        assertSame(more.get(0), queue.poll());
+        assertEquals(18, queue.size());
+    }
+
+    @Test
+    void testRemoveNonIndexedElements() {
+
+        queue.add("a");
+        queue.add("b");
+        queue.add("c");
+
+        assertTrue(queue.remove("b"));
+        assertFalse(queue.contains("b"));
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(queue));
+    }
+
+    @Test
+    void testDuplicateElements() {
+
+        Item item = new Item();
+        Item other = new Item();
+
+        queue.add(item);
+        queue.add(other);
+        queue.add(item);
+
+        assertTrue(queue.remove(item));
+        assertTrue(queue.contains(item));
+        assertTrue(queue.remove(item));
+        assertFalse(queue.contains(item));
+        assertSame(other, queue.poll());
+    }
+
+    @Test
+    void testElementInMultipleQueues() {
+
+        IntrusiveIndexedQueue<Object> other = new IntrusiveIndexedQueue<>();
+        Item item = new Item();
+
+        queue.add(new Item());
+        queue.add(item);
+        other.add(item);
+
+        assertTrue(queue.remove(item));
+        assertTrue(other.remove(item));
+        assertTrue(other.isEmpty());
+    }
+
+    @Test
+    void testIteratorRemove() {
+
+        List<Item> items = items(3);
+        queue.addAll(items);
+
+        Iterator<Object> iterator = queue.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertSame(items.get(2), iterator.next());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(Arrays.asList(items.get(0), items.get(2)), new ArrayList<>(queue));
+    }
+
+    @Test
+    void testClear() {
+
+        List<Item> items = items(3);
+        queue.addAll(items);
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(IntrusiveIndexedQueue.NO_INDEX, items.get(1).getQueueIndex());
+        assertFalse(queue.remove(items.get(1)));
+
+        queue.add(items.get(1));
+        assertSame(items.get(1), queue.poll());
+    }
+
+    @Test
+    void testRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> queue.add(null));
+    }
+
+    private static List<Item> items(int count) {
+
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item());
+        }
+        return items;
+    }
+
+    static class Item implements IntrusiveIndexedQueue.Element {
+
+        private long index = IntrusiveIndexedQueue.NO_INDEX;
+
+        @Override
+        public long getQueueIndex() {
+            return index;
+        }
+
+        @Override
+        public void setQueueIndex(long index) {
+            this.index = index;
+        }
+
+    }
+
+}
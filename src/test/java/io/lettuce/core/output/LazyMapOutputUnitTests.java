@@ -0,0 +1,102 @@
+package io.lettuce.core.output;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link LazyMapOutput}.
+ */
+@Tag(UNIT_TEST)
+class LazyMapOutputUnitTests {
+
+    @Test
+    void shouldLookupWithoutDecodingOtherEntries() {
+
+        AtomicInteger decodes = new AtomicInteger();
+        LazyMapOutput<String, String> sut = new LazyMapOutput<>(new StringCodec(StandardCharsets.UTF_8) {
+
+            @Override
+            public String decodeKey(ByteBuffer bytes) {
+                decodes.incrementAndGet();
+                return super.decodeKey(bytes);
+            }
+
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                decodes.incrementAndGet();
+                return super.decodeValue(bytes);
+            }
+
+        });
+
+        sut.multi(2000);
+        for (int i = 0; i < 1000; i++) {
+            sut.set(ByteBuffer.wrap(("field-" + i).getBytes()));
+            sut.set(ByteBuffer.wrap(("value-" + i).getBytes()));
+        }
+
+        Map<String, String> map = sut.get();
+
+        assertThat(map).hasSize(1000);
+        assertThat(map.get("field-42")).isEqualTo("value-42");
+        assertThat(map.containsKey("field-999")).isTrue();
+        assertThat(map.containsKey("field-1000")).isFalse();
+        assertThat(map.get(42)).isNull();
+        assertThat(decodes).hasValue(1);
+    }
+
+    @Test
+    void shouldIterateInResponseOrder() {
+
+        LazyMapOutput<String, String> sut = new LazyMapOutput<>(StringCodec.UTF8);
+        sut.multi(4);
+        sut.setByteBuf(Unpooled.wrappedBuffer("b".getBytes()));
+        sut.setByteBuf(Unpooled.wrappedBuffer("2".getBytes()));
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set((ByteBuffer) null);
+
+        List<String> keys = new ArrayList<>(sut.get().keySet());
+
+        assertThat(keys).containsExactly("b", "a");
+        assertThat(sut.get()).containsEntry("b", "2").containsEntry("a", null);
+        assertThat(sut.get().containsKey("a")).isTrue();
+    }
+
+    @Test
+    void shouldReturnEmptyMapWithoutElements() {
+
+        LazyMapOutput<String, String> sut = new LazyMapOutput<>(StringCodec.UTF8);
+
+        assertThat(sut.get()).isEmpty();
+
+        sut.multi(0);
+
+        assertThat(sut.get()).isEmpty();
+        assertThat(sut.get().get("key")).isNull();
+    }
+
+    @Test
+    void shouldBeUnmodifiable() {
+
+        LazyMapOutput<String, String> sut = new LazyMapOutput<>(StringCodec.UTF8);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("key".getBytes()));
+        sut.set(ByteBuffer.wrap("value".getBytes()));
+
+        assertThatThrownBy(() -> sut.get().put("other", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.lettuce.core.output;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link LazyValueListOutput} and {@link LazyScoredValueListOutput}.
+ */
+@Tag(UNIT_TEST)
+class LazyValueListOutputUnitTests {
+
+    @Test
+    void shouldDecodeValuesOnAccess() {
+
+        LazyValueListOutput<String, String> sut = new LazyValueListOutput<>(StringCodec.UTF8);
+        sut.multi(3);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set((ByteBuffer) null);
+        sut.setByteBuf(Unpooled.wrappedBuffer("three".getBytes()));
+
+        assertThat(sut.get()).containsExactly("one", null, "three");
+        assertThatThrownBy(() -> sut.get().get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldNotRetainInboundBuffer() {
+
+        LazyValueListOutput<byte[], byte[]> sut = new LazyValueListOutput<>(ByteArrayCodec.INSTANCE);
+        ByteBuf inbound = Unpooled.buffer().writeBytes("value".getBytes());
+
+        sut.multi(1);
+        sut.setByteBuf(inbound);
+        inbound.setByte(0, 'X');
+        inbound.release();
+
+        assertThat(sut.get().get(0)).isEqualTo("value".getBytes());
+    }
+
+    @Test
+    void shouldIgnoreNullWithoutMulti() {
+
+        LazyValueListOutput<String, String> sut = new LazyValueListOutput<>(StringCodec.UTF8);
+        sut.set((ByteBuffer) null);
+
+        assertThat(sut.get()).isEmpty();
+    }
+
+    @Test
+    void shouldDecodeScoredValuesFromBulkScores() {
+
+        LazyScoredValueListOutput<String, String> sut = new LazyScoredValueListOutput<>(StringCodec.UTF8);
+        sut.multi(4);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(ByteBuffer.wrap("1.5".getBytes()));
+        sut.setByteBuf(Unpooled.wrappedBuffer("b".getBytes()));
+        sut.setByteBuf(Unpooled.wrappedBuffer("inf".getBytes()));
+
+        assertThat(sut.get()).containsExactly(ScoredValue.just(1.5, "a"), ScoredValue.just(Double.POSITIVE_INFINITY, "b"));
+    }
+
+    @Test
+    void shouldDecodeScoredValuesFromDoubleScores() {
+
+        LazyScoredValueListOutput<String, String> sut = new LazyScoredValueListOutput<>(StringCodec.UTF8);
+        sut.multi(2);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(4.567);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("b".getBytes()));
+        sut.set(5.0);
+
+        assertThat(sut.get()).containsExactly(ScoredValue.just(4.567, "a"), ScoredValue.just(5.0, "b"));
+    }
+
+}
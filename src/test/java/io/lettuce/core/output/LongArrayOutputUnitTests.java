@@ -0,0 +1,82 @@
+package io.lettuce.core.output;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link LongArrayOutput}, {@link DoubleArrayOutput} and {@link BitSetOutput}.
+ */
+@Tag(UNIT_TEST)
+class LongArrayOutputUnitTests {
+
+    @Test
+    void shouldCollectLongs() {
+
+        LongArrayOutput<String, String> sut = new LongArrayOutput<>(StringCodec.UTF8);
+        sut.multi(3);
+        sut.set(1L);
+        sut.set((ByteBuffer) null);
+        sut.set(-3L);
+        sut.complete(0);
+
+        assertThat(sut.get()).containsExactly(1L, 0L, -3L);
+    }
+
+    @Test
+    void shouldReturnEmptyArrayForNilReply() {
+
+        LongArrayOutput<String, String> sut = new LongArrayOutput<>(StringCodec.UTF8);
+        sut.set((ByteBuffer) null);
+        sut.complete(0);
+
+        assertThat(sut.get()).isEmpty();
+    }
+
+    @Test
+    void shouldGrowWithoutCount() {
+
+        LongArrayOutput<String, String> sut = new LongArrayOutput<>(StringCodec.UTF8);
+        sut.multi(-1);
+        for (int i = 0; i < 20; i++) {
+            sut.set(i);
+        }
+        sut.complete(0);
+
+        assertThat(sut.get()).hasSize(20).startsWith(0L, 1L).endsWith(19L);
+    }
+
+    @Test
+    void shouldCollectDoubles() {
+
+        DoubleArrayOutput<String, String> sut = new DoubleArrayOutput<>(StringCodec.UTF8);
+        sut.multi(4);
+        sut.set(1.5);
+        sut.set((ByteBuffer) null);
+        sut.set(ByteBuffer.wrap("2.25".getBytes()));
+        sut.set(ByteBuffer.wrap("-inf".getBytes()));
+        sut.complete(0);
+
+        assertThat(sut.get()).containsExactly(1.5, Double.NaN, 2.25, Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void shouldCollectBits() {
+
+        BitSetOutput<String, String> sut = new BitSetOutput<>(StringCodec.UTF8);
+        sut.multi(4);
+        sut.set(1L);
+        sut.set(0L);
+        sut.set(false);
+        sut.set(true);
+
+        assertThat(sut.get().stream()).containsExactly(0, 3);
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link AdaptiveDecodeBufferPolicy}.
+ */
+@Tag(UNIT_TEST)
+class AdaptiveDecodeBufferPolicyUnitTests {
+
+    private final AdaptiveDecodeBufferPolicy policy = DecodeBufferPolicies.adaptive(1024);
+
+    @Test
+    void shouldCreateStatefulPolicyPerConnection() {
+
+        assertThat(policy.forConnection()).isInstanceOf(AdaptiveDecodeBufferPolicy.ConnectionPolicy.class)
+                .isNotSameAs(policy.forConnection());
+        assertThat(DecodeBufferPolicies.always().forConnection()).isSameAs(DecodeBufferPolicies.always());
+    }
+
+    @Test
+    void shouldResetEmptyBufferWithoutDiscarding() {
+
+        DecodeBufferPolicy connection = policy.forConnection();
+        ByteBuf buffer = Unpooled.buffer(1024);
+
+        buffer.writeZero(100);
+        buffer.skipBytes(100);
+        connection.afterCommandDecoded(buffer);
+        connection.afterDecoding(buffer);
+
+        assertThat(buffer.readerIndex()).isZero();
+        assertThat(buffer.writerIndex()).isZero();
+
+        DecodeBufferMetrics metrics = policy.retrieveMetrics();
+        assertThat(metrics.getReplyCount()).isEqualTo(1);
+        assertThat(metrics.getReplyBytes()).isEqualTo(100);
+        assertThat(metrics.getDiscardCount()).isZero();
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldSkipDiscardForSmallPartialReplies() {
+
+        DecodeBufferPolicy connection = policy.forConnection();
+        ByteBuf buffer = Unpooled.buffer(1024);
+
+        for (int i = 0; i < 3; i++) {
+
+            buffer.writeZero(40);
+            buffer.skipBytes(30);
+            connection.afterCommandDecoded(buffer);
+            connection.afterDecoding(buffer);
+        }
+
+        assertThat(buffer.readerIndex()).isEqualTo(90);
+        assertThat(policy.retrieveMetrics().getDiscardCount()).isZero();
+        assertThat(policy.retrieveMetrics().getSkippedDiscardCount()).isEqualTo(3);
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldDiscardWhenReadBytesDominateBuffer() {
+
+        DecodeBufferPolicy connection = policy.forConnection();
+        ByteBuf buffer = Unpooled.buffer(1024, 1024);
+
+        buffer.writeZero(700);
+        buffer.skipBytes(600);
+        connection.afterPartialDecode(buffer);
+
+        assertThat(buffer.readerIndex()).isZero();
+        assertThat(buffer.readableBytes()).isEqualTo(100);
+        assertThat(policy.retrieveMetrics().getDiscardCount()).isEqualTo(1);
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldShrinkBufferAfterBurst() {
+
+        AdaptiveDecodeBufferPolicy.ConnectionPolicy connection = (AdaptiveDecodeBufferPolicy.ConnectionPolicy) policy
+                .forConnection();
+        ByteBuf buffer = Unpooled.buffer(1024);
+
+        buffer.writeZero(1024 * 1024);
+        buffer.skipBytes(1024 * 1024);
+        connection.afterCommandDecoded(buffer);
+        connection.afterDecoding(buffer);
+
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(1024 * 1024);
+        assertThat(connection.getAverageReplySize()).isPositive();
+
+        for (int i = 0; i < 100; i++) {
+
+            buffer.writeZero(50);
+            buffer.skipBytes(50);
+            connection.afterCommandDecoded(buffer);
+            connection.afterDecoding(buffer);
+        }
+
+        assertThat(buffer.capacity()).isEqualTo(1024);
+
+        DecodeBufferMetrics metrics = policy.retrieveMetrics();
+        assertThat(metrics.getShrinkCount()).isPositive();
+        assertThat(metrics.getReleasedBytes()).isGreaterThanOrEqualTo(1024 * 1024 - 1024);
+        assertThat(metrics.getReplyCount()).isEqualTo(101);
+
+        buffer.release();
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Unit tests for {@link AggregatingCommandEncoder}.
+ */
+@Tag(UNIT_TEST)
+class AggregatingCommandEncoderUnitTests {
+
+    private final AggregatingCommandEncoder sut = new AggregatingCommandEncoder(false);
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(sut);
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldAggregateWritesUntilFlush() {
+
+        ChannelFuture first = channel.write(command(CommandType.SET, "key", "value"));
+        ChannelFuture second = channel.write(Arrays.asList(command(CommandType.GET, "key"), command(CommandType.DEL, "key")));
+
+        assertThat(channel.outboundMessages()).isEmpty();
+        assertThat(sut.getAggregatedBytes()).isPositive();
+        assertThat(first.isDone()).isFalse();
+
+        channel.flush();
+
+        assertThat(channel.outboundMessages()).hasSize(1);
+        assertThat(sut.getAggregatedBytes()).isZero();
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(second.isSuccess()).isTrue();
+
+        ByteBuf buffer = channel.readOutbound();
+        assertThat(buffer.toString(StandardCharsets.US_ASCII))
+                .isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n"
+                        + "*2\r\n$3\r\nDEL\r\n$3\r\nkey\r\n");
+        buffer.release();
+    }
+
+    @Test
+    void shouldWriteAggregateBeforePassingThroughOtherMessages() {
+
+        channel.write(command(CommandType.PING));
+        channel.writeAndFlush(Unpooled.copiedBuffer("raw", StandardCharsets.US_ASCII));
+
+        ByteBuf commands = channel.readOutbound();
+        ByteBuf raw = channel.readOutbound();
+
+        assertThat(commands.toString(StandardCharsets.US_ASCII)).isEqualTo("*1\r\n$4\r\nPING\r\n");
+        assertThat(raw.toString(StandardCharsets.US_ASCII)).isEqualTo("raw");
+
+        commands.release();
+        raw.release();
+    }
+
+    @Test
+    void shouldFailPendingWritesOnClose() {
+
+        ChannelFuture future = channel.write(command(CommandType.PING));
+
+        channel.close();
+
+        assertThat(future.isSuccess()).isFalse();
+        assertThat(future.cause()).isNotNull();
+        assertThat(sut.getAggregatedBytes()).isZero();
+    }
+
+    @Test
+    void estimateShouldCoverEncodedSize() {
+
+        Command<String, String, String> command = command(CommandType.SET, "key", "some-value");
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(AggregatingCommandEncoder.estimateSize(command)).isGreaterThanOrEqualTo(buffer.readableBytes());
+        buffer.release();
+    }
+
+    private static Command<String, String, String> command(CommandType type, String... args) {
+
+        CommandArgs<String, String> commandArgs = new CommandArgs<>(StringCodec.ASCII);
+        if (args.length > 0) {
+            commandArgs.addKey(args[0]);
+        }
+        for (int i = 1; i < args.length; i++) {
+            commandArgs.addValue(args[i]);
+        }
+
+        return new Command<>(type, new StatusOutput<>(StringCodec.ASCII), commandArgs);
+    }
+
+}
@@ -185,4 +185,70 @@ class CommandArgsUnitTests {
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
 
+    @Test
+    void shouldEncodeIntegers() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(0).add(7).add(42).add(-1).add(-129)
+                .add(Long.MAX_VALUE).add(Long.MIN_VALUE);
+
+        StringBuilder expected = new StringBuilder();
+        for (long value : new long[] { 0, 7, 42, -1, -129, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            String string = Long.toString(value);
+            expected.append('$').append(string.length()).append("\r\n").append(string).append("\r\n");
+        }
+
+        assertThat(encode(args)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void shouldEncodeMixedArgumentsBeyondInitialCapacity() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key");
+
+        StringBuilder expected = new StringBuilder("$3\r\nkey\r\n");
+        for (int i = 0; i < 1000; i++) {
+            args.add(i + 0.5).addValue("m" + i);
+
+            String score = Double.toString(i + 0.5);
+            String member = "m" + i;
+            expected.append('$').append(score.length()).append("\r\n").append(score).append("\r\n");
+            expected.append('$').append(member.length()).append("\r\n").append(member).append("\r\n");
+        }
+
+        assertThat(args.count()).isEqualTo(2001);
+        assertThat(encode(args)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void toCommandStringShouldRenderArguments() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue("value").add(1).add(2.5)
+                .add("string").add("chars".toCharArray()).add(CommandKeyword.LIMIT).add(CommandType.GET);
+
+        assertThat(args.toCommandString()).isEqualTo("key<key> value<value> 1 2.5 string chars LIMIT GET");
+    }
+
+    @Test
+    void addAllShouldRetainCodecOfArguments() {
+
+        CommandArgs<byte[], byte[]> other = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes()).add(1);
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add("first").addAll(other);
+
+        assertThat(args.count()).isEqualTo(3);
+        assertThat(encode(args)).isEqualTo("$5\r\nfirst\r\n$3\r\nkey\r\n$1\r\n1\r\n");
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("key".getBytes()));
+        assertThat(CommandArgsAccessor.getFirstInteger(args)).isEqualTo(1L);
+    }
+
+    private static String encode(CommandArgs<?, ?> args) {
+
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            args.encode(buffer);
+            return buffer.toString(StandardCharsets.US_ASCII);
+        } finally {
+            buffer.release();
+        }
+    }
+
 }
@@ -579,6 +579,7 @@ class CommandHandlerUnitTests {
     void shouldCallPolicyToDiscardReadBytes() throws Exception {
 
         DecodeBufferPolicy policy = mock(DecodeBufferPolicy.class);
+        when(policy.forConnection()).thenReturn(policy);
 
         CommandHandler commandHandler = new CommandHandler(ClientOptions.builder().decodeBufferPolicy(policy).build(),
                 clientResources, endpoint);
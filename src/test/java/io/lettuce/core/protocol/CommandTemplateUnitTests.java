@@ -0,0 +1,119 @@
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link CommandTemplate}.
+ */
+@Tag(UNIT_TEST)
+class CommandTemplateUnitTests {
+
+    @Test
+    void shouldEncodeLikeCommandArgs() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.HINCRBY).key().key()
+                .integer().build();
+
+        Command<String, String, Long> command = template.create(new IntegerOutput<>(StringCodec.UTF8), "key", "field", 42L);
+
+        assertThat(encode(command)).isEqualTo(encode(new Command<>(CommandType.HINCRBY, new IntegerOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key").addKey("field").add(42))));
+    }
+
+    @Test
+    void shouldEncodeKeywords() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.SET).key().value()
+                .keyword(CommandKeyword.EX).integer().keyword(CommandType.GET).build();
+
+        Command<String, String, String> command = template.create(new StatusOutput<>(StringCodec.UTF8), "key", "value", 10);
+
+        assertThat(encode(command))
+                .isEqualTo("*6\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n$2\r\n10\r\n$3\r\nGET\r\n");
+    }
+
+    @Test
+    void shouldEncodeFirstKeyWithoutMaterializingArgs() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.SET).key().value()
+                .build();
+
+        Command<String, String, String> command = template.create(new StatusOutput<>(StringCodec.UTF8), "key", "value");
+
+        assertThat(CommandArgsAccessor.encodeFirstKey(new CommandWrapper<>(command)))
+                .isEqualTo(StandardCharsets.UTF_8.encode("key"));
+        assertThat(command.args).isNull();
+    }
+
+    @Test
+    void shouldEncodeUsingByteArrayCodec() {
+
+        RedisCodec<byte[], byte[]> codec = ByteArrayCodec.INSTANCE;
+        CommandTemplate<byte[], byte[]> template = CommandTemplate.builder(codec, CommandType.GET).key().build();
+
+        Command<byte[], byte[], byte[]> command = template.create(new ValueOutput<>(codec), "key".getBytes());
+
+        assertThat(encode(command)).isEqualTo("*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n");
+    }
+
+    @Test
+    void shouldMaterializeArgs() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.SET).key().value()
+                .build();
+
+        Command<String, String, String> command = template.create(new StatusOutput<>(StringCodec.UTF8), "key", "value");
+
+        assertThat(command.getType()).isEqualTo(CommandType.SET);
+        assertThat(command.getArgs().toCommandString()).isEqualTo("key<key> value<value>");
+        assertThat(command.getArgs()).isSameAs(command.getArgs());
+        assertThat(command.getArgs().getFirstEncodedKey()).isEqualTo(StringCodec.UTF8.encodeKey("key"));
+    }
+
+    @Test
+    void estimateShouldCoverEncodedSize() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.HINCRBY).key().key()
+                .integer().build();
+
+        Command<String, String, Long> command = template.create(new IntegerOutput<>(StringCodec.UTF8), "key", "field",
+                Long.MAX_VALUE);
+
+        assertThat(AggregatingCommandEncoder.estimateSize(command)).isGreaterThanOrEqualTo(encode(command).length());
+    }
+
+    @Test
+    void shouldRejectArgumentCountMismatch() {
+
+        CommandTemplate<String, String> template = CommandTemplate.builder(StringCodec.UTF8, CommandType.GET).key().build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> template.create(null, "key", "value"));
+    }
+
+    private static String encode(RedisCommand<?, ?, ?> command) {
+
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            command.encode(buffer);
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
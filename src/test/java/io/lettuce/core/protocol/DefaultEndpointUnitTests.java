@@ -6,8 +6,12 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -33,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import io.lettuce.core.AutoBatchOptions;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
@@ -164,6 +169,156 @@ class DefaultEndpointUnitTests {
         verify(channel).writeAndFlush(command);
     }
 
+    @Test
+    void autoBatchShouldCoalesceWritesIntoSingleFlush() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoBatchOptions(AutoBatchOptions.enabled()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> second = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+        Command<String, String, String> third = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8));
+
+        sut.write(command);
+        sut.write(Arrays.asList(second, third));
+
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(3);
+        assertThat(tasks).hasSize(1);
+        verify(channel, never()).writeAndFlush(any());
+
+        tasks.get(0).run();
+
+        verify(channel).writeAndFlush(Arrays.asList(command, second, third));
+        assertThat(queue).containsExactly(command, second, third);
+    }
+
+    @Test
+    void autoBatchShouldFlushPerMaxBatchSize() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(
+                ClientOptions.builder().autoBatchOptions(AutoBatchOptions.builder().enable().maxBatchSize(2).build()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        for (int i = 0; i < 5; i++) {
+            sut.write(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        }
+
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        verify(channel, times(3)).writeAndFlush(any());
+        assertThat(queue).hasSize(5);
+    }
+
+    @Test
+    void autoBatchShouldApplyLinger() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(
+                ClientOptions.builder()
+                        .autoBatchOptions(AutoBatchOptions.builder().enable().linger(Duration.ofNanos(50_000)).build()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        sut.write(command);
+
+        verify(eventLoop).schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MICROSECONDS));
+        verify(eventLoop, never()).execute(any());
+    }
+
+    @Test
+    void autoBatchShouldBufferPendingCommandsOnDisconnect() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoBatchOptions(AutoBatchOptions.enabled()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> buffered = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+
+        sut.write(command);
+        when(channel.isActive()).thenReturn(false);
+        sut.notifyChannelInactive(channel);
+        sut.write(buffered);
+
+        tasks.forEach(Runnable::run);
+
+        verify(channel, never()).writeAndFlush(any());
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isZero();
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsExactly(command, buffered);
+    }
+
+    @Test
+    void autoBatchShouldNotWriteToDisconnectedChannel() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoBatchOptions(AutoBatchOptions.enabled()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        when(channel.isActive()).thenReturn(false);
+
+        tasks.get(0).run();
+
+        verify(channel, never()).writeAndFlush(any());
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isZero();
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsExactly(command);
+    }
+
+    @Test
+    void closeShouldCancelPendingAutoBatchCommands() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.close()).thenReturn(promise);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoBatchOptions(AutoBatchOptions.enabled()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        sut.closeAsync();
+
+        assertThat(command.isCancelled()).isTrue();
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isZero();
+    }
+
     @Test
     void writeDisconnectedShouldBufferCommands() {
 
@@ -24,8 +24,12 @@ import static io.lettuce.core.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -149,6 +153,70 @@ class RedisStateMachineResp2UnitTests {
         assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok"));
     }
 
+    @Test
+    void bulkShouldEmitChunksToPartialAwareOutput() {
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CommandOutput<String, String, Long> output = new ByteChannelOutput<>(codec, Channels.newChannel(stream));
+        ByteBuf buffer = Unpooled.buffer();
+
+        buffer.writeCharSequence("$11\r\nhello", charset);
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(stream.toString()).isEqualTo("hello");
+        assertThat(buffer.readableBytes()).isZero();
+
+        buffer.writeCharSequence(" worl", charset);
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(stream.toString()).isEqualTo("hello worl");
+
+        buffer.writeCharSequence("d\r", charset);
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeCharSequence("\n", charset);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(stream.toString()).isEqualTo("hello world");
+        assertThat(output.get()).isEqualTo(11L);
+        assertThat(buffer.readableBytes()).isZero();
+    }
+
+    @Test
+    void bulkShouldFlagLastChunk() {
+
+        List<String> chunks = new ArrayList<>();
+        CommandOutput<String, String, String> output = new StatusOutput<String, String>(codec) {
+
+            @Override
+            public void setPartial(ByteBuffer bytes, boolean last) {
+                chunks.add(charset.decode(bytes) + (last ? "|last" : ""));
+            }
+
+            @Override
+            public boolean isPartialAware() {
+                return true;
+            }
+
+        };
+
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeCharSequence("*3\r\n$2\r\nab\r\n$0\r\n\r\n$4\r\ncd", charset);
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeCharSequence("ef\r\n", charset);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(chunks).containsExactly("ab|last", "|last", "cd", "ef|last");
+    }
+
+    @Test
+    void nullBulkShouldNotEmitChunks() {
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CommandOutput<String, String, Long> output = new ByteChannelOutput<>(codec, Channels.newChannel(stream));
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+        assertThat(stream.size()).isZero();
+    }
+
     @Test
     void multiEmptyArray1() {
         CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<>(codec);
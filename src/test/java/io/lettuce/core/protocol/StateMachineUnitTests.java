@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -36,6 +37,7 @@ import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.junit.jupiter.api.*;
 
 import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.ByteBufCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.*;
@@ -134,6 +136,42 @@ class StateMachineUnitTests {
         assertThat(output.get()).isEqualTo("foo");
     }
 
+    @Test
+    void bulkAsByteBuf() {
+        CommandOutput<ByteBuf, ByteBuf, ByteBuf> output = new ValueOutput<>(ByteBufCodec.INSTANCE);
+        assertThat(output.isByteBufAware()).isTrue();
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+
+        ByteBuf buffer = buffer("$3\r\nfo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        buffer.writeCharSequence("o\r\n", StandardCharsets.UTF_8);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+
+        ByteBuf value = output.get();
+        assertThat(value.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+        assertThat(buffer.readableBytes()).isZero();
+
+        buffer.setByte(5, 'x');
+        assertThat(value.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+        value.release();
+    }
+
+    @Test
+    void multiAsByteBuf() {
+        CommandOutput<ByteBuf, ByteBuf, Map<ByteBuf, ByteBuf>> output = new MapOutput<>(ByteBufCodec.INSTANCE);
+        assertThat(rsm.decode(buffer("*4\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n$-1\r\n"), output)).isTrue();
+
+        assertThat(output.get()).hasSize(2).containsEntry(buffer("a"), buffer("b")).containsEntry(buffer("c"), null);
+        output.get().forEach((k, v) -> {
+            k.release();
+            if (v != null) {
+                v.release();
+            }
+        });
+    }
+
     @Test
     void multi() {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
@@ -0,0 +1,265 @@
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Tag;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for {@link StreamingArgument} written through {@link CommandEncoder}.
+ */
+@Tag(UNIT_TEST)
+class StreamingArgumentUnitTests {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new CommandEncoder(false));
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldStreamChannelPayload() throws IOException {
+
+        ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(channel("value"), 5)));
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(channel.pipeline().get("ChunkedWriteHandler")).isNotNull();
+        assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+    }
+
+    @Test
+    void shouldStreamPublisherPayload() throws IOException {
+
+        Flux<ByteBuffer> publisher = Flux.just("va", "l", "ue").map(StandardCharsets.US_ASCII::encode);
+
+        ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(publisher, 5)));
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+    }
+
+    @Test
+    void shouldResumeWhenPublisherEmits() throws IOException {
+
+        Sinks.Many<ByteBuffer> sink = Sinks.many().unicast().onBackpressureBuffer();
+
+        ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(sink.asFlux(), 5)));
+        assertThat(future.isDone()).isFalse();
+
+        sink.tryEmitNext(StandardCharsets.US_ASCII.encode("val"));
+        channel.runPendingTasks();
+        assertThat(future.isDone()).isFalse();
+
+        sink.tryEmitNext(StandardCharsets.US_ASCII.encode("ue"));
+        channel.runPendingTasks();
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+    }
+
+    @Test
+    void shouldResumeWhenChannelHasNoDataAvailable() throws IOException {
+
+        // only resume when advancing time explicitly
+        channel.freezeTime();
+
+        ReadableByteChannel source = channel("value");
+        AtomicInteger reads = new AtomicInteger();
+
+        // every other read returns no data, others return at most 3 bytes
+        ReadableByteChannel stalling = new ReadableByteChannel() {
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+
+                if (reads.incrementAndGet() % 2 == 1) {
+                    return 0;
+                }
+
+                ByteBuffer limited = dst.duplicate();
+                limited.limit(Math.min(dst.limit(), dst.position() + 3));
+
+                int read = source.read(limited);
+                dst.position(limited.position());
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return source.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                source.close();
+            }
+
+        };
+
+        ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(stalling, 5)));
+
+        assertThat(future.isDone()).isFalse();
+        assertThat(reads).hasValue(1);
+
+        channel.advanceTimeBy(1, TimeUnit.SECONDS);
+        channel.runPendingTasks();
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+    }
+
+    @Test
+    void shouldWriteFileRegion() throws IOException {
+
+        Path file = Files.createTempFile("lettuce", ".bin");
+        Files.write(file, "file-value".getBytes(StandardCharsets.US_ASCII));
+
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(fileChannel, 5, 5)));
+
+            assertThat(future.isSuccess()).isTrue();
+            assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldWriteOtherCommandsInOrder() throws IOException {
+
+        channel.write(command(StreamingArgument.from(channel("value"), 5)));
+        channel.writeAndFlush(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.ASCII)));
+
+        assertThat(readOutbound()).isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n*1\r\n$4\r\nPING\r\n");
+    }
+
+    @Test
+    void shouldCloseConnectionOnPrematureEndOfPayload() {
+
+        ChannelFuture future = channel.writeAndFlush(command(StreamingArgument.from(channel("val"), 5)));
+
+        assertThat(future.isSuccess()).isFalse();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    void shouldRejectConsumedArgument() {
+
+        Command<String, String, String> command = command(StreamingArgument.from(channel("value"), 5));
+
+        assertThat(channel.writeAndFlush(command).isSuccess()).isTrue();
+        channel.releaseOutbound();
+
+        ChannelFuture retry = channel.writeAndFlush(command);
+
+        assertThat(retry.isSuccess()).isFalse();
+        assertThat(retry.cause()).hasMessageContaining("already written");
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    void shouldRejectOnlyConsumedCommandOfBatch() throws IOException {
+
+        Command<String, String, String> consumed = command(StreamingArgument.from(channel("value"), 5));
+
+        assertThat(channel.writeAndFlush(consumed).isSuccess()).isTrue();
+        channel.releaseOutbound();
+
+        Command<String, String, String> ping = new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.ASCII));
+        ChannelFuture future = channel.writeAndFlush(Arrays.asList(consumed, ping));
+
+        assertThat(future.isSuccess()).isTrue();
+        assertThat(consumed.isDone()).isTrue();
+        assertThat(consumed.getOutput().getError()).contains("already written");
+        assertThat(ping.isDone()).isFalse();
+        assertThat(readOutbound()).isEqualTo("*1\r\n$4\r\nPING\r\n");
+    }
+
+    @Test
+    void toStringShouldNotConsumePayload() {
+
+        StreamingArgument argument = StreamingArgument.from(channel("value"), 5);
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.ASCII).add(argument);
+
+        assertThat(args.toString()).contains("$5");
+        assertThat(argument.isConsumed()).isFalse();
+    }
+
+    @Test
+    void encodeShouldCopyPayload() {
+
+        Command<String, String, String> command = command(StreamingArgument.from(channel("value"), 5));
+        ByteBuf buffer = channel.alloc().buffer();
+
+        command.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII))
+                .isEqualTo("*4\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nEX\r\n");
+        buffer.release();
+    }
+
+    private String readOutbound() throws IOException {
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        WritableByteChannel target = Channels.newChannel(result);
+
+        Object message;
+        while ((message = channel.readOutbound()) != null) {
+
+            if (message instanceof FileRegion) {
+                FileRegion region = (FileRegion) message;
+                while (region.transferred() < region.count()) {
+                    region.transferTo(target, region.transferred());
+                }
+                region.release();
+            } else {
+                ByteBuf buffer = (ByteBuf) message;
+                buffer.readBytes(result, buffer.readableBytes());
+                buffer.release();
+            }
+        }
+
+        return new String(result.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static Command<String, String, String> command(StreamingArgument argument) {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.ASCII).addKey("key").add(argument)
+                .add(CommandKeyword.valueOf("EX"));
+        return new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.ASCII), args);
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.lettuce.core.pubsub;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.pubsub.ExecutorPubSubListener.OverflowPolicy;
+import io.lettuce.core.pubsub.IndexedPubSubListenerUnitTests.RecordingListener;
+
+/**
+ * Unit tests for {@link ExecutorPubSubListener}.
+ */
+@Tag(UNIT_TEST)
+class ExecutorPubSubListenerUnitTests {
+
+    private final ManualExecutor executor = new ManualExecutor();
+
+    private final RecordingListener delegate = new RecordingListener();
+
+    @Test
+    void shouldDeliverOnExecutor() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(executor).build();
+
+        sut.subscribed("orders", 1);
+        sut.message("orders", "o1");
+
+        assertThat(delegate.events).isEmpty();
+        assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+
+        assertThat(delegate.events).containsExactly("subscribed:orders", "message:orders:o1");
+        assertThat(sut.retrieveMetrics().getDeliveredCount()).isEqualTo(2);
+        assertThat(sut.retrieveMetrics().getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldScheduleChannelsIndependently() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(executor).build();
+
+        sut.message("orders", "o1");
+        sut.message("prices", "p1");
+        sut.message("orders", "o2");
+
+        assertThat(executor.tasks).hasSize(2);
+
+        executor.runAll();
+
+        assertThat(delegate.events).containsExactly("message:orders:o1", "message:orders:o2", "message:prices:p1");
+    }
+
+    @Test
+    void shouldDropOldest() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(executor)
+                .queueCapacity(2).overflowPolicy(OverflowPolicy.DROP_OLDEST).build();
+
+        sut.message("orders", "o1");
+        sut.message("orders", "o2");
+        sut.message("orders", "o3");
+
+        executor.runAll();
+
+        assertThat(delegate.events).containsExactly("message:orders:o2", "message:orders:o3");
+        assertThat(sut.retrieveMetrics().getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropLatest() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(executor)
+                .queueCapacity(2).overflowPolicy(OverflowPolicy.DROP_LATEST).build();
+
+        sut.message("orders", "o1");
+        sut.message("orders", "o2");
+        sut.message("orders", "o3");
+
+        executor.runAll();
+
+        assertThat(delegate.events).containsExactly("message:orders:o1", "message:orders:o2");
+        assertThat(sut.retrieveMetrics().getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBlockUntilDelivered() throws Exception {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(Runnable::run)
+                .queueCapacity(1).overflowPolicy(OverflowPolicy.BLOCK).build();
+
+        for (int i = 0; i < 10; i++) {
+            sut.message("orders", "o" + i);
+        }
+
+        assertThat(delegate.events).hasSize(10);
+        assertThat(sut.retrieveMetrics().getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldContinueAfterUnsubscribe() {
+
+        ExecutorPubSubListener<String, String> sut = ExecutorPubSubListener.builder(delegate).executor(executor).build();
+
+        sut.unsubscribed("orders", 0);
+        executor.runAll();
+
+        sut.message("orders", "o1");
+        executor.runAll();
+
+        assertThat(delegate.events).containsExactly("unsubscribed:orders", "message:orders:o1");
+    }
+
+    static class ManualExecutor implements Executor {
+
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+    }
+
+}
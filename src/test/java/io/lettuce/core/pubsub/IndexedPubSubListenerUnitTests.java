@@ -0,0 +1,140 @@
+package io.lettuce.core.pubsub;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IndexedPubSubListener}.
+ */
+@Tag(UNIT_TEST)
+class IndexedPubSubListenerUnitTests {
+
+    @Test
+    void shouldDispatchByChannel() {
+
+        IndexedPubSubListener<String, String> sut = new IndexedPubSubListener<>();
+        RecordingListener orders = new RecordingListener();
+        RecordingListener prices = new RecordingListener();
+
+        sut.addChannelListener("orders", orders);
+        sut.addChannelListener("prices", prices);
+
+        sut.subscribed("orders", 1);
+        sut.message("orders", "o1");
+        sut.smessage("prices", "p1");
+        sut.message("other", "x");
+
+        assertThat(orders.events).containsExactly("subscribed:orders", "message:orders:o1");
+        assertThat(prices.events).containsExactly("smessage:prices:p1");
+    }
+
+    @Test
+    void shouldDispatchByPattern() {
+
+        IndexedPubSubListener<String, String> sut = new IndexedPubSubListener<>();
+        RecordingListener listener = new RecordingListener();
+
+        sut.addPatternListener("prices.*", listener);
+
+        sut.message("prices.*", "prices.eu", "1");
+        sut.message("prices.eu", "2");
+        sut.message("orders.*", "orders.eu", "3");
+
+        assertThat(listener.events).containsExactly("pmessage:prices.*:prices.eu:1");
+    }
+
+    @Test
+    void shouldDispatchBinaryChannelsByContent() {
+
+        IndexedPubSubListener<byte[], byte[]> sut = new IndexedPubSubListener<>();
+        List<byte[]> messages = new ArrayList<>();
+
+        sut.addChannelListener("orders".getBytes(), new RedisPubSubAdapter<byte[], byte[]>() {
+
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                messages.add(message);
+            }
+
+        });
+
+        sut.message("orders".getBytes(), "o1".getBytes());
+
+        assertThat(messages).hasSize(1);
+    }
+
+    @Test
+    void shouldRemoveListeners() {
+
+        IndexedPubSubListener<String, String> sut = new IndexedPubSubListener<>();
+        RecordingListener listener = new RecordingListener();
+
+        sut.addChannelListener("orders", listener);
+        assertThat(sut.hasChannelListeners("orders")).isTrue();
+
+        sut.removeChannelListener("orders", listener);
+        sut.message("orders", "o1");
+
+        assertThat(sut.hasChannelListeners("orders")).isFalse();
+        assertThat(listener.events).isEmpty();
+    }
+
+    @Test
+    void shouldIsolateFailingListeners() {
+
+        IndexedPubSubListener<String, String> sut = new IndexedPubSubListener<>();
+        RecordingListener listener = new RecordingListener();
+
+        sut.addChannelListener("orders", new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String channel, String message) {
+                throw new IllegalStateException();
+            }
+
+        });
+        sut.addChannelListener("orders", listener);
+
+        sut.message("orders", "o1");
+
+        assertThat(listener.events).containsExactly("message:orders:o1");
+    }
+
+    static class RecordingListener extends RedisPubSubAdapter<String, String> {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void message(String channel, String message) {
+            events.add("message:" + channel + ":" + message);
+        }
+
+        @Override
+        public void message(String pattern, String channel, String message) {
+            events.add("pmessage:" + pattern + ":" + channel + ":" + message);
+        }
+
+        @Override
+        public void subscribed(String channel, long count) {
+            events.add("subscribed:" + channel);
+        }
+
+        @Override
+        public void unsubscribed(String channel, long count) {
+            events.add("unsubscribed:" + channel);
+        }
+
+        @Override
+        public void smessage(String shardChannel, String message) {
+            events.add("smessage:" + shardChannel + ":" + message);
+        }
+
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Queue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -23,6 +25,7 @@ import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
 import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueListOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
@@ -159,6 +162,49 @@ class PubSubCommandHandlerUnitTests {
         verify(endpoint).notifyMessage(any());
     }
 
+    @Test
+    void shouldPauseReadingWithoutDemand() throws Exception {
+
+        when(endpoint.hasDemand(any())).thenReturn(false);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.channelRead(context, responseBytes("*3\r\n$7\r\nmessage\r\n$3\r\nfoo\r\n$3\r\nbar\r\n"));
+
+        verify(endpoint).notifyMessage(any());
+        verify(channelConfig).setAutoRead(false);
+    }
+
+    @Test
+    void shouldResumeReadingIfDemandArrivedWhilePausing() throws Exception {
+
+        when(endpoint.hasDemand(any())).thenReturn(false, true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.channelRead(context, responseBytes("*3\r\n$7\r\nmessage\r\n$3\r\nfoo\r\n$3\r\nbar\r\n"));
+
+        InOrder inOrder = inOrder(channelConfig);
+        inOrder.verify(channelConfig).setAutoRead(false);
+        inOrder.verify(channelConfig).setAutoRead(true);
+    }
+
+    @Test
+    void shouldContinueReadingWithDemand() throws Exception {
+
+        when(endpoint.hasDemand(any())).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.channelRead(context, responseBytes("*3\r\n$7\r\nmessage\r\n$3\r\nfoo\r\n$3\r\nbar\r\n"));
+
+        verify(endpoint).notifyMessage(any());
+        verify(channelConfig, never()).setAutoRead(false);
+    }
+
     @Test
     void shouldPropagateInterleavedPubSubResponseToOutput() throws Exception {
 
@@ -186,6 +232,44 @@ class PubSubCommandHandlerUnitTests {
         assertThat(captor.getValue().get()).isEqualTo("bar");
     }
 
+    @Test
+    void shouldPropagateInterleavedShardedPubSubResponseToOutput() throws Exception {
+
+        Command<String, String, String> command1 = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8),
+                null);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        stack.add(command1);
+
+        sut.channelRead(context, responseBytes("*3\r\n$8\r\nsmessage\r\n$3\r\nfoo\r\n$3\r\nbar\r\n+OK\r\n"));
+
+        assertThat(command1.get()).isEqualTo("OK");
+
+        ArgumentCaptor<PubSubOutput> captor = ArgumentCaptor.forClass(PubSubOutput.class);
+        verify(endpoint).notifyMessage(captor.capture());
+
+        assertThat(captor.getValue().type()).isEqualTo(PubSubOutput.Type.smessage);
+        assertThat(captor.getValue().channel()).isEqualTo("foo");
+        assertThat(captor.getValue().get()).isEqualTo("bar");
+    }
+
+    @Test
+    void shouldDecodeArrayResponseResemblingPubSubMessageHeader() throws Exception {
+
+        Command<String, String, List<String>> command1 = new Command<>(CommandType.LRANGE,
+                new ValueListOutput<>(StringCodec.UTF8), null);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        stack.add(command1);
+
+        sut.channelRead(context, responseBytes("*3\r\n$4\r\nmess\r\n$3\r\nfoo\r\n$3\r\nbar\r\n"));
+
+        assertThat(command1.get()).containsExactly("mess", "foo", "bar");
+        verify(endpoint, never()).notifyMessage(any());
+    }
+
     @Test
     void shouldNotPropagatePartialPubSubResponseToOutput() throws Exception {
 
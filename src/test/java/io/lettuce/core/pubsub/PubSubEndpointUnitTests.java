@@ -14,6 +14,7 @@ import io.lettuce.core.ClientOptions;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.DemandAware;
 import io.lettuce.test.resource.TestClientResources;
 
 /**
@@ -107,6 +108,52 @@ class PubSubEndpointUnitTests {
         assertThat(notified).hasValue(1);
     }
 
+    @Test
+    void shouldReportDemandOfDemandAwareListeners() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+        DemandAwareListener listener = new DemandAwareListener();
+        DemandAware.Source source = () -> {
+        };
+
+        assertThat(sut.hasDemand(source)).isTrue();
+
+        sut.addListener(listener);
+        assertThat(sut.hasDemand(source)).isFalse();
+        assertThat(listener.source).isSameAs(source);
+
+        listener.demand = true;
+        assertThat(sut.hasDemand(source)).isTrue();
+
+        listener.demand = false;
+        sut.removeListener(listener);
+        assertThat(sut.hasDemand(source)).isTrue();
+        assertThat(listener.source).isNull();
+    }
+
+    static class DemandAwareListener extends RedisPubSubAdapter<String, String> implements DemandAware.Sink {
+
+        volatile boolean demand;
+
+        volatile DemandAware.Source source;
+
+        @Override
+        public boolean hasDemand() {
+            return demand;
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        @Override
+        public void removeSource() {
+            this.source = null;
+        }
+
+    }
+
     private static <K, V> PubSubOutput<K, V> createMessage(String action, String channel, RedisCodec<K, V> codec) {
 
         PubSubOutput<K, V> output = new PubSubOutput<>(codec);
@@ -0,0 +1,177 @@
+package io.lettuce.core.support.caching;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link AsyncClientSideCaching}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AsyncClientSideCachingUnitTests {
+
+    @Mock
+    StatefulRedisConnection<String, String> connection;
+
+    private final Map<String, String> clientCache = new HashMap<>();
+
+    private final List<List<RedisCommand<String, String, ?>>> dispatched = new ArrayList<>();
+
+    private AsyncClientSideCaching<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.dispatch(anyCollection())).thenAnswer(invocation -> {
+            Collection<RedisCommand<String, String, ?>> commands = invocation.getArgument(0);
+            dispatched.add(new ArrayList<>(commands));
+            return commands;
+        });
+
+        sut = AsyncClientSideCaching.create(CacheAccessor.forMap(clientCache), connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void shouldPipelineClientCachingWithGet() {
+
+        sut.get("key");
+
+        assertThat(dispatched).hasSize(1);
+        assertThat(dispatched.get(0)).extracting(RedisCommand::getType).containsExactly(CommandType.CLIENT, CommandType.GET);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() {
+
+        CompletableFuture<String> first = sut.get("key").toCompletableFuture();
+        CompletableFuture<String> second = sut.get("key").toCompletableFuture();
+
+        assertThat(dispatched).hasSize(1);
+
+        completeCaching(dispatched.get(0).get(0));
+        completeBulk(dispatched.get(0).get(1), "value");
+
+        assertThat(first).isCompletedWithValue("value");
+        assertThat(second).isCompletedWithValue("value");
+        assertThat(clientCache).containsEntry("key", "value");
+
+        sut.get("key");
+        assertThat(dispatched).hasSize(1);
+    }
+
+    @Test
+    void shouldNotCacheUntrackedValues() {
+
+        CompletableFuture<String> future = sut.get("key").toCompletableFuture();
+
+        dispatched.get(0).get(0).completeExceptionally(new RedisCommandExecutionException("ERR tracking not enabled"));
+        completeBulk(dispatched.get(0).get(1), "value");
+
+        assertThat(future).isCompletedWithValue("value");
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void shouldFetchMissingKeysUsingSingleMget() {
+
+        clientCache.put("cached", "c");
+
+        CompletableFuture<Map<String, String>> future = sut.getAll(Arrays.asList("cached", "k1", "k2", "k1"))
+                .toCompletableFuture();
+
+        assertThat(dispatched).hasSize(1);
+        RedisCommand<String, String, ?> mget = dispatched.get(0).get(1);
+        assertThat(mget.getType()).isEqualTo(CommandType.MGET);
+
+        completeCaching(dispatched.get(0).get(0));
+        mget.getOutput().multi(2);
+        mget.getOutput().set(ByteBuffer.wrap("v1".getBytes(StandardCharsets.UTF_8)));
+        mget.getOutput().set(null);
+        mget.complete();
+
+        assertThat(future.join()).containsEntry("cached", "c").containsEntry("k1", "v1").doesNotContainKey("k2");
+        assertThat(clientCache).containsEntry("k1", "v1").doesNotContainKey("k2");
+    }
+
+    @Test
+    void shouldStoreLoadedValueAndRegisterInterestInOneWrite() {
+
+        CompletableFuture<String> future = sut.get("key", () -> CompletableFuture.completedFuture("loaded"))
+                .toCompletableFuture();
+
+        completeCaching(dispatched.get(0).get(0));
+        completeBulk(dispatched.get(0).get(1), null);
+
+        assertThat(dispatched).hasSize(2);
+        List<RedisCommand<String, String, ?>> store = dispatched.get(1);
+        assertThat(store).extracting(RedisCommand::getType).containsExactly(CommandType.SET, CommandType.CLIENT,
+                CommandType.GET);
+
+        completeCaching(store.get(0));
+        completeCaching(store.get(1));
+        completeBulk(store.get(2), "loaded");
+
+        assertThat(future).isCompletedWithValue("loaded");
+        assertThat(clientCache).containsEntry("key", "loaded");
+    }
+
+    @Test
+    void shouldEvictInvalidatedKeys() {
+
+        ArgumentCaptor<PushListener> captor = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(captor.capture());
+
+        clientCache.put("key", "value");
+
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", Collections.singletonList("key")));
+
+        captor.getValue().onPushMessage(message);
+
+        assertThat(clientCache).isEmpty();
+    }
+
+    private static void completeCaching(RedisCommand<String, String, ?> command) {
+        command.getOutput().set(ByteBuffer.wrap("OK".getBytes(StandardCharsets.UTF_8)));
+        command.complete();
+    }
+
+    private static void completeBulk(RedisCommand<String, String, ?> command, String value) {
+        command.getOutput().set(value == null ? null : ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+        command.complete();
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.lettuce.core.support.caching;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link BoundedCacheAccessor}.
+ */
+@Tag(UNIT_TEST)
+class BoundedCacheAccessorUnitTests {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.<String, String> builder().maximumWeight(3)
+                .concurrencyLevel(1).build();
+
+        sut.put("a", "1");
+        sut.put("b", "2");
+        sut.put("c", "3");
+        sut.put("d", "4");
+
+        assertThat(sut.get("a")).isNull();
+        assertThat(sut.get("b")).isEqualTo("2");
+        assertThat(sut.get("d")).isEqualTo("4");
+        assertThat(sut.retrieveMetrics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProtectFrequentlyUsedEntriesFromScans() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.<String, String> builder().maximumWeight(5)
+                .concurrencyLevel(1).build();
+
+        sut.put("hot", "value");
+        sut.get("hot");
+
+        for (int i = 0; i < 100; i++) {
+            sut.put("scan-" + i, "value");
+        }
+
+        assertThat(sut.get("hot")).isEqualTo("value");
+        assertThat(sut.retrieveMetrics().getEntryCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldWeighByEncodedSize() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.builder(StringCodec.UTF8).maximumWeight(10)
+                .concurrencyLevel(1).build();
+
+        sut.put("k1", "123");
+        sut.put("k2", "456");
+
+        assertThat(sut.retrieveMetrics().getWeight()).isEqualTo(10);
+
+        sut.put("k3", "7");
+
+        assertThat(sut.get("k1")).isNull();
+        assertThat(sut.retrieveMetrics().getWeight()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldRejectEntriesExceedingMaximumWeight() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.builder(StringCodec.UTF8).maximumWeight(4)
+                .concurrencyLevel(1).build();
+
+        sut.put("key", "too-large");
+
+        assertThat(sut.get("key")).isNull();
+        assertThat(sut.retrieveMetrics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTimeToLive() {
+
+        AtomicLong time = new AtomicLong();
+        BoundedCacheAccessor<String, String> sut = new BoundedCacheAccessor<>(10, 1, null, Duration.ofNanos(100), time::get);
+
+        sut.put("key", "value");
+        time.set(99);
+        assertThat(sut.get("key")).isEqualTo("value");
+
+        time.set(100);
+        assertThat(sut.get("key")).isNull();
+
+        CacheMetrics metrics = sut.retrieveMetrics();
+        assertThat(metrics.getExpirationCount()).isEqualTo(1);
+        assertThat(metrics.getEntryCount()).isZero();
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.<String, String> builder().build();
+
+        sut.put("key", "value");
+        sut.get("key");
+        sut.get("absent");
+        sut.evict("key");
+        sut.get("key");
+
+        CacheMetrics metrics = sut.retrieveMetrics();
+        assertThat(metrics.getHitCount()).isEqualTo(1);
+        assertThat(metrics.getMissCount()).isEqualTo(2);
+        assertThat(metrics.getHitRate()).isEqualTo(1.0 / 3);
+
+        sut.shutdown();
+        sut.get("key");
+        assertThat(sut.retrieveMetrics().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void clearShouldRemoveAllEntries() {
+
+        BoundedCacheAccessor<String, String> sut = BoundedCacheAccessor.<String, String> builder().build();
+
+        sut.put("a", "1");
+        sut.put("b", "2");
+        sut.clear();
+
+        assertThat(sut.get("a")).isNull();
+        assertThat(sut.retrieveMetrics().getWeight()).isZero();
+    }
+
+}
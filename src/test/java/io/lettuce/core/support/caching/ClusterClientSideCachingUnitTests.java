@@ -0,0 +1,227 @@
+package io.lettuce.core.support.caching;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.PipelinedRedisFuture;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.push.RedisClusterPushListener;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link ClusterClientSideCaching}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterClientSideCachingUnitTests {
+
+    @Mock
+    StatefulRedisClusterConnection<String, String> connection;
+
+    @Mock
+    StatefulRedisConnection<String, String> nodeConnection;
+
+    @Mock
+    RedisCommands<String, String> nodeCommands;
+
+    @Mock
+    RedisAsyncCommands<String, String> nodeAsyncCommands;
+
+    @Mock
+    ClientResources clientResources;
+
+    @Mock
+    EventBus eventBus;
+
+    private final Map<String, String> clientCache = new HashMap<>();
+
+    private final Partitions partitions = new Partitions();
+
+    private RedisClusterNode node1;
+
+    private RedisClusterNode node2;
+
+    private ClusterClientSideCaching<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        node1 = upstream("1", IntStream.range(0, 8192));
+        node2 = upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT));
+        partitions.add(node1);
+        partitions.add(node2);
+
+        when(connection.getPartitions()).thenReturn(partitions);
+        when(connection.getResources()).thenReturn(clientResources);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+        when(eventBus.get()).thenReturn(Flux.never());
+        when(connection.getConnectionAsync(anyString())).thenReturn(CompletableFuture.completedFuture(nodeConnection));
+        when(nodeConnection.sync()).thenReturn(nodeCommands);
+        when(nodeConnection.async()).thenReturn(nodeAsyncCommands);
+        when(nodeAsyncCommands.clientTracking(any())).thenReturn(completed("OK"));
+        when(nodeCommands.get("key")).thenReturn("value");
+
+        sut = ClusterClientSideCaching.create(CacheAccessor.forMap(clientCache), connection, StringCodec.UTF8,
+                TrackingArgs.Builder.enabled());
+    }
+
+    @Test
+    void shouldEnableTrackingOnSlotOwnerOnce() {
+
+        assertThat(sut.get("key")).isEqualTo("value");
+        clientCache.clear();
+        assertThat(sut.get("key")).isEqualTo("value");
+
+        verify(connection, times(1)).getConnectionAsync("2");
+        verify(nodeAsyncCommands, times(1)).clientTracking(any());
+        verify(nodeCommands, times(2)).get("key");
+    }
+
+    @Test
+    void shouldRetryTrackingAfterFailure() {
+
+        PipelinedRedisFuture<String> failed = new PipelinedRedisFuture<>(new CompletableFuture<>());
+        failed.completeExceptionally(new RedisException("failed"));
+        when(nodeAsyncCommands.clientTracking(any())).thenReturn(failed, completed("OK"));
+
+        assertThatThrownBy(() -> sut.get("key")).isInstanceOf(RedisException.class);
+        assertThat(sut.get("key")).isEqualTo("value");
+
+        verify(connection, times(2)).getConnectionAsync("2");
+        verify(nodeAsyncCommands, times(2)).clientTracking(any());
+    }
+
+    @Test
+    void shouldServeFromClientCache() {
+
+        sut.get("key");
+        sut.get("key");
+
+        assertThat(clientCache).containsEntry("key", "value");
+        verify(nodeCommands, times(1)).get("key");
+    }
+
+    @Test
+    void shouldEvictInvalidatedKeys() {
+
+        sut.get("key");
+        sut.onPushMessage(node2, invalidate(Collections.singletonList("key")));
+
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void shouldFlushSlotsOfNodeOnInvalidateAll() {
+
+        sut.get("key");
+        clientCache.put("other", "value");
+
+        sut.onPushMessage(node1, invalidate(null));
+        assertThat(clientCache).containsKey("key");
+
+        sut.onPushMessage(node2, invalidate(null));
+        assertThat(clientCache).doesNotContainKey("key").containsKey("other");
+    }
+
+    @Test
+    void shouldFlushMovedSlotsOnTopologyChange() {
+
+        sut.get("key");
+
+        List<RedisClusterNode> unchanged = new ArrayList<>(partitions);
+        sut.onTopologyChanged(unchanged);
+        assertThat(clientCache).containsKey("key");
+
+        int slot = SlotHash.getSlot("key");
+        RedisClusterNode moved = upstream("1", IntStream.concat(IntStream.range(0, 8192), IntStream.of(slot)));
+        RedisClusterNode remaining = upstream("2", IntStream.range(8192, SlotHash.SLOT_COUNT).filter(it -> it != slot));
+
+        sut.onTopologyChanged(Arrays.asList(moved, remaining));
+        assertThat(clientCache).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreTopologyChangesOfOtherClusters() {
+
+        Sinks.Many<Event> events = Sinks.many().multicast().directBestEffort();
+        when(eventBus.get()).thenReturn(events.asFlux());
+
+        sut = ClusterClientSideCaching.create(CacheAccessor.forMap(clientCache), connection, StringCodec.UTF8,
+                TrackingArgs.Builder.enabled());
+        sut.get("key");
+
+        List<RedisClusterNode> foreign = Arrays.asList(upstream("a", IntStream.range(0, 8192)),
+                upstream("b", IntStream.range(8192, SlotHash.SLOT_COUNT)));
+        events.tryEmitNext(new ClusterTopologyChangedEvent(foreign, foreign));
+
+        assertThat(clientCache).containsKey("key");
+        assertThat(sut.get("key")).isEqualTo("value");
+        verify(connection, times(1)).getConnectionAsync("2");
+        verify(nodeCommands, times(1)).get("key");
+    }
+
+    @Test
+    void closeShouldReleaseResources() {
+
+        sut.close();
+
+        verify(connection).removeListener(any(RedisClusterPushListener.class));
+        verify(connection).close();
+    }
+
+    private static RedisClusterNode upstream(String nodeId, IntStream slots) {
+        return new RedisClusterNode(RedisURI.create("localhost", 6379), nodeId, true, null, 0, 0, 0,
+                slots.boxed().collect(Collectors.toList()), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM));
+    }
+
+    private static <T> PipelinedRedisFuture<T> completed(T value) {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(value));
+    }
+
+    private static PushMessage invalidate(List<String> keys) {
+
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", keys));
+        return message;
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.lettuce.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for {@link ConcurrentLruCache} comparing uncontended and contended cache hits as well as a mixed hit/miss
+ * workload that requires eviction.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentLruCacheBenchmark {
+
+    @Param({ "32", "1024" })
+    int keySpace;
+
+    private ConcurrentLruCache<String, Integer> cache;
+
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        cache = new ConcurrentLruCache<>(keySpace, String::length);
+        keys = new String[keySpace * 2];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+
+        for (int i = 0; i < keySpace; i++) {
+            cache.get(keys[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer hitUncontended() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keySpace)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer hitContended() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keySpace)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer mixedContended() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+
+}
@@ -69,6 +69,11 @@ public class ClusterDistributionChannelWriterBenchmark {
     private static final List<Command<byte[], byte[], byte[]>> COMMANDS = Arrays.asList(KEYED_COMMAND1, KEYED_COMMAND2,
             KEYED_COMMAND3);
 
+    private static final List<Command<byte[], byte[], byte[]>> BATCH = IntStream.range(0, 1000)
+            .mapToObj(i -> new Command<>(CommandType.GET, VALUE_OUTPUT,
+                    new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(("benchmark" + i).getBytes())))
+            .collect(Collectors.toList());
+
     private ClusterDistributionChannelWriter writer;
 
     @Setup
@@ -115,6 +120,11 @@ public class ClusterDistributionChannelWriterBenchmark {
         writer.write(COMMANDS);
     }
 
+    @Benchmark
+    public void write1000KeyedCommandsAsBatch() {
+        writer.write(BATCH);
+    }
+
     @Benchmark
     public void writePlainCommand() {
         writer.write(PLAIN_COMMAND);
@@ -1,12 +1,17 @@
 package io.lettuce.core.cluster;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import io.lettuce.core.codec.StringCodec;
+
 /**
  * @author Mark Paluch
  */
@@ -21,6 +26,20 @@ public class SlotHashBenchmark {
     private static final ByteBuffer heapTagged = (ByteBuffer) ByteBuffer.allocate(tagged.length).put(tagged).flip();
     private static final ByteBuffer directTagged = (ByteBuffer) ByteBuffer.allocateDirect(tagged.length).put(tagged).flip();
 
+    private static final byte[] longKey = "user:session:0123456789abcdef0123456789abcdef:profile".getBytes();
+
+    private static final List<String> keys = IntStream.range(0, 1000).mapToObj(i -> "key:" + i).collect(Collectors.toList());
+
+    @Benchmark
+    public void measureSlotHashLongKey(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(longKey));
+    }
+
+    @Benchmark
+    public void measureSlotHashBatch(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlots(StringCodec.UTF8, keys));
+    }
+
     @Benchmark
     public void measureSlotHashHeap(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(heap));
@@ -0,0 +1,56 @@
+package io.lettuce.core.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.lettuce.core.EmptyStatefulRedisConnection;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+/**
+ * Benchmark for the routing hot path from a key to the node {@link io.lettuce.core.RedisChannelWriter} using
+ * {@link SlotRoutingTable}.
+ */
+@State(Scope.Benchmark)
+public class SlotRoutingBenchmark {
+
+    private static final ByteBuffer KEY = (ByteBuffer) ByteBuffer.allocate(17).put("this is my buffer".getBytes()).flip();
+
+    private final SlotRoutingTable<Object, Object> routingTable = new SlotRoutingTable<>();
+
+    private volatile SlotRoutingTable<Object, Object> volatileRoutingTable;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        CompletableFuture<StatefulRedisConnection<Object, Object>> connection = CompletableFuture
+                .completedFuture(EmptyStatefulRedisConnection.INSTANCE);
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+            routingTable.setWriter(slot, connection);
+        }
+
+        volatileRoutingTable = routingTable;
+    }
+
+    @Benchmark
+    public void measureLookupWriter(Blackhole blackhole) {
+        blackhole.consume(volatileRoutingTable.getWriter(SlotHash.getSlot(KEY)));
+    }
+
+    @Benchmark
+    public void measureRouteToChannelWriter(Blackhole blackhole) {
+
+        CompletableFuture<StatefulRedisConnection<Object, Object>> writer = volatileRoutingTable
+                .getWriter(SlotHash.getSlot(KEY));
+        blackhole.consume(((RedisChannelHandler<?, ?>) writer.join()).getChannelWriter());
+    }
+
+}
@@ -10,6 +10,8 @@ import org.openjdk.jmh.infra.Blackhole;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.output.ValueOutput;
 
 /**
@@ -17,6 +19,8 @@ import io.lettuce.core.output.ValueOutput;
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Create and encode commands using {@link CommandArgs} and {@link CommandTemplate}. Run with {@code -prof gc} to compare
+ * the allocation per operation.</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -32,6 +36,11 @@ public class CommandBenchmark {
     private static final String KEY = "key";
     private static final byte[] BYTE_KEY = "key".getBytes();
 
+    private static final CommandTemplate<String, String> SET_TEMPLATE = CommandTemplate
+            .builder(NEW_STRING_CODEC, CommandType.SET).key().value().build();
+    private static final CommandTemplate<String, String> HINCRBY_TEMPLATE = CommandTemplate
+            .builder(NEW_STRING_CODEC, CommandType.HINCRBY).key().key().integer().build();
+
     @Benchmark
     public void createCommandUsingByteArrayCodec(Blackhole blackhole) {
         blackhole.consume(createCommand(BYTE_KEY, BYTE_ARRAY_CODEC));
@@ -62,6 +71,28 @@ public class CommandBenchmark {
         createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void encodeSetUsingCommandArgs() {
+        new Command<>(CommandType.SET, new StatusOutput<>(NEW_STRING_CODEC),
+                new CommandArgs<>(NEW_STRING_CODEC).addKey(KEY).addValue(KEY)).encode(DUMMY_BYTE_BUF);
+    }
+
+    @Benchmark
+    public void encodeSetUsingTemplate() {
+        SET_TEMPLATE.create(new StatusOutput<>(NEW_STRING_CODEC), KEY, KEY).encode(DUMMY_BYTE_BUF);
+    }
+
+    @Benchmark
+    public void encodeHincrbyUsingCommandArgs() {
+        new Command<>(CommandType.HINCRBY, new IntegerOutput<>(NEW_STRING_CODEC),
+                new CommandArgs<>(NEW_STRING_CODEC).addKey(KEY).addKey(KEY).add(1024)).encode(DUMMY_BYTE_BUF);
+    }
+
+    @Benchmark
+    public void encodeHincrbyUsingTemplate() {
+        HINCRBY_TEMPLATE.create(new IntegerOutput<>(NEW_STRING_CODEC), KEY, KEY, 1024L).encode(DUMMY_BYTE_BUF);
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
@@ -19,9 +19,12 @@
  */
 package io.lettuce.core.protocol;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -40,6 +43,7 @@ import io.netty.buffer.ByteBuf;
  * <li>user command writes</li>
  * <li>netty (in-eventloop) writes</li>
  * <li>netty (in-eventloop) reads</li>
+ * <li>command stack completion, cancellation and timeout expiry with and without an indexed stack</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -49,26 +53,32 @@ import io.netty.buffer.ByteBuf;
 public class CommandHandlerBenchmark {
 
     private static final ByteArrayCodec CODEC = new ByteArrayCodec();
-    private static final ClientOptions CLIENT_OPTIONS = ClientOptions.create();
     private static final EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
     private static final byte[] KEY = "key".getBytes();
     private static final String VALUE = "value\r\n";
     private final EmptyPromise PROMISE = new EmptyPromise();
 
+    @Param({ "true", "false" })
+    private boolean useIndexedQueue;
+
     private CommandHandler commandHandler;
     private ByteBuf reply1;
     private ByteBuf reply10;
     private ByteBuf reply100;
+    private ByteBuf reply500;
     private ByteBuf reply1000;
     private List<Command> commands1;
     private List<Command> commands10;
     private List<Command> commands100;
     private List<Command> commands1000;
+    private List<Command> shuffledCommands1000;
 
     @Setup
     public void setup() throws Exception {
 
-        commandHandler = new CommandHandler(CLIENT_OPTIONS, EmptyClientResources.INSTANCE, new DefaultEndpoint(CLIENT_OPTIONS,
+        ClientOptions clientOptions = ClientOptions.builder().useHashIndexQueue(useIndexedQueue).build();
+
+        commandHandler = new CommandHandler(clientOptions, EmptyClientResources.INSTANCE, new DefaultEndpoint(clientOptions,
                 EmptyClientResources.INSTANCE));
         commandHandler.channelRegistered(CHANNEL_HANDLER_CONTEXT);
         commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
@@ -76,12 +86,16 @@ public class CommandHandlerBenchmark {
         reply1 = createByteBuf(String.format("+%s", VALUE));
         reply10 = createByteBuf(createBulkReply(10));
         reply100 = createByteBuf(createBulkReply(100));
+        reply500 = createByteBuf(createBulkReply(500));
         reply1000 = createByteBuf(createBulkReply(1000));
 
         commands1 = createCommands(1);
         commands10 = createCommands(10);
         commands100 = createCommands(100);
         commands1000 = createCommands(1000);
+
+        shuffledCommands1000 = new ArrayList<>(commands1000);
+        Collections.shuffle(shuffledCommands1000, new Random(42));
     }
 
     @TearDown
@@ -89,7 +103,7 @@ public class CommandHandlerBenchmark {
 
         commandHandler.channelUnregistered(CHANNEL_HANDLER_CONTEXT);
 
-        Arrays.asList(reply1, reply10, reply100, reply1000).forEach(ByteBuf::release);
+        Arrays.asList(reply1, reply10, reply100, reply500, reply1000).forEach(ByteBuf::release);
     }
 
     private static List<Command> createCommands(int count) {
@@ -155,6 +169,56 @@ public class CommandHandlerBenchmark {
         doBenchmark(commands1000, reply1000);
     }
 
+    /**
+     * Remove commands in random order from a 1000 commands deep stack, as happens when writes fail.
+     */
+    @Benchmark
+    public void measureStackCancellation1000() throws Exception {
+
+        commandHandler.write(CHANNEL_HANDLER_CONTEXT, commands1000, PROMISE);
+
+        Queue<RedisCommand<?, ?, ?>> stack = commandHandler.getStack();
+        for (Command command : shuffledCommands1000) {
+            stack.remove(command);
+        }
+    }
+
+    /**
+     * Remove the most recently written commands first from a 1000 commands deep stack, the worst case for a linear search.
+     */
+    @Benchmark
+    public void measureStackCancellationNewestFirst1000() throws Exception {
+
+        commandHandler.write(CHANNEL_HANDLER_CONTEXT, commands1000, PROMISE);
+
+        Queue<RedisCommand<?, ?, ?>> stack = commandHandler.getStack();
+        for (int i = commands1000.size() - 1; i >= 0; i--) {
+            stack.remove(commands1000.get(i));
+        }
+    }
+
+    /**
+     * Remove the oldest half of a 1000 commands deep stack as if the commands expired and complete the remaining commands.
+     */
+    @Benchmark
+    public void measureStackTimeoutExpiry1000() throws Exception {
+
+        commandHandler.write(CHANNEL_HANDLER_CONTEXT, commands1000, PROMISE);
+
+        Queue<RedisCommand<?, ?, ?>> stack = commandHandler.getStack();
+        for (int i = 0; i < 500; i++) {
+            stack.remove(commands1000.get(i));
+        }
+
+        int index = reply500.readerIndex();
+        reply500.retain();
+
+        commandHandler.channelRead(CHANNEL_HANDLER_CONTEXT, reply500);
+
+        // cleanup
+        reply500.readerIndex(index);
+    }
+
     private void doBenchmark(List<Command> commandStack, ByteBuf response) throws Exception {
 
         commandHandler.write(CHANNEL_HANDLER_CONTEXT, commandStack, PROMISE);